@@ -0,0 +1,15 @@
+package lt.xnatty.sdk.appwrite.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a reflection-free Gson {@code TypeAdapter} for the annotated class and registers it with the package's
+ * {@code GeneratedTypeAdapterFactory}. Fields are read and written directly, so they must not be private, and the
+ * class needs an accessible no-argument constructor. {@code @SerializedName} values are honoured.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateTypeAdapter {}
@@ -0,0 +1,356 @@
+package lt.xnatty.sdk.appwrite.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Emits a {@code <Model>_TypeAdapter} for every class annotated with {@link GenerateTypeAdapter}, plus one public
+ * {@code GeneratedTypeAdapterFactory} per package that hands them to Gson. Primitive and {@code String} fields are
+ * read and written inline; other field types go through adapters looked up once per adapter instance, and a field
+ * declared as a class type parameter uses the adapter for the actual type argument.
+ */
+@SupportedAnnotationTypes("lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter")
+public final class TypeAdapterProcessor extends AbstractProcessor {
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String FACTORY = "GeneratedTypeAdapterFactory";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Map<String, List<Model>> packages = new TreeMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                Model model = model(element);
+                if (model != null) {
+                    packages.computeIfAbsent(model.packageName, name -> new ArrayList<>())
+                            .add(model);
+                }
+            }
+        }
+        packages.forEach((packageName, models) -> {
+            models.forEach(model -> write(model.packageName + "." + model.adapterName, adapter(model), model.type));
+            write(packageName + "." + FACTORY, factory(packageName, models), null);
+        });
+        return true;
+    }
+
+    private Model model(Element element) {
+        if (element.getKind() != ElementKind.CLASS
+                || element.getModifiers().contains(Modifier.ABSTRACT)
+                || (element.getEnclosingElement().getKind() != ElementKind.PACKAGE
+                        && !element.getModifiers().contains(Modifier.STATIC))) {
+            error(element, "@GenerateTypeAdapter needs a concrete top-level or static nested class");
+            return null;
+        }
+        TypeElement type = (TypeElement) element;
+        boolean constructible = ElementFilter.constructorsIn(type.getEnclosedElements()).isEmpty()
+                || ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                        .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                                && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!constructible) {
+            error(element, "@GenerateTypeAdapter needs a non-private no-argument constructor");
+            return null;
+        }
+        List<String> typeParameters = new ArrayList<>();
+        for (TypeParameterElement parameter : type.getTypeParameters()) {
+            typeParameters.add(parameter.getSimpleName().toString());
+        }
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+                error(field, "Fields of @GenerateTypeAdapter classes cannot be private or final");
+                return null;
+            }
+            TypeMirror fieldType = field.asType();
+            int typeArgument = -1;
+            if (fieldType.getKind() == TypeKind.TYPEVAR) {
+                typeArgument = typeParameters.indexOf(fieldType.toString());
+            } else if (containsTypeVariable(fieldType)) {
+                error(field, "Only fields declared as a bare type parameter may use type parameters");
+                return null;
+            }
+            properties.add(new Property(
+                    field.getSimpleName().toString(), jsonName(field), fieldType.toString(), kind(fieldType),
+                    typeArgument));
+        }
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String sourceName = type.getQualifiedName().toString().substring(packageName.length() + 1);
+        return new Model(
+                type, packageName, sourceName, sourceName.replace('.', '_') + "_TypeAdapter", typeParameters,
+                properties);
+    }
+
+    private static PackageElement packageOf(Element element) {
+        while (element.getKind() != ElementKind.PACKAGE) {
+            element = element.getEnclosingElement();
+        }
+        return (PackageElement) element;
+    }
+
+    private static boolean containsTypeVariable(TypeMirror type) {
+        if (type instanceof TypeVariable) {
+            return true;
+        }
+        if (type instanceof DeclaredType declared) {
+            return declared.getTypeArguments().stream().anyMatch(TypeAdapterProcessor::containsTypeVariable);
+        }
+        if (type instanceof ArrayType array) {
+            return containsTypeVariable(array.getComponentType());
+        }
+        return false;
+    }
+
+    private static String jsonName(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (annotation.getAnnotationType().toString().equals(SERIALIZED_NAME)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                        annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return (String) entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    private static Kind kind(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> Kind.BOOLEAN;
+            case INT -> Kind.INT;
+            case LONG -> Kind.LONG;
+            case DOUBLE -> Kind.DOUBLE;
+            default -> type.toString().equals("java.lang.String") ? Kind.STRING : Kind.ADAPTER;
+        };
+    }
+
+    private static String adapter(Model model) {
+        String generics = model.typeParameters.isEmpty() ? "" : "<" + String.join(", ", model.typeParameters) + ">";
+        String modelType = model.sourceName + generics;
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated by TypeAdapterProcessor from ").append(model.sourceName).append(". Do not edit.\n");
+        out.append("package ").append(model.packageName).append(";\n\n");
+        out.append("import com.google.gson.Gson;\n");
+        out.append("import com.google.gson.TypeAdapter;\n");
+        out.append("import com.google.gson.reflect.TypeToken;\n");
+        out.append("import com.google.gson.stream.JsonReader;\n");
+        out.append("import com.google.gson.stream.JsonToken;\n");
+        out.append("import com.google.gson.stream.JsonWriter;\n");
+        out.append("import java.io.IOException;\n");
+        out.append("import java.lang.reflect.Type;\n\n");
+        out.append("final class ").append(model.adapterName).append(generics);
+        out.append(" extends TypeAdapter<").append(modelType).append("> {\n");
+        for (Property property : model.properties) {
+            if (property.kind == Kind.ADAPTER) {
+                out.append("    private final TypeAdapter<").append(property.type).append("> ");
+                out.append(property.field).append("Adapter;\n");
+            }
+        }
+        out.append("\n    @SuppressWarnings(\"unchecked\")\n");
+        out.append("    ").append(model.adapterName).append("(Gson gson, Type[] typeArguments) {\n");
+        for (Property property : model.properties) {
+            if (property.kind != Kind.ADAPTER) {
+                continue;
+            }
+            out.append("        this.").append(property.field).append("Adapter = ");
+            if (property.typeArgument >= 0) {
+                out.append("(TypeAdapter<").append(property.type).append(">) gson.getAdapter(TypeToken.get(");
+                out.append("typeArguments[").append(property.typeArgument).append("]));\n");
+            } else {
+                out.append("gson.getAdapter(new TypeToken<").append(property.type).append(">() {});\n");
+            }
+        }
+        out.append("    }\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public void write(JsonWriter out, ").append(modelType).append(" value) throws IOException {\n");
+        out.append("        if (value == null) {\n");
+        out.append("            out.nullValue();\n");
+        out.append("            return;\n");
+        out.append("        }\n");
+        out.append("        out.beginObject();\n");
+        for (Property property : model.properties) {
+            out.append("        out.name(\"").append(escape(property.name)).append("\");\n");
+            if (property.kind == Kind.ADAPTER) {
+                out.append("        ").append(property.field).append("Adapter.write(out, value.");
+                out.append(property.field).append(");\n");
+            } else {
+                out.append("        out.value(value.").append(property.field).append(");\n");
+            }
+        }
+        out.append("        out.endObject();\n");
+        out.append("    }\n\n");
+
+        out.append("    @Override\n");
+        out.append("    public ").append(modelType).append(" read(JsonReader in) throws IOException {\n");
+        out.append("        if (in.peek() == JsonToken.NULL) {\n");
+        out.append("            in.nextNull();\n");
+        out.append("            return null;\n");
+        out.append("        }\n");
+        out.append("        ").append(modelType).append(" value = new ").append(model.sourceName);
+        out.append(model.typeParameters.isEmpty() ? "" : "<>").append("();\n");
+        out.append("        in.beginObject();\n");
+        out.append("        while (in.hasNext()) {\n");
+        out.append("            switch (in.nextName()) {\n");
+        for (Property property : model.properties) {
+            out.append("                case \"").append(escape(property.name)).append("\" -> ");
+            switch (property.kind) {
+                case STRING -> out.append("value.").append(property.field).append(" = readString(in);\n");
+                case ADAPTER -> out.append("value.").append(property.field).append(" = ")
+                        .append(property.field).append("Adapter.read(in);\n");
+                default -> {
+                    out.append("{\n");
+                    out.append("                    if (in.peek() == JsonToken.NULL) {\n");
+                    out.append("                        in.nextNull();\n");
+                    out.append("                    } else {\n");
+                    out.append("                        value.").append(property.field).append(" = ");
+                    out.append(primitiveRead(property.kind)).append(";\n");
+                    out.append("                    }\n");
+                    out.append("                }\n");
+                }
+            }
+        }
+        out.append("                default -> in.skipValue();\n");
+        out.append("            }\n");
+        out.append("        }\n");
+        out.append("        in.endObject();\n");
+        out.append("        return value;\n");
+        out.append("    }\n");
+
+        if (model.properties.stream().anyMatch(property -> property.kind == Kind.STRING)) {
+            out.append("\n    private static String readString(JsonReader in) throws IOException {\n");
+            out.append("        JsonToken token = in.peek();\n");
+            out.append("        if (token == JsonToken.NULL) {\n");
+            out.append("            in.nextNull();\n");
+            out.append("            return null;\n");
+            out.append("        }\n");
+            out.append("        return token == JsonToken.BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString();\n");
+            out.append("    }\n");
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String primitiveRead(Kind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "in.peek() == JsonToken.STRING ? Boolean.parseBoolean(in.nextString()) : in.nextBoolean()";
+            case INT -> "in.nextInt()";
+            case LONG -> "in.nextLong()";
+            case DOUBLE -> "in.nextDouble()";
+            default -> throw new IllegalArgumentException(kind.name());
+        };
+    }
+
+    private static String factory(String packageName, List<Model> models) {
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated by TypeAdapterProcessor. Do not edit.\n");
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append("import com.google.gson.Gson;\n");
+        out.append("import com.google.gson.TypeAdapter;\n");
+        out.append("import com.google.gson.TypeAdapterFactory;\n");
+        out.append("import com.google.gson.reflect.TypeToken;\n");
+        out.append("import java.lang.reflect.ParameterizedType;\n");
+        out.append("import java.lang.reflect.Type;\n");
+        out.append("import java.lang.reflect.WildcardType;\n\n");
+        out.append("/** Serves the generated adapters of the {@code @GenerateTypeAdapter} classes in this package. */\n");
+        out.append("public final class ").append(FACTORY).append(" implements TypeAdapterFactory {\n\n");
+        out.append("    @Override\n");
+        out.append("    @SuppressWarnings(\"unchecked\")\n");
+        out.append("    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n");
+        out.append("        Class<? super T> raw = type.getRawType();\n");
+        for (Model model : models) {
+            out.append("        if (raw == ").append(model.sourceName).append(".class) {\n");
+            out.append("            return (TypeAdapter<T>) new ").append(model.adapterName);
+            out.append(model.typeParameters.isEmpty() ? "" : "<>").append("(gson, typeArguments(type, ");
+            out.append(model.typeParameters.size()).append("));\n");
+            out.append("        }\n");
+        }
+        out.append("        return null;\n");
+        out.append("    }\n\n");
+        out.append("    private static Type[] typeArguments(TypeToken<?> type, int count) {\n");
+        out.append("        Type[] arguments = new Type[count];\n");
+        out.append("        Type[] actual = type.getType() instanceof ParameterizedType parameterized\n");
+        out.append("                ? parameterized.getActualTypeArguments()\n");
+        out.append("                : new Type[0];\n");
+        out.append("        for (int i = 0; i < count; i++) {\n");
+        out.append("            Type argument = i < actual.length ? actual[i] : Object.class;\n");
+        out.append("            arguments[i] = argument instanceof WildcardType wildcard ? wildcard.getUpperBounds()[0] : argument;\n");
+        out.append("        }\n");
+        out.append("        return arguments;\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void write(String qualifiedName, String source, Element origin) {
+        try (Writer writer = processingEnv
+                .getFiler()
+                .createSourceFile(qualifiedName, origin == null ? new Element[0] : new Element[] {origin})
+                .openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + qualifiedName + ": " + e);
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private enum Kind {
+        BOOLEAN,
+        INT,
+        LONG,
+        DOUBLE,
+        STRING,
+        ADAPTER
+    }
+
+    private record Property(String field, String name, String type, Kind kind, int typeArgument) {}
+
+    private record Model(
+            TypeElement type,
+            String packageName,
+            String sourceName,
+            String adapterName,
+            List<String> typeParameters,
+            List<Property> properties) {}
+}
@@ -1,74 +1,286 @@
 package lt.xnatty.sdk.appwrite;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lt.xnatty.sdk.appwrite.config.AppwriteConfig;
+import lt.xnatty.sdk.appwrite.http.AsyncCallAdapterFactory;
+import lt.xnatty.sdk.appwrite.http.CircuitBreakerInterceptor;
+import lt.xnatty.sdk.appwrite.http.CircuitBreakerRegistry;
+import lt.xnatty.sdk.appwrite.http.CredentialsScope;
+import lt.xnatty.sdk.appwrite.http.HedgingCallAdapterFactory;
+import lt.xnatty.sdk.appwrite.http.HedgingPolicy;
+import lt.xnatty.sdk.appwrite.http.RateLimitInterceptor;
+import lt.xnatty.sdk.appwrite.http.RateLimiter;
+import lt.xnatty.sdk.appwrite.http.ResponseCache;
+import lt.xnatty.sdk.appwrite.http.ResponseCacheInterceptor;
+import lt.xnatty.sdk.appwrite.http.RetryInterceptor;
+import lt.xnatty.sdk.appwrite.http.RetryPolicy;
+import lt.xnatty.sdk.appwrite.http.ScopedCall;
+import lt.xnatty.sdk.appwrite.http.SingleFlightCallAdapterFactory;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import retrofit2.Call;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
 public class Client {
 
+    private final Transport transport;
+    private final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
+    private final Client parent;
+    private final AppwriteConfig credentials;
     private String endpoint = "https://appwrite.io/v1";
     private String projectId;
     private String apiKey;
+    private RetryPolicy retryPolicy;
+    private RateLimiter rateLimiter;
+    private CircuitBreakerRegistry circuitBreakers;
+    private HedgingPolicy hedgingPolicy;
+    private boolean requestCoalescing;
+    private ResponseCache responseCache;
     private Retrofit retrofit;
 
+    public Client() {
+        this(Transport.getDefault());
+    }
+
+    public Client(Transport transport) {
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        this.transport = transport;
+        this.parent = null;
+        this.credentials = null;
+    }
+
+    private Client(Client parent, AppwriteConfig credentials) {
+        this.transport = parent.transport;
+        this.parent = parent;
+        this.credentials = credentials;
+    }
+
+    /**
+     * Returns a view of this client that authenticates as the given project. The view shares this client's
+     * connections and service proxies; its credentials travel with each request as a tag.
+     */
+    public Client forProject(String projectId, String apiKey) {
+        return new Client(parent != null ? parent : this, new AppwriteConfig(projectId, apiKey));
+    }
+
     public Client setEndpoint(String endpoint) {
+        requireMutable();
         if (endpoint == null || endpoint.trim().isEmpty()) {
             throw new IllegalArgumentException("Endpoint cannot be null or empty");
         }
         this.endpoint = endpoint;
-        this.initRetrofit();
+        this.reset();
         return this;
     }
 
     public Client setProject(String projectId) {
+        requireMutable();
         if (projectId == null || projectId.trim().isEmpty()) {
             throw new IllegalArgumentException("Project ID cannot be null or empty");
         }
         this.projectId = projectId;
-        this.initRetrofit();
+        this.reset();
         return this;
     }
 
     public Client setKey(String apiKey) {
+        requireMutable();
         if (apiKey == null || apiKey.trim().isEmpty()) {
             throw new IllegalArgumentException("API key cannot be null or empty");
         }
         this.apiKey = apiKey;
-        this.initRetrofit();
+        this.reset();
         return this;
     }
 
-    private void initRetrofit() {
-        if (projectId == null || apiKey == null) {
-            return;
+    public Client setRetryPolicy(RetryPolicy retryPolicy) {
+        requireMutable();
+        this.retryPolicy = retryPolicy;
+        this.reset();
+        return this;
+    }
+
+    public Client setRateLimiter(RateLimiter rateLimiter) {
+        requireMutable();
+        this.rateLimiter = rateLimiter;
+        this.reset();
+        return this;
+    }
+
+    public Client setCircuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+        requireMutable();
+        this.circuitBreakers = circuitBreakers;
+        this.reset();
+        return this;
+    }
+
+    public Client setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        requireMutable();
+        this.hedgingPolicy = hedgingPolicy;
+        this.reset();
+        return this;
+    }
+
+    public Client setResponseCache(ResponseCache responseCache) {
+        requireMutable();
+        this.responseCache = responseCache;
+        this.reset();
+        return this;
+    }
+
+    /** Shares one network call between identical GET calls that are in flight at the same time. */
+    public Client setRequestCoalescing(boolean requestCoalescing) {
+        requireMutable();
+        this.requestCoalescing = requestCoalescing;
+        this.reset();
+        return this;
+    }
+
+    public String getEndpoint() {
+        return parent != null ? parent.endpoint : endpoint;
+    }
+
+    public String getProjectId() {
+        return credentials != null ? credentials.getProjectId() : projectId;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    private void requireMutable() {
+        if (parent != null) {
+            throw new IllegalStateException("Project-scoped client cannot be reconfigured");
         }
-        Gson gson = new GsonBuilder().setLenient().create();
-        OkHttpClient client = new OkHttpClient.Builder()
-                .addInterceptor(chain -> {
-                    Request original = chain.request();
-                    Request.Builder builder = original.newBuilder()
-                            .header("X-Appwrite-Project", projectId)
-                            .header("X-Appwrite-Key", apiKey)
-                            .header("Content-Type", "application/json")
-                            .method(original.method(), original.body());
-                    return chain.proceed(builder.build());
-                })
-                .build();
-        this.retrofit = new Retrofit.Builder()
-                .baseUrl(endpoint)
-                .client(client)
-                .addConverterFactory(GsonConverterFactory.create(gson))
-                .build();
     }
 
-    public <T> T createService(Class<T> serviceClass) {
+    private synchronized void reset() {
+        this.retrofit = null;
+        this.services.clear();
+    }
+
+    private synchronized Retrofit retrofit() {
         if (retrofit == null) {
+            String projectId = this.projectId;
+            String apiKey = this.apiKey;
+            OkHttpClient.Builder httpClient = transport.getHttpClient().newBuilder();
+            if (retryPolicy != null) {
+                httpClient.addInterceptor(new RetryInterceptor(retryPolicy));
+            }
+            if (circuitBreakers != null) {
+                httpClient.addInterceptor(new CircuitBreakerInterceptor(circuitBreakers));
+            }
+            httpClient.addInterceptor(chain -> {
+                Request original = chain.request();
+                AppwriteConfig scoped = original.tag(AppwriteConfig.class);
+                String project = scoped != null ? scoped.getProjectId() : projectId;
+                String key = scoped != null ? scoped.getApiKey() : apiKey;
+                Request.Builder builder = original.newBuilder()
+                        .header("Content-Type", "application/json")
+                        .method(original.method(), original.body());
+                if (project != null) {
+                    builder.header("X-Appwrite-Project", project);
+                }
+                if (key != null) {
+                    builder.header("X-Appwrite-Key", key);
+                }
+                return chain.proceed(builder.build());
+            });
+            if (responseCache != null) {
+                httpClient.addInterceptor(new ResponseCacheInterceptor(responseCache));
+            }
+            if (rateLimiter != null) {
+                httpClient.addInterceptor(new RateLimitInterceptor(rateLimiter));
+            }
+            OkHttpClient client = httpClient.build();
+            Retrofit.Builder builder = new Retrofit.Builder()
+                    .baseUrl(endpoint)
+                    .callFactory(request -> client.newCall(tagCredentials(request)))
+                    .addCallAdapterFactory(new AsyncCallAdapterFactory());
+            if (requestCoalescing) {
+                builder.addCallAdapterFactory(new SingleFlightCallAdapterFactory());
+            }
+            if (hedgingPolicy != null) {
+                builder.addCallAdapterFactory(new HedgingCallAdapterFactory(hedgingPolicy));
+            }
+            this.retrofit = builder.addConverterFactory(GsonConverterFactory.create(transport.getGson()))
+                    .build();
+        }
+        return retrofit;
+    }
+
+    private static Request tagCredentials(Request request) {
+        AppwriteConfig scoped = CredentialsScope.current();
+        if (scoped == null || request.tag(AppwriteConfig.class) != null) {
+            return request;
+        }
+        return request.newBuilder().tag(AppwriteConfig.class, scoped).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T createService(Class<T> serviceClass) {
+        if (parent != null) {
+            return (T) services.computeIfAbsent(
+                    serviceClass, type -> scopedProxy(type, parent.sharedService(type), credentials));
+        }
+        if (projectId == null || apiKey == null) {
             throw new IllegalStateException(
                     "Client not properly initialized. Please set endpoint, project ID and API key.");
         }
-        return retrofit.create(serviceClass);
+        return sharedService(serviceClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T sharedService(Class<T> serviceClass) {
+        return (T) services.computeIfAbsent(serviceClass, type -> retrofit().create(type));
+    }
+
+    private static Object scopedProxy(Class<?> serviceClass, Object delegate, AppwriteConfig credentials) {
+        InvocationHandler handler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getDeclaringClass() == Object.class) {
+                    return method.invoke(this, args);
+                }
+                if (method.isDefault()) {
+                    return InvocationHandler.invokeDefault(proxy, method, args);
+                }
+                Object result = CredentialsScope.supply(credentials, () -> invokeDelegate(method, args));
+                if (result instanceof Call<?> call) {
+                    return new ScopedCall<>(call, credentials);
+                }
+                return result;
+            }
+
+            private Object invokeDelegate(Method method, Object[] args) throws IOException {
+                try {
+                    return method.invoke(delegate, args);
+                } catch (InvocationTargetException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    if (cause instanceof Error error) {
+                        throw error;
+                    }
+                    if (cause instanceof IOException io) {
+                        throw io;
+                    }
+                    throw new IllegalStateException(cause);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        return Proxy.newProxyInstance(serviceClass.getClassLoader(), new Class<?>[] {serviceClass}, handler);
     }
 }
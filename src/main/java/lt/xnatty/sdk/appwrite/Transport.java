@@ -0,0 +1,202 @@
+package lt.xnatty.sdk.appwrite;
+
+import com.google.gson.Gson;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
+import lt.xnatty.sdk.appwrite.models.StringPool;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * HTTP transport shared by {@link Client} instances: one connection pool, one dispatcher and one {@link Gson}.
+ * Clients built on the same transport reuse pooled connections instead of opening their own.
+ */
+public class Transport {
+
+    private static volatile Transport defaultTransport;
+
+    private final OkHttpClient httpClient;
+    private final Gson gson;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    private Transport(Builder builder) {
+        this.virtualThreads = builder.virtualThreads;
+        Dispatcher dispatcher;
+        if (virtualThreads) {
+            dispatcher =
+                    new Dispatcher(Executors.newThreadPerTaskExecutor(threadFactory(true, "appwrite-dispatcher-")));
+            this.executor = Executors.newThreadPerTaskExecutor(threadFactory(true, "appwrite-worker-"));
+        } else {
+            dispatcher = new Dispatcher();
+            this.executor = Executors.newCachedThreadPool(threadFactory(false, "appwrite-worker-"));
+        }
+        dispatcher.setMaxRequests(builder.maxRequests);
+        dispatcher.setMaxRequestsPerHost(builder.maxRequestsPerHost);
+        this.httpClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(
+                        builder.maxIdleConnections, builder.keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(builder.connectTimeout)
+                .readTimeout(builder.readTimeout)
+                .writeTimeout(builder.writeTimeout)
+                .callTimeout(builder.callTimeout)
+                .build();
+        this.gson = builder.stringPool != null ? ModelGson.compact(builder.stringPool) : ModelGson.get();
+    }
+
+    public static Transport getDefault() {
+        Transport transport = defaultTransport;
+        if (transport == null) {
+            synchronized (Transport.class) {
+                transport = defaultTransport;
+                if (transport == null) {
+                    transport = builder().build();
+                    defaultTransport = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public Gson getGson() {
+        return gson;
+    }
+
+    /** Executor for SDK-internal blocking work such as page prefetching; virtual threads in virtual-thread mode. */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void shutdown() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+        executor.shutdown();
+    }
+
+    private static ThreadFactory threadFactory(boolean virtual, String prefix) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix, 0).factory();
+        }
+        return Thread.ofPlatform().name(prefix, 0).daemon(true).factory();
+    }
+
+    public static class Builder {
+        private int maxIdleConnections = 5;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private int maxRequests = 64;
+        private int maxRequestsPerHost = 5;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Duration writeTimeout = Duration.ofSeconds(10);
+        private Duration callTimeout = Duration.ZERO;
+        private boolean virtualThreads;
+        private StringPool stringPool;
+
+        private Builder() {}
+
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("Max idle connections cannot be negative");
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = requirePositive(keepAlive, "Keep-alive");
+            return this;
+        }
+
+        public Builder maxRequests(int maxRequests) {
+            if (maxRequests < 1) {
+                throw new IllegalArgumentException("Max requests must be at least 1");
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("Max requests per host must be at least 1");
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = requireNonNegative(connectTimeout, "Connect timeout");
+            return this;
+        }
+
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = requireNonNegative(readTimeout, "Read timeout");
+            return this;
+        }
+
+        public Builder writeTimeout(Duration writeTimeout) {
+            this.writeTimeout = requireNonNegative(writeTimeout, "Write timeout");
+            return this;
+        }
+
+        /** Timeout for the whole call, including redirects and retries. Zero means no limit. */
+        public Builder callTimeout(Duration callTimeout) {
+            this.callTimeout = requireNonNegative(callTimeout, "Call timeout");
+            return this;
+        }
+
+        /**
+         * Runs OkHttp's async dispatch and SDK-internal blocking work on virtual threads. Raise
+         * {@link #maxRequests(int)} and {@link #maxRequestsPerHost(int)} as well, otherwise the dispatcher
+         * limits still cap the number of in-flight async calls.
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Decodes documents, files and memberships in compact form: repeated strings are shared through the pool and
+         * timestamps kept as epoch milliseconds. Worth it when many models are held in memory, e.g. in caches.
+         */
+        public Builder compactModels(StringPool stringPool) {
+            this.stringPool = stringPool;
+            return this;
+        }
+
+        public Transport build() {
+            return new Transport(this);
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return duration;
+        }
+
+        private static Duration requireNonNegative(Duration duration, String name) {
+            if (duration == null || duration.isNegative()) {
+                throw new IllegalArgumentException(name + " cannot be null or negative");
+            }
+            return duration;
+        }
+    }
+}
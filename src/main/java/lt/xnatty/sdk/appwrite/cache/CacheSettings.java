@@ -0,0 +1,51 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import lt.xnatty.sdk.appwrite.Transport;
+
+/** Options shared by the caching service builders. */
+final class CacheSettings {
+    long maxEntries = 10_000;
+    long maxBytes;
+    Duration defaultTtl = Duration.ofMinutes(1);
+    Duration staleWindow = Duration.ZERO;
+    Duration negativeTtl = Duration.ZERO;
+    Executor refreshExecutor;
+
+    void maxEntries(long maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    void maxBytes(long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Max bytes must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    void refreshExecutor(Executor refreshExecutor) {
+        if (refreshExecutor == null) {
+            throw new IllegalArgumentException("Refresh executor cannot be null");
+        }
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /** Falls back to the default transport's executor when the builder was given none. */
+    CacheSettings resolve() {
+        if (refreshExecutor == null) {
+            refreshExecutor = Transport.getDefault().getExecutor();
+        }
+        return this;
+    }
+
+    static Duration requireNonNegative(Duration duration, String name) {
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException(name + " cannot be null or negative");
+        }
+        return duration;
+    }
+}
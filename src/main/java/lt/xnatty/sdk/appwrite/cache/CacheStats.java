@@ -0,0 +1,71 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counters of a read-through cache. Stale hits and negative hits are not included in {@link #hitCount()}. */
+public final class CacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder offHeapHits = new LongAdder();
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /** Reads answered with an expired entry while a background refresh ran. */
+    public long staleHitCount() {
+        return staleHits.sum();
+    }
+
+    /** Reads answered with a cached 404. */
+    public long negativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    public long refreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    /** Reads that missed on the heap and were decoded from the off-heap tier; counted as hits as well. */
+    public long offHeapHitCount() {
+        return offHeapHits.sum();
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordStaleHit() {
+        staleHits.increment();
+    }
+
+    void recordNegativeHit() {
+        negativeHits.increment();
+    }
+
+    void recordRefreshFailure() {
+        refreshFailures.increment();
+    }
+
+    void recordOffHeapHit() {
+        offHeapHits.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount() + ", misses=" + missCount() + ", staleHits=" + staleHitCount()
+                + ", negativeHits=" + negativeHitCount() + ", refreshFailures=" + refreshFailureCount()
+                + ", offHeapHits=" + offHeapHitCount() + "}";
+    }
+}
@@ -0,0 +1,43 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+/** A cached read result: either a value or a 404 with its error body, plus the end of its freshness. */
+final class CachedRead<T> {
+    final T value;
+    final byte[] errorBody;
+    final MediaType errorType;
+    final long freshUntilNanos;
+
+    private CachedRead(T value, byte[] errorBody, MediaType errorType, long freshUntilNanos) {
+        this.value = value;
+        this.errorBody = errorBody;
+        this.errorType = errorType;
+        this.freshUntilNanos = freshUntilNanos;
+    }
+
+    static <T> CachedRead<T> of(T value, long freshUntilNanos) {
+        return new CachedRead<>(value, null, null, freshUntilNanos);
+    }
+
+    static <T> CachedRead<T> notFound(byte[] errorBody, MediaType errorType, long freshUntilNanos) {
+        return new CachedRead<>(null, errorBody, errorType, freshUntilNanos);
+    }
+
+    boolean isNegative() {
+        return value == null;
+    }
+
+    boolean isFresh(long now) {
+        return now - freshUntilNanos < 0;
+    }
+
+    Response<T> toResponse() {
+        if (value != null) {
+            return Response.success(value);
+        }
+        return Response.error(404, ResponseBody.create(errorBody, errorType));
+    }
+}
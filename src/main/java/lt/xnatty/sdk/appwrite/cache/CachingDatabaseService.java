@@ -0,0 +1,377 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.json.LazyDocument;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
+import lt.xnatty.sdk.appwrite.models.Collection;
+import lt.xnatty.sdk.appwrite.models.Database;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * {@link DatabaseService} decorator that keeps documents read through {@code getDocument} in a {@link LocalCache}.
+ * Writes made through this service keep the cache consistent: created and updated documents are stored, deleted
+ * ones dropped, and deleting a collection or database drops everything under it. Writes made elsewhere are only
+ * picked up when the entry expires, so choose TTLs per collection accordingly. Optionally, expired documents keep
+ * being served for a stale window while they are refreshed in the background, and 404s are cached briefly. An
+ * off-heap tier can hold a much larger set of documents as JSON outside the Java heap; they are decoded again when
+ * read, see {@link Builder#offHeap(long, int)}.
+ */
+public class CachingDatabaseService implements DatabaseService {
+    private final DatabaseService delegate;
+    private final ReadThroughCache<Document<Map<String, Object>>> cache;
+    private final Duration defaultTtl;
+    private final Map<String, Duration> collectionTtls;
+
+    private CachingDatabaseService(Builder builder) {
+        this.delegate = builder.delegate;
+        CacheSettings settings = builder.settings.resolve();
+        this.cache = builder.offHeapBytes > 0
+                ? new ReadThroughCache<>(
+                        settings,
+                        DocumentWeigher::estimate,
+                        new OffHeapStore(builder.offHeapBytes, builder.slabBytes),
+                        new DocumentCodec(builder.gson))
+                : new ReadThroughCache<>(settings, DocumentWeigher::estimate);
+        this.defaultTtl = settings.defaultTtl;
+        this.collectionTtls = Map.copyOf(builder.collectionTtls);
+    }
+
+    public static Builder builder(DatabaseService delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * Caches the client's {@link DatabaseService}; background refreshes and off-heap decoding default to the client's
+     * transport executor and Gson.
+     */
+    public static Builder builder(Client client) {
+        if (client == null) {
+            throw new IllegalArgumentException("Client cannot be null");
+        }
+        return new Builder(new DatabaseServiceImpl(client))
+                .refreshExecutor(client.getTransport().getExecutor())
+                .gson(client.getTransport().getGson());
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /** Number of cached entries, including cached 404s. */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Number of documents held off-heap; 0 without an off-heap tier. */
+    public int offHeapSize() {
+        return cache.offHeap() != null ? cache.offHeap().size() : 0;
+    }
+
+    @Override
+    public Call<Database> createDatabase(String name, String databaseId) {
+        return delegate.createDatabase(name, databaseId);
+    }
+
+    @Override
+    public Call<List<Database>> listDatabases() {
+        return delegate.listDatabases();
+    }
+
+    @Override
+    public Call<List<Database>> listDatabases(List<String> queries) {
+        return delegate.listDatabases(queries);
+    }
+
+    @Override
+    public Call<Database> getDatabase(String databaseId) {
+        return delegate.getDatabase(databaseId);
+    }
+
+    @Override
+    public Call<Void> deleteDatabase(String databaseId) {
+        return new ForwardingCall<>(delegate.deleteDatabase(databaseId), response -> {
+            if (response.isSuccessful()) {
+                cache.invalidatePrefix(databaseId + "/");
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public Call<Collection> createCollection(
+            String databaseId, String name, String collectionId, List<String> permissions) {
+        return delegate.createCollection(databaseId, name, collectionId, permissions);
+    }
+
+    @Override
+    public Call<List<Collection>> listCollections(String databaseId) {
+        return delegate.listCollections(databaseId);
+    }
+
+    @Override
+    public Call<List<Collection>> listCollections(String databaseId, List<String> queries) {
+        return delegate.listCollections(databaseId, queries);
+    }
+
+    @Override
+    public Call<Collection> getCollection(String databaseId, String collectionId) {
+        return delegate.getCollection(databaseId, collectionId);
+    }
+
+    @Override
+    public Call<Void> deleteCollection(String databaseId, String collectionId) {
+        return new ForwardingCall<>(delegate.deleteCollection(databaseId, collectionId), response -> {
+            if (response.isSuccessful()) {
+                cache.invalidatePrefix(databaseId + "/" + collectionId + "/");
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public Call<Document<Map<String, Object>>> createDocument(
+            String databaseId,
+            String collectionId,
+            String documentId,
+            Map<String, Object> data,
+            List<String> permissions) {
+        return new ForwardingCall<>(
+                delegate.createDocument(databaseId, collectionId, documentId, data, permissions),
+                response -> store(databaseId, collectionId, response));
+    }
+
+    @Override
+    public Call<List<Document<Map<String, Object>>>> listDocuments(String databaseId, String collectionId) {
+        return delegate.listDocuments(databaseId, collectionId);
+    }
+
+    @Override
+    public Call<List<Document<Map<String, Object>>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries) {
+        return delegate.listDocuments(databaseId, collectionId, queries);
+    }
+
+    @Override
+    public Call<ResponseBody> listDocumentsBody(String databaseId, String collectionId, List<String> queries) {
+        return delegate.listDocumentsBody(databaseId, collectionId, queries);
+    }
+
+    @Override
+    public Call<Document<Map<String, Object>>> getDocument(String databaseId, String collectionId, String documentId) {
+        return cache.get(
+                key(databaseId, collectionId, documentId),
+                ttl(databaseId, collectionId),
+                () -> delegate.getDocument(databaseId, collectionId, documentId));
+    }
+
+    /** Not cached: a projected document is incomplete and must not be served to plain reads. */
+    @Override
+    public Call<Document<Map<String, Object>>> getDocument(
+            String databaseId, String collectionId, String documentId, List<String> queries) {
+        return delegate.getDocument(databaseId, collectionId, documentId, queries);
+    }
+
+    /** Not cached; typed reads built on it go straight to the server. */
+    @Override
+    public Call<ResponseBody> getDocumentBody(
+            String databaseId, String collectionId, String documentId, List<String> queries) {
+        return delegate.getDocumentBody(databaseId, collectionId, documentId, queries);
+    }
+
+    /** Not cached; delegated so the wrapped service decodes with its own Gson. */
+    @Override
+    public <T> Call<Document<T>> getDocument(
+            String databaseId, String collectionId, String documentId, TypeToken<T> type) {
+        return delegate.getDocument(databaseId, collectionId, documentId, type);
+    }
+
+    /** Not cached; delegated so the wrapped service decodes with its own Gson. */
+    @Override
+    public Call<LazyDocument> getLazyDocument(String databaseId, String collectionId, String documentId) {
+        return delegate.getLazyDocument(databaseId, collectionId, documentId);
+    }
+
+    @Override
+    public <T> Call<List<Document<T>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries, TypeToken<T> type) {
+        return delegate.listDocuments(databaseId, collectionId, queries, type);
+    }
+
+    @Override
+    public Call<Document<Map<String, Object>>> updateDocument(
+            String databaseId,
+            String collectionId,
+            String documentId,
+            Map<String, Object> data,
+            List<String> permissions) {
+        String key = key(databaseId, collectionId, documentId);
+        return new ForwardingCall<>(
+                delegate.updateDocument(databaseId, collectionId, documentId, data, permissions), response -> {
+                    cache.invalidate(key);
+                    return store(databaseId, collectionId, response);
+                });
+    }
+
+    @Override
+    public Call<Void> deleteDocument(String databaseId, String collectionId, String documentId) {
+        String key = key(databaseId, collectionId, documentId);
+        return new ForwardingCall<>(delegate.deleteDocument(databaseId, collectionId, documentId), response -> {
+            cache.invalidate(key);
+            return response;
+        });
+    }
+
+    private Response<Document<Map<String, Object>>> store(
+            String databaseId, String collectionId, Response<Document<Map<String, Object>>> response) {
+        Document<Map<String, Object>> document = response.body();
+        if (response.isSuccessful() && document != null && document.getId() != null) {
+            cache.put(key(databaseId, collectionId, document.getId()), document, ttl(databaseId, collectionId));
+        }
+        return response;
+    }
+
+    private Duration ttl(String databaseId, String collectionId) {
+        return collectionTtls.getOrDefault(databaseId + "/" + collectionId, defaultTtl);
+    }
+
+    private static String key(String databaseId, String collectionId, String documentId) {
+        return databaseId + "/" + collectionId + "/" + documentId;
+    }
+
+    public static class Builder {
+        private final DatabaseService delegate;
+        private final CacheSettings settings = new CacheSettings();
+        private final Map<String, Duration> collectionTtls = new HashMap<>();
+        private long offHeapBytes;
+        private int slabBytes;
+        private Gson gson = ModelGson.get();
+
+        private Builder(DatabaseService delegate) {
+            if (delegate == null) {
+                throw new IllegalArgumentException("Database service cannot be null");
+            }
+            this.delegate = delegate;
+        }
+
+        public Builder maxEntries(long maxEntries) {
+            settings.maxEntries(maxEntries);
+            return this;
+        }
+
+        /** Bounds the cache by the estimated in-memory size of the cached documents. */
+        public Builder maxBytes(long maxBytes) {
+            settings.maxBytes(maxBytes);
+            return this;
+        }
+
+        public Builder defaultTtl(Duration defaultTtl) {
+            settings.defaultTtl = CacheSettings.requireNonNegative(defaultTtl, "TTL");
+            return this;
+        }
+
+        /** TTL for one collection; zero disables caching for it. */
+        public Builder collectionTtl(String databaseId, String collectionId, Duration ttl) {
+            if (databaseId == null || databaseId.isEmpty() || collectionId == null || collectionId.isEmpty()) {
+                throw new IllegalArgumentException("Database ID and collection ID cannot be null or empty");
+            }
+            this.collectionTtls.put(databaseId + "/" + collectionId, CacheSettings.requireNonNegative(ttl, "TTL"));
+            return this;
+        }
+
+        /** Keeps serving an expired document for this long while it is refreshed in the background. */
+        public Builder staleWhileRevalidate(Duration staleWindow) {
+            settings.staleWindow = CacheSettings.requireNonNegative(staleWindow, "Stale window");
+            return this;
+        }
+
+        /** Caches 404 responses for this long; zero disables negative caching. */
+        public Builder negativeTtl(Duration negativeTtl) {
+            settings.negativeTtl = CacheSettings.requireNonNegative(negativeTtl, "Negative TTL");
+            return this;
+        }
+
+        /**
+         * Executor for background refreshes. A decorator cannot see the transport behind its delegate, so this
+         * defaults to the default transport's executor, or to the client's one with {@link #builder(Client)}.
+         */
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            settings.refreshExecutor(refreshExecutor);
+            return this;
+        }
+
+        /** Adds an off-heap tier of up to {@code maxBytes}, reserved in 1 MiB slabs as it fills. */
+        public Builder offHeap(long maxBytes) {
+            return offHeap(maxBytes, 1 << 20);
+        }
+
+        /**
+         * Adds an off-heap tier of up to {@code maxBytes}, reserved in slabs of {@code slabBytes} as it fills. Every
+         * document the heap cache stores is also written there, and heap misses are served from it before going to
+         * the server, with the TTL the document was stored with. Documents larger than a slab are kept on the heap
+         * only. The memory is direct memory, limited by {@code -XX:MaxDirectMemorySize}.
+         */
+        public Builder offHeap(long maxBytes, int slabBytes) {
+            if (slabBytes < OffHeapStore.MIN_CHUNK || Integer.bitCount(slabBytes) != 1) {
+                throw new IllegalArgumentException(
+                        "Slab size must be a power of two of at least " + OffHeapStore.MIN_CHUNK);
+            }
+            if (maxBytes < slabBytes) {
+                throw new IllegalArgumentException("Off-heap capacity must hold at least one slab");
+            }
+            this.offHeapBytes = maxBytes;
+            this.slabBytes = slabBytes;
+            return this;
+        }
+
+        /**
+         * Gson decoding documents read back from the off-heap tier, so they come out as the delegate's would. Defaults
+         * to {@link ModelGson#get()}, or to the client's transport Gson with {@link #builder(Client)}.
+         */
+        public Builder gson(Gson gson) {
+            if (gson == null) {
+                throw new IllegalArgumentException("Gson cannot be null");
+            }
+            this.gson = gson;
+            return this;
+        }
+
+        public CachingDatabaseService build() {
+            return new CachingDatabaseService(this);
+        }
+    }
+
+    /** UTF-8 JSON, as the server sends it. */
+    private static final class DocumentCodec implements ReadThroughCache.Codec<Document<Map<String, Object>>> {
+        private static final TypeToken<Document<Map<String, Object>>> TYPE =
+                ModelGson.documentType(new TypeToken<>() {});
+
+        private final Gson gson;
+
+        DocumentCodec(Gson gson) {
+            this.gson = gson;
+        }
+
+        @Override
+        public byte[] encode(Document<Map<String, Object>> document) throws IOException {
+            return ModelGson.toBytes(document, TYPE);
+        }
+
+        @Override
+        public Document<Map<String, Object>> decode(byte[] bytes) throws IOException {
+            return ModelGson.fromBytes(bytes, gson, TYPE);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.models.Bucket;
+import lt.xnatty.sdk.appwrite.models.File;
+import lt.xnatty.sdk.appwrite.services.StorageService;
+import lt.xnatty.sdk.appwrite.services.impl.StorageServiceImpl;
+import okhttp3.MultipartBody;
+import retrofit2.Call;
+
+/**
+ * {@link StorageService} decorator that caches file metadata read through {@code getFile}, with the same
+ * stale-while-revalidate and negative caching options as {@link CachingDatabaseService}. Files created or deleted
+ * through this service, and deleted buckets, update the cache immediately.
+ */
+public class CachingStorageService implements StorageService {
+    private final StorageService delegate;
+    private final ReadThroughCache<File> cache;
+    private final Duration defaultTtl;
+    private final Map<String, Duration> bucketTtls;
+
+    private CachingStorageService(Builder builder) {
+        this.delegate = builder.delegate;
+        CacheSettings settings = builder.settings.resolve();
+        this.cache = new ReadThroughCache<>(settings, CachingStorageService::estimate);
+        this.defaultTtl = settings.defaultTtl;
+        this.bucketTtls = Map.copyOf(builder.bucketTtls);
+    }
+
+    public static Builder builder(StorageService delegate) {
+        return new Builder(delegate);
+    }
+
+    /** Caches the client's {@link StorageService}; background refreshes default to the client's transport executor. */
+    public static Builder builder(Client client) {
+        if (client == null) {
+            throw new IllegalArgumentException("Client cannot be null");
+        }
+        return new Builder(new StorageServiceImpl(client))
+                .refreshExecutor(client.getTransport().getExecutor());
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /** Number of cached entries, including cached 404s. */
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public Call<Bucket> createBucket(
+            String bucketId,
+            String name,
+            List<String> permissions,
+            Long maximumFileSize,
+            List<String> allowedFileExtensions,
+            Boolean encryption,
+            Boolean antivirus) {
+        return delegate.createBucket(
+                bucketId, name, permissions, maximumFileSize, allowedFileExtensions, encryption, antivirus);
+    }
+
+    @Override
+    public Call<List<Bucket>> listBuckets() {
+        return delegate.listBuckets();
+    }
+
+    @Override
+    public Call<List<Bucket>> listBuckets(List<String> queries) {
+        return delegate.listBuckets(queries);
+    }
+
+    @Override
+    public Call<Bucket> getBucket(String bucketId) {
+        return delegate.getBucket(bucketId);
+    }
+
+    @Override
+    public Call<Void> deleteBucket(String bucketId) {
+        return new ForwardingCall<>(delegate.deleteBucket(bucketId), response -> {
+            if (response.isSuccessful()) {
+                cache.invalidatePrefix(bucketId + "/");
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public Call<File> createFile(String bucketId, MultipartBody.Part file, String fileId, List<String> permissions) {
+        return new ForwardingCall<>(delegate.createFile(bucketId, file, fileId, permissions), response -> {
+            File created = response.body();
+            if (response.isSuccessful() && created != null && created.getId() != null) {
+                cache.put(key(bucketId, created.getId()), created, ttl(bucketId));
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public Call<List<File>> listFiles(String bucketId) {
+        return delegate.listFiles(bucketId);
+    }
+
+    @Override
+    public Call<List<File>> listFiles(String bucketId, List<String> queries) {
+        return delegate.listFiles(bucketId, queries);
+    }
+
+    @Override
+    public Call<File> getFile(String bucketId, String fileId) {
+        return cache.get(key(bucketId, fileId), ttl(bucketId), () -> delegate.getFile(bucketId, fileId));
+    }
+
+    @Override
+    public Call<Void> deleteFile(String bucketId, String fileId) {
+        String key = key(bucketId, fileId);
+        return new ForwardingCall<>(delegate.deleteFile(bucketId, fileId), response -> {
+            cache.invalidate(key);
+            return response;
+        });
+    }
+
+    private Duration ttl(String bucketId) {
+        return bucketTtls.getOrDefault(bucketId, defaultTtl);
+    }
+
+    private static String key(String bucketId, String fileId) {
+        return bucketId + "/" + fileId;
+    }
+
+    private static long estimate(File file) {
+        return 64
+                + DocumentWeigher.estimate(file.getId())
+                + DocumentWeigher.estimate(file.getBucketId())
+                + DocumentWeigher.estimate(file.getName())
+                + DocumentWeigher.estimate(file.getSignature())
+                + DocumentWeigher.estimate(file.getMimeType())
+                + DocumentWeigher.estimate(file.getCreatedAt())
+                + DocumentWeigher.estimate(file.getUpdatedAt())
+                + DocumentWeigher.estimate(file.getPermissions());
+    }
+
+    public static class Builder {
+        private final StorageService delegate;
+        private final CacheSettings settings = new CacheSettings();
+        private final Map<String, Duration> bucketTtls = new HashMap<>();
+
+        private Builder(StorageService delegate) {
+            if (delegate == null) {
+                throw new IllegalArgumentException("Storage service cannot be null");
+            }
+            this.delegate = delegate;
+        }
+
+        public Builder maxEntries(long maxEntries) {
+            settings.maxEntries(maxEntries);
+            return this;
+        }
+
+        public Builder maxBytes(long maxBytes) {
+            settings.maxBytes(maxBytes);
+            return this;
+        }
+
+        public Builder defaultTtl(Duration defaultTtl) {
+            settings.defaultTtl = CacheSettings.requireNonNegative(defaultTtl, "TTL");
+            return this;
+        }
+
+        /** TTL for one bucket; zero disables caching for it. */
+        public Builder bucketTtl(String bucketId, Duration ttl) {
+            if (bucketId == null || bucketId.isEmpty()) {
+                throw new IllegalArgumentException("Bucket ID cannot be null or empty");
+            }
+            this.bucketTtls.put(bucketId, CacheSettings.requireNonNegative(ttl, "TTL"));
+            return this;
+        }
+
+        /** Keeps serving expired file metadata for this long while it is refreshed in the background. */
+        public Builder staleWhileRevalidate(Duration staleWindow) {
+            settings.staleWindow = CacheSettings.requireNonNegative(staleWindow, "Stale window");
+            return this;
+        }
+
+        /** Caches 404 responses for this long; zero disables negative caching. */
+        public Builder negativeTtl(Duration negativeTtl) {
+            settings.negativeTtl = CacheSettings.requireNonNegative(negativeTtl, "Negative TTL");
+            return this;
+        }
+
+        /**
+         * Executor for background refreshes. A decorator cannot see the transport behind its delegate, so this
+         * defaults to the default transport's executor, or to the client's one with {@link #builder(Client)}.
+         */
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            settings.refreshExecutor(refreshExecutor);
+            return this;
+        }
+
+        public CachingStorageService build() {
+            return new CachingStorageService(this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/** A call that is already answered, used to serve cache hits through the regular {@link Call} API. */
+final class CompletedCall<T> implements Call<T> {
+    private final Response<T> response;
+    private final Supplier<Request> request;
+    private boolean executed;
+    private volatile boolean canceled;
+
+    CompletedCall(Response<T> response, Supplier<Request> request) {
+        this.response = response;
+        this.request = request;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        markExecuted();
+        if (canceled) {
+            throw new IOException("Canceled");
+        }
+        return response;
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+        markExecuted();
+        if (canceled) {
+            callback.onFailure(this, new IOException("Canceled"));
+        } else {
+            callback.onResponse(this, response);
+        }
+    }
+
+    private synchronized void markExecuted() {
+        if (executed) {
+            throw new IllegalStateException("Already executed.");
+        }
+        executed = true;
+    }
+
+    @Override
+    public synchronized boolean isExecuted() {
+        return executed;
+    }
+
+    @Override
+    public void cancel() {
+        canceled = true;
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new CompletedCall<>(response, request);
+    }
+
+    @Override
+    public Request request() {
+        return request.get();
+    }
+
+    @Override
+    public Timeout timeout() {
+        return Timeout.NONE;
+    }
+}
@@ -0,0 +1,51 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.models.Document;
+
+/** Rough retained-size estimate of a decoded document, good enough to bound a cache by bytes. */
+final class DocumentWeigher {
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 8;
+
+    private DocumentWeigher() {}
+
+    static long estimate(Document<?> document) {
+        long size = OBJECT_HEADER + 7L * REFERENCE;
+        size += estimate(document.getId());
+        size += estimate(document.getCollectionId());
+        size += estimate(document.getDatabaseId());
+        size += estimate(document.getCreatedAt());
+        size += estimate(document.getUpdatedAt());
+        size += estimate(document.getPermissions());
+        return size + estimate(document.getData());
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return OBJECT_HEADER + 24 + string.length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = OBJECT_HEADER + 32;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32 + estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = OBJECT_HEADER + 16;
+            for (Object element : collection) {
+                size += REFERENCE + estimate(element);
+            }
+            return size;
+        }
+        return OBJECT_HEADER + 32;
+    }
+}
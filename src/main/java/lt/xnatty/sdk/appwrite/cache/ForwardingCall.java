@@ -0,0 +1,70 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.io.IOException;
+import java.util.function.UnaryOperator;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/** Delegates to another call and passes every response through a hook, which may replace it, before the caller sees it. */
+final class ForwardingCall<T> implements Call<T> {
+    private final Call<T> delegate;
+    private final UnaryOperator<Response<T>> onResponse;
+
+    ForwardingCall(Call<T> delegate, UnaryOperator<Response<T>> onResponse) {
+        this.delegate = delegate;
+        this.onResponse = onResponse;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        return onResponse.apply(delegate.execute());
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+        delegate.enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                callback.onResponse(ForwardingCall.this, onResponse.apply(response));
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable t) {
+                callback.onFailure(ForwardingCall.this, t);
+            }
+        });
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return delegate.isExecuted();
+    }
+
+    @Override
+    public void cancel() {
+        delegate.cancel();
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return delegate.isCanceled();
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new ForwardingCall<>(delegate.clone(), onResponse);
+    }
+
+    @Override
+    public Request request() {
+        return delegate.request();
+    }
+
+    @Override
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+}
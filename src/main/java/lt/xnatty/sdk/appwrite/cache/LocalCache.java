@@ -0,0 +1,193 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-memory LRU cache with per-entry expiry. Bounded by entry count, by total weight, or both. Every
+ * invalidation advances a generation counter so that a loader which started before the invalidation can avoid
+ * storing a value that is already out of date, see {@link #putIfGeneration}.
+ */
+public final class LocalCache<K, V> {
+    private final long maxEntries;
+    private final long maxWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final Duration defaultTtl;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long generation;
+
+    private LocalCache(Builder<K, V> builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxWeight = builder.maxWeight;
+        this.weigher = builder.weigher;
+        this.defaultTtl = builder.defaultTtl;
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtl);
+    }
+
+    public synchronized void put(K key, V value, Duration ttl) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Cache key and value cannot be null");
+        }
+        if (ttl.isZero() || ttl.isNegative()) {
+            remove(key);
+            return;
+        }
+        long entryWeight = weigher == null ? 1 : weigher.weigh(key, value);
+        if (entryWeight > maxWeight) {
+            remove(key);
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, entryWeight, expiry(ttl)));
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += entryWeight;
+        evict();
+    }
+
+    /** Stores the value only if nothing was invalidated since {@code generation} was read. */
+    public synchronized boolean putIfGeneration(K key, V value, Duration ttl, long generation) {
+        if (this.generation != generation) {
+            return false;
+        }
+        put(key, value, ttl);
+        return true;
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<? super K> predicate) {
+        generation++;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (predicate.test(entry.getKey())) {
+                weight -= entry.getValue().weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private void evict() {
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+        }
+    }
+
+    private static long expiry(Duration ttl) {
+        long nanos = ttl.toNanos();
+        return nanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + nanos;
+    }
+
+    @FunctionalInterface
+    public interface Weigher<K, V> {
+        long weigh(K key, V value);
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long weight;
+        final long expiresAtNanos;
+
+        Entry(V value, long weight, long expiresAtNanos) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtNanos != Long.MAX_VALUE && now - expiresAtNanos >= 0;
+        }
+    }
+
+    public static class Builder<K, V> {
+        private long maxEntries = 10_000;
+        private long maxWeight = Long.MAX_VALUE;
+        private Weigher<? super K, ? super V> weigher;
+        private Duration defaultTtl = Duration.ofMinutes(5);
+
+        private Builder() {}
+
+        public Builder<K, V> maxEntries(long maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("Max entries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder<K, V> maxWeight(long maxWeight, Weigher<? super K, ? super V> weigher) {
+            if (maxWeight < 1 || weigher == null) {
+                throw new IllegalArgumentException("Max weight must be positive and weigher cannot be null");
+            }
+            this.maxWeight = maxWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<K, V> defaultTtl(Duration defaultTtl) {
+            if (defaultTtl == null || defaultTtl.isNegative()) {
+                throw new IllegalArgumentException("TTL cannot be null or negative");
+            }
+            this.defaultTtl = defaultTtl;
+            return this;
+        }
+
+        public LocalCache<K, V> build() {
+            return new LocalCache<>(this);
+        }
+    }
+}
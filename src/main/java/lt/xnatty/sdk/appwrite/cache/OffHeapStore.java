@@ -0,0 +1,204 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Byte store that keeps values outside the Java heap, so a large cache adds little to garbage collection work.
+ * Memory is reserved as direct-buffer slabs of {@code slabBytes}. A slab is handed to a size class on first use and
+ * cut into equal chunks; classes are powers of two from 256 bytes up to the slab size, and a value takes one chunk
+ * of the smallest class it fits. Slabs stay with their class. When a class has no free chunk and no slab is left, a
+ * CLOCK sweep over the class evicts the first entry not read since the hand last passed it. Keys and the index stay
+ * on the heap; values larger than a slab are not stored. Direct memory counts against
+ * {@code -XX:MaxDirectMemorySize}.
+ */
+final class OffHeapStore {
+    static final int MIN_CHUNK = 256;
+    private static final int MIN_CHUNK_SHIFT = Integer.numberOfTrailingZeros(MIN_CHUNK);
+
+    private final int slabBytes;
+    private final int maxSlabs;
+    private final SizeClass[] classes;
+    private final Map<String, Slot> index = new HashMap<>();
+    private int slabCount;
+    private long usedBytes;
+
+    OffHeapStore(long maxBytes, int slabBytes) {
+        if (slabBytes < MIN_CHUNK || Integer.bitCount(slabBytes) != 1) {
+            throw new IllegalArgumentException("Slab size must be a power of two of at least " + MIN_CHUNK);
+        }
+        if (maxBytes < slabBytes) {
+            throw new IllegalArgumentException("Off-heap capacity must hold at least one slab");
+        }
+        this.slabBytes = slabBytes;
+        this.maxSlabs = (int) Math.min(Integer.MAX_VALUE, maxBytes / slabBytes);
+        this.classes = new SizeClass[Integer.numberOfTrailingZeros(slabBytes) - MIN_CHUNK_SHIFT + 1];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new SizeClass(MIN_CHUNK << i);
+        }
+    }
+
+    /**
+     * Stores a copy of the value, replacing any previous one. Returns false when it is larger than a slab or its size
+     * class got no slab before the capacity ran out.
+     */
+    synchronized boolean put(String key, byte[] value, long freshUntilNanos, long expiresAtNanos) {
+        remove(key);
+        if (value.length > slabBytes) {
+            return false;
+        }
+        SizeClass sizeClass = classes[classOf(value.length)];
+        int chunk = sizeClass.allocate();
+        if (chunk < 0) {
+            return false;
+        }
+        sizeClass.write(chunk, key, value);
+        index.put(key, new Slot(sizeClass, chunk, value.length, freshUntilNanos, expiresAtNanos));
+        usedBytes += sizeClass.chunkBytes;
+        return true;
+    }
+
+    /** Copies the value back onto the heap, or returns null when absent or expired at {@code now}. */
+    synchronized Entry get(String key, long now) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return null;
+        }
+        if (now - slot.expiresAtNanos >= 0) {
+            remove(key);
+            return null;
+        }
+        slot.sizeClass.referenced.set(slot.chunk);
+        return new Entry(slot.sizeClass.read(slot.chunk, slot.length), slot.freshUntilNanos, slot.expiresAtNanos);
+    }
+
+    synchronized void invalidate(String key) {
+        remove(key);
+    }
+
+    synchronized void invalidateIf(Predicate<? super String> predicate) {
+        Iterator<Map.Entry<String, Slot>> iterator = index.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Slot> entry = iterator.next();
+            if (predicate.test(entry.getKey())) {
+                release(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    synchronized int size() {
+        return index.size();
+    }
+
+    /** Bytes taken by stored values, counted in whole chunks. */
+    synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    /** Bytes reserved as slabs so far. */
+    synchronized long reservedBytes() {
+        return (long) slabCount * slabBytes;
+    }
+
+    private void remove(String key) {
+        Slot slot = index.remove(key);
+        if (slot != null) {
+            release(slot);
+        }
+    }
+
+    private void release(Slot slot) {
+        slot.sizeClass.free(slot.chunk);
+        usedBytes -= slot.sizeClass.chunkBytes;
+    }
+
+    private static int classOf(int length) {
+        int size = Math.max(length, MIN_CHUNK);
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_CHUNK_SHIFT;
+    }
+
+    record Entry(byte[] value, long freshUntilNanos, long expiresAtNanos) {}
+
+    private record Slot(SizeClass sizeClass, int chunk, int length, long freshUntilNanos, long expiresAtNanos) {}
+
+    private final class SizeClass {
+        final int chunkBytes;
+        final int chunksPerSlab;
+        final List<ByteBuffer> slabs = new ArrayList<>();
+        final BitSet referenced = new BitSet();
+        String[] owners = new String[0];
+        int[] freeChunks = new int[0];
+        int freeCount;
+        int hand;
+
+        SizeClass(int chunkBytes) {
+            this.chunkBytes = chunkBytes;
+            this.chunksPerSlab = slabBytes / chunkBytes;
+        }
+
+        int allocate() {
+            if (freeCount == 0 && slabCount < maxSlabs) {
+                addSlab();
+            }
+            if (freeCount > 0) {
+                return freeChunks[--freeCount];
+            }
+            return evict();
+        }
+
+        void free(int chunk) {
+            owners[chunk] = null;
+            referenced.clear(chunk);
+            freeChunks[freeCount++] = chunk;
+        }
+
+        void write(int chunk, String key, byte[] value) {
+            owners[chunk] = key;
+            slabs.get(chunk / chunksPerSlab).put((chunk % chunksPerSlab) * chunkBytes, value);
+        }
+
+        byte[] read(int chunk, int length) {
+            byte[] value = new byte[length];
+            slabs.get(chunk / chunksPerSlab).get((chunk % chunksPerSlab) * chunkBytes, value);
+            return value;
+        }
+
+        private void addSlab() {
+            slabs.add(ByteBuffer.allocateDirect(slabBytes));
+            slabCount++;
+            int first = owners.length;
+            owners = Arrays.copyOf(owners, first + chunksPerSlab);
+            freeChunks = Arrays.copyOf(freeChunks, owners.length);
+            for (int chunk = owners.length - 1; chunk >= first; chunk--) {
+                freeChunks[freeCount++] = chunk;
+            }
+        }
+
+        /** Called only when every chunk is taken, so the sweep ends within two turns of the hand. */
+        private int evict() {
+            if (owners.length == 0) {
+                return -1;
+            }
+            while (true) {
+                int chunk = hand;
+                hand = (hand + 1) % owners.length;
+                if (referenced.get(chunk)) {
+                    referenced.clear(chunk);
+                    continue;
+                }
+                index.remove(owners[chunk]);
+                usedBytes -= chunkBytes;
+                owners[chunk] = null;
+                return chunk;
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Read-through cache shared by the caching service decorators. Besides plain TTLs it can keep serving an expired
+ * value for a stale window while one background refresh per key runs, and cache 404s for a short negative TTL.
+ * With an {@link OffHeapStore}, every value stored on the heap is also written there in serialized form and misses
+ * are looked up there before the loader runs; a value found off-heap is decoded and moved back onto the heap with the
+ * freshness it had. Cached 404s stay on the heap only, and a 404 drops the key's off-heap copy.
+ */
+final class ReadThroughCache<T> {
+    private final LocalCache<String, CachedRead<T>> cache;
+    private final Duration staleWindow;
+    private final Duration negativeTtl;
+    private final Executor refreshExecutor;
+    private final CacheStats stats = new CacheStats();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final OffHeapStore offHeap;
+    private final Codec<T> codec;
+    /** Keeps a heap write and its off-heap copy together, so an invalidation cannot land between them. */
+    private final Object tiers = new Object();
+
+    ReadThroughCache(CacheSettings settings, ToLongFunction<? super T> weigher) {
+        this(settings, weigher, null, null);
+    }
+
+    ReadThroughCache(CacheSettings settings, ToLongFunction<? super T> weigher, OffHeapStore offHeap, Codec<T> codec) {
+        LocalCache.Builder<String, CachedRead<T>> builder =
+                LocalCache.<String, CachedRead<T>>builder().maxEntries(settings.maxEntries);
+        if (settings.maxBytes > 0) {
+            builder.maxWeight(
+                    settings.maxBytes,
+                    (key, read) -> read.isNegative() ? 64L + read.errorBody.length : weigher.applyAsLong(read.value));
+        }
+        this.cache = builder.build();
+        this.staleWindow = settings.staleWindow;
+        this.negativeTtl = settings.negativeTtl;
+        this.refreshExecutor = settings.refreshExecutor;
+        this.offHeap = offHeap;
+        this.codec = codec;
+    }
+
+    CacheStats stats() {
+        return stats;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    OffHeapStore offHeap() {
+        return offHeap;
+    }
+
+    Call<T> get(String key, Duration ttl, Supplier<Call<T>> loader) {
+        CachedRead<T> cached = cache.get(key);
+        if (cached == null && offHeap != null) {
+            cached = promote(key);
+        }
+        if (cached != null) {
+            if (cached.isNegative()) {
+                stats.recordNegativeHit();
+            } else if (cached.isFresh(System.nanoTime())) {
+                stats.recordHit();
+            } else {
+                stats.recordStaleHit();
+                refresh(key, ttl, loader);
+            }
+            return new CompletedCall<>(cached.toResponse(), () -> loader.get().request());
+        }
+        stats.recordMiss();
+        long generation = cache.generation();
+        return new ForwardingCall<>(loader.get(), response -> store(key, ttl, response, generation));
+    }
+
+    void put(String key, T value, Duration ttl) {
+        if (!ttl.isZero()) {
+            long freshUntil = System.nanoTime() + ttl.toNanos();
+            synchronized (tiers) {
+                cache.put(key, CachedRead.of(value, freshUntil), ttl.plus(staleWindow));
+                writeOffHeap(key, value, freshUntil);
+            }
+        }
+    }
+
+    void invalidate(String key) {
+        synchronized (tiers) {
+            cache.invalidate(key);
+            if (offHeap != null) {
+                offHeap.invalidate(key);
+            }
+        }
+    }
+
+    void invalidatePrefix(String prefix) {
+        synchronized (tiers) {
+            cache.invalidateIf(key -> key.startsWith(prefix));
+            if (offHeap != null) {
+                offHeap.invalidateIf(key -> key.startsWith(prefix));
+            }
+        }
+    }
+
+    private CachedRead<T> promote(String key) {
+        long generation = cache.generation();
+        long now = System.nanoTime();
+        OffHeapStore.Entry entry = offHeap.get(key, now);
+        if (entry == null) {
+            return null;
+        }
+        T value;
+        try {
+            value = codec.decode(entry.value());
+        } catch (IOException | RuntimeException e) {
+            offHeap.invalidate(key);
+            return null;
+        }
+        CachedRead<T> read = CachedRead.of(value, entry.freshUntilNanos());
+        Duration lifetime = Duration.ofNanos(entry.expiresAtNanos() - now);
+        if (!cache.putIfGeneration(key, read, lifetime, generation)) {
+            return null;
+        }
+        stats.recordOffHeapHit();
+        return read;
+    }
+
+    private void writeOffHeap(String key, T value, long freshUntil) {
+        if (offHeap == null) {
+            return;
+        }
+        try {
+            offHeap.put(key, codec.encode(value), freshUntil, freshUntil + staleWindow.toNanos());
+        } catch (IOException | RuntimeException e) {
+            offHeap.invalidate(key);
+        }
+    }
+
+    private Response<T> store(String key, Duration ttl, Response<T> response, long generation) {
+        long now = System.nanoTime();
+        if (response.isSuccessful() && response.body() != null && !ttl.isZero()) {
+            long freshUntil = now + ttl.toNanos();
+            synchronized (tiers) {
+                if (cache.putIfGeneration(
+                        key, CachedRead.of(response.body(), freshUntil), ttl.plus(staleWindow), generation)) {
+                    writeOffHeap(key, response.body(), freshUntil);
+                }
+            }
+        } else if (response.code() == 404 && !negativeTtl.isZero() && response.errorBody() != null) {
+            byte[] bytes;
+            MediaType type;
+            try (ResponseBody body = response.errorBody()) {
+                type = body.contentType();
+                bytes = body.bytes();
+            } catch (IOException e) {
+                return response;
+            }
+            synchronized (tiers) {
+                cache.putIfGeneration(
+                        key, CachedRead.notFound(bytes, type, now + negativeTtl.toNanos()), negativeTtl, generation);
+                // The off-heap copy would otherwise be promoted again once the cached 404 expires.
+                if (offHeap != null) {
+                    offHeap.invalidate(key);
+                }
+            }
+            return Response.error(ResponseBody.create(bytes, type), response.raw());
+        }
+        return response;
+    }
+
+    private void refresh(String key, Duration ttl, Supplier<Call<T>> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long generation = cache.generation();
+        Call<T> call = loader.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Response<T> response = call.execute();
+                    if (response.code() == 404 && negativeTtl.isZero()) {
+                        invalidate(key);
+                    } else if (!response.isSuccessful() && response.code() != 404) {
+                        stats.recordRefreshFailure();
+                    }
+                    Response<T> stored = store(key, ttl, response, generation);
+                    if (stored.errorBody() != null) {
+                        stored.errorBody().close();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    stats.recordRefreshFailure();
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /** Serialized form of cached values for the off-heap tier. */
+    interface Codec<T> {
+        byte[] encode(T value) throws IOException;
+
+        T decode(byte[] bytes) throws IOException;
+    }
+}
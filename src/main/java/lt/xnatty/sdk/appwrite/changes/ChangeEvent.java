@@ -0,0 +1,38 @@
+package lt.xnatty.sdk.appwrite.changes;
+
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.models.Document;
+
+/** A document that was created or updated since the previous poll, as it is now. */
+public final class ChangeEvent {
+    public enum Type {
+        INSERT,
+        UPDATE
+    }
+
+    private final Type type;
+    private final Document<Map<String, Object>> document;
+
+    ChangeEvent(Document<Map<String, Object>> document) {
+        this.document = document;
+        String createdAt = document.getCreatedAt();
+        this.type = createdAt != null && createdAt.equals(document.getUpdatedAt()) ? Type.INSERT : Type.UPDATE;
+    }
+
+    /**
+     * {@link Type#INSERT} while the document has not changed since it was created. A document created and then
+     * updated between two polls is reported once, as an update.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    public Document<Map<String, Object>> getDocument() {
+        return document;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{type=" + type + ", id=" + document.getId() + ", updatedAt=" + document.getUpdatedAt() + "}";
+    }
+}
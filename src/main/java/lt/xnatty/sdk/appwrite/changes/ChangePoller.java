@@ -0,0 +1,334 @@
+package lt.xnatty.sdk.appwrite.changes;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.paging.KeysetPager;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+
+/**
+ * Follows the changes of one collection by polling, for when Realtime is not an option. Each poll reads the
+ * documents after the {@link Watermark} in {@code ($updatedAt, $id)} order with a {@link KeysetPager}, a page of
+ * {@code pageSize} at a time.
+ *
+ * <p>Changes go through a bounded queue to the listeners, one at a time on the delivery executor. A full queue makes
+ * the poll wait rather than drop changes. The watermark is saved once the changes before it were delivered, so after
+ * a crash some changes may be delivered again. Deletions are not seen, nor are the late writes into a millisecond
+ * already passed that {@link KeysetPager} describes.
+ *
+ * <p>The interval adapts to the change rate: a full page polls again at the minimum interval, a poll with some
+ * changes halves the interval, and an empty one doubles it up to the maximum. Failed polls wait the maximum interval.
+ */
+public final class ChangePoller implements AutoCloseable {
+    private final DatabaseService databaseService;
+    private final String databaseId;
+    private final String collectionId;
+    private final List<String> queries;
+    private final int pageSize;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final WatermarkStore store;
+    private final Executor executor;
+    private final Consumer<Exception> errorHandler;
+    private final BlockingQueue<Pending> queue;
+    private final List<Consumer<ChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong failures = new AtomicLong();
+
+    /** Last watermark queued, only touched by the polling thread. */
+    private Watermark polled;
+
+    private volatile Watermark delivered;
+    private volatile Duration interval;
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    private ChangePoller(Builder builder) {
+        this.databaseService = builder.databaseService;
+        this.databaseId = builder.databaseId;
+        this.collectionId = builder.collectionId;
+        this.queries = List.copyOf(builder.queries);
+        this.pageSize = builder.pageSize;
+        this.minInterval = builder.minInterval;
+        this.maxInterval = builder.maxInterval;
+        this.store = builder.store;
+        this.executor = builder.executor != null
+                ? builder.executor
+                : Transport.getDefault().getExecutor();
+        this.errorHandler = builder.errorHandler;
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.interval = builder.minInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("appwrite-changes").daemon(true).factory());
+    }
+
+    public static Builder builder(DatabaseService databaseService, String databaseId, String collectionId) {
+        return new Builder(databaseService, databaseId, collectionId);
+    }
+
+    public ChangePoller addListener(Consumer<ChangeEvent> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+        return this;
+    }
+
+    public void removeListener(Consumer<ChangeEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    /** Loads the watermark and starts polling and delivery. */
+    public synchronized void start() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Change poller is closed");
+        }
+        if (started) {
+            throw new IllegalStateException("Change poller is already started");
+        }
+        Watermark saved = store.load();
+        polled = saved;
+        delivered = saved;
+        started = true;
+        executor.execute(this::deliver);
+        scheduler.execute(this::cycle);
+    }
+
+    /** The watermark of the last delivered change, or the loaded one before anything was delivered. */
+    public Watermark getWatermark() {
+        return delivered;
+    }
+
+    /** Delay before the next poll. */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public long failureCount() {
+        return failures.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+    }
+
+    private void cycle() {
+        if (closed) {
+            return;
+        }
+        try {
+            int changes = poll();
+            interval = nextInterval(changes);
+        } catch (InterruptedException e) {
+            return;
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            report(e);
+            interval = maxInterval;
+        }
+        try {
+            scheduler.schedule(this::cycle, interval.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed.
+        }
+    }
+
+    private int poll() throws IOException, InterruptedException {
+        Watermark from = polled;
+        KeysetPager pager = new KeysetPager(
+                databaseService,
+                databaseId,
+                collectionId,
+                queries,
+                pageSize,
+                from == null ? null : from.getUpdatedAt(),
+                from == null ? null : from.getDocumentId());
+        int changes = 0;
+        while (!closed && pager.hasMore()) {
+            for (Document<Map<String, Object>> document : pager.next()) {
+                if (closed) {
+                    break;
+                }
+                polled = Watermark.of(document);
+                queue.put(new Pending(new ChangeEvent(document), polled));
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    private Duration nextInterval(int changes) {
+        Duration next;
+        if (changes >= pageSize) {
+            next = minInterval;
+        } else if (changes > 0) {
+            next = interval.dividedBy(2);
+        } else {
+            next = interval.multipliedBy(2);
+        }
+        return next.compareTo(minInterval) < 0 ? minInterval : next.compareTo(maxInterval) > 0 ? maxInterval : next;
+    }
+
+    private void deliver() {
+        Watermark unsaved = null;
+        int pending = 0;
+        while (!closed) {
+            Pending next;
+            try {
+                next = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (next != null) {
+                for (Consumer<ChangeEvent> listener : listeners) {
+                    try {
+                        listener.accept(next.event);
+                    } catch (RuntimeException e) {
+                        // A failing listener must not stop delivery of later changes.
+                        report(e);
+                    }
+                }
+                delivered = next.watermark;
+                unsaved = next.watermark;
+                pending++;
+            }
+            if (unsaved != null && (queue.isEmpty() || pending >= pageSize) && save(unsaved)) {
+                unsaved = null;
+                pending = 0;
+            }
+        }
+        if (unsaved != null) {
+            save(unsaved);
+        }
+    }
+
+    private boolean save(Watermark watermark) {
+        try {
+            store.save(watermark);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            report(e);
+            return false;
+        }
+    }
+
+    private void report(Exception e) {
+        if (errorHandler != null) {
+            try {
+                errorHandler.accept(e);
+            } catch (RuntimeException ignored) {
+                // The error handler must not stop polling.
+            }
+        }
+    }
+
+    private record Pending(ChangeEvent event, Watermark watermark) {}
+
+    public static class Builder {
+        private final DatabaseService databaseService;
+        private final String databaseId;
+        private final String collectionId;
+        private List<String> queries = List.of();
+        private int pageSize = 100;
+        private Duration minInterval = Duration.ofSeconds(1);
+        private Duration maxInterval = Duration.ofSeconds(30);
+        private int queueCapacity = 1024;
+        private WatermarkStore store = WatermarkStore.inMemory();
+        private Executor executor;
+        private Consumer<Exception> errorHandler;
+
+        private Builder(DatabaseService databaseService, String databaseId, String collectionId) {
+            if (databaseService == null) {
+                throw new IllegalArgumentException("Database service cannot be null");
+            }
+            if (databaseId == null || databaseId.isEmpty() || collectionId == null || collectionId.isEmpty()) {
+                throw new IllegalArgumentException("Database ID and collection ID cannot be null or empty");
+            }
+            this.databaseService = databaseService;
+            this.databaseId = databaseId;
+            this.collectionId = collectionId;
+        }
+
+        /** Filters applied to every poll; must not contain order, cursor or limit queries. */
+        public Builder queries(List<String> queries) {
+            if (queries == null) {
+                throw new IllegalArgumentException("Queries cannot be null");
+            }
+            this.queries = queries;
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("Page size must be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public Builder pollInterval(Duration minInterval, Duration maxInterval) {
+            if (minInterval == null
+                    || maxInterval == null
+                    || minInterval.isNegative()
+                    || minInterval.isZero()
+                    || maxInterval.compareTo(minInterval) < 0) {
+                throw new IllegalArgumentException("Poll interval must be positive and max must be >= min");
+            }
+            this.minInterval = minInterval;
+            this.maxInterval = maxInterval;
+            return this;
+        }
+
+        /** Maximum number of undelivered changes; polling waits while the queue is full. */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("Queue capacity must be at least 1");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /** Defaults to {@link WatermarkStore#inMemory()}. */
+        public Builder watermarkStore(WatermarkStore store) {
+            if (store == null) {
+                throw new IllegalArgumentException("Watermark store cannot be null");
+            }
+            this.store = store;
+            return this;
+        }
+
+        /** Executor for delivery; defaults to the default transport's executor. */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("Executor cannot be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /** Receives failed polls, failed watermark saves and exceptions thrown by listeners. */
+        public Builder onError(Consumer<Exception> errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        public ChangePoller build() {
+            return new ChangePoller(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package lt.xnatty.sdk.appwrite.changes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/** The timestamp on the first line and the document ID on the second. */
+final class FileWatermarkStore implements WatermarkStore {
+    private final Path file;
+
+    FileWatermarkStore(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Watermark file cannot be null");
+        }
+        this.file = file;
+    }
+
+    @Override
+    public Watermark load() throws IOException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (lines.size() < 2 || lines.get(0).isEmpty() || lines.get(1).isEmpty()) {
+            return null;
+        }
+        return new Watermark(lines.get(0), lines.get(1));
+    }
+
+    @Override
+    public void save(Watermark watermark) throws IOException {
+        List<String> lines = List.of(watermark.getUpdatedAt(), watermark.getDocumentId());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,52 @@
+package lt.xnatty.sdk.appwrite.changes;
+
+import lt.xnatty.sdk.appwrite.models.Document;
+
+/**
+ * How far a {@link ChangePoller} has got: the {@code $updatedAt} and ID of the last document delivered, in
+ * {@code ($updatedAt, $id)} order. Polls continue with the documents after that pair, see
+ * {@link lt.xnatty.sdk.appwrite.paging.KeysetPager}.
+ */
+public final class Watermark {
+    private final String updatedAt;
+    private final String documentId;
+
+    public Watermark(String updatedAt, String documentId) {
+        if (updatedAt == null || updatedAt.isEmpty()) {
+            throw new IllegalArgumentException("Updated at cannot be null or empty");
+        }
+        if (documentId == null || documentId.isEmpty()) {
+            throw new IllegalArgumentException("Document ID cannot be null or empty");
+        }
+        this.updatedAt = updatedAt;
+        this.documentId = documentId;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /** The last document delivered with {@link #getUpdatedAt()}. */
+    public String getDocumentId() {
+        return documentId;
+    }
+
+    static Watermark of(Document<?> document) {
+        return new Watermark(document.getUpdatedAt(), document.getId());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Watermark other && updatedAt.equals(other.updatedAt) && documentId.equals(other.documentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * updatedAt.hashCode() + documentId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Watermark{updatedAt=" + updatedAt + ", documentId=" + documentId + "}";
+    }
+}
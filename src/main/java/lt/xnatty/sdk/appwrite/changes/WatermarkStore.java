@@ -0,0 +1,35 @@
+package lt.xnatty.sdk.appwrite.changes;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/** Where a {@link ChangePoller} keeps its {@link Watermark} between runs. */
+public interface WatermarkStore {
+
+    /** The saved watermark, or null to start from the beginning of the collection. */
+    Watermark load() throws IOException;
+
+    void save(Watermark watermark) throws IOException;
+
+    /** Keeps the watermark in memory only; a restarted process starts over. */
+    static WatermarkStore inMemory() {
+        return new WatermarkStore() {
+            private volatile Watermark watermark;
+
+            @Override
+            public Watermark load() {
+                return watermark;
+            }
+
+            @Override
+            public void save(Watermark watermark) {
+                this.watermark = watermark;
+            }
+        };
+    }
+
+    /** Keeps the watermark in a small text file, replaced atomically on every save. */
+    static WatermarkStore file(Path file) {
+        return new FileWatermarkStore(file);
+    }
+}
@@ -0,0 +1,69 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+public class AppwriteException extends IOException {
+    private final int code;
+    private final String type;
+
+    public AppwriteException(String message, int code, String type) {
+        super(message);
+        this.code = code;
+        this.type = type;
+    }
+
+    public AppwriteException(String message, Throwable cause) {
+        super(message, cause);
+        this.code = 0;
+        this.type = null;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public static AppwriteException fromResponse(Response<?> response) {
+        int code = response.code();
+        String message = response.message();
+        String type = null;
+        try (ResponseBody body = response.errorBody()) {
+            if (body != null) {
+                JsonElement element = JsonParser.parseString(body.string());
+                if (element.isJsonObject()) {
+                    JsonObject error = element.getAsJsonObject();
+                    if (error.has("message") && !error.get("message").isJsonNull()) {
+                        message = error.get("message").getAsString();
+                    }
+                    if (error.has("type") && !error.get("type").isJsonNull()) {
+                        type = error.get("type").getAsString();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // Fall back to the HTTP status message when the error body is missing or not JSON.
+        }
+        if (message == null || message.isEmpty()) {
+            message = "HTTP " + code;
+        }
+        return switch (code) {
+            case 400 -> new BadRequestException(message, type);
+            case 401 -> new UnauthorizedException(message, type);
+            case 403 -> new ForbiddenException(message, type);
+            case 404 -> new NotFoundException(message, type);
+            case 409 -> new ConflictException(message, type);
+            case 429 -> new RateLimitException(message, type);
+            default -> code >= 500
+                    ? new ServerException(message, code, type)
+                    : new AppwriteException(message, code, type);
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class BadRequestException extends AppwriteException {
+    public BadRequestException(String message, String type) {
+        super(message, 400, type);
+    }
+}
@@ -0,0 +1,14 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class CircuitBreakerOpenException extends AppwriteException {
+    private final String breaker;
+
+    public CircuitBreakerOpenException(String breaker) {
+        super("Circuit breaker " + breaker + " is open", 503, "circuit_open");
+        this.breaker = breaker;
+    }
+
+    public String getBreaker() {
+        return breaker;
+    }
+}
@@ -0,0 +1,7 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class ConflictException extends AppwriteException {
+    public ConflictException(String message, String type) {
+        super(message, 409, type);
+    }
+}
@@ -0,0 +1,7 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class ForbiddenException extends AppwriteException {
+    public ForbiddenException(String message, String type) {
+        super(message, 403, type);
+    }
+}
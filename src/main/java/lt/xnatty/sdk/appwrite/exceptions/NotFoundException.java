@@ -0,0 +1,7 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class NotFoundException extends AppwriteException {
+    public NotFoundException(String message, String type) {
+        super(message, 404, type);
+    }
+}
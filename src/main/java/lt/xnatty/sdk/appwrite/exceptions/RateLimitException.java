@@ -0,0 +1,7 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class RateLimitException extends AppwriteException {
+    public RateLimitException(String message, String type) {
+        super(message, 429, type);
+    }
+}
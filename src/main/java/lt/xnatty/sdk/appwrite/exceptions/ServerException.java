@@ -0,0 +1,7 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class ServerException extends AppwriteException {
+    public ServerException(String message, int code, String type) {
+        super(message, code, type);
+    }
+}
@@ -0,0 +1,7 @@
+package lt.xnatty.sdk.appwrite.exceptions;
+
+public class UnauthorizedException extends AppwriteException {
+    public UnauthorizedException(String message, String type) {
+        super(message, 401, type);
+    }
+}
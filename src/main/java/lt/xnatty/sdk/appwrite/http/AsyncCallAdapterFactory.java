@@ -0,0 +1,77 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import com.google.gson.reflect.TypeToken;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+
+/**
+ * Adapts service methods returning {@code CompletableFuture<T>}. Non-2xx responses complete the future with an
+ * {@link AppwriteException} subtype; the underlying call comes from the next adapter in the chain, so call
+ * decorators registered on the client apply to async methods as well.
+ */
+public final class AsyncCallAdapterFactory extends CallAdapter.Factory {
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != CompletableFuture.class) {
+            return null;
+        }
+        if (!(returnType instanceof ParameterizedType)) {
+            throw new IllegalStateException("CompletableFuture return type must be parameterized");
+        }
+        Type responseType = getParameterUpperBound(0, (ParameterizedType) returnType);
+        Type callType = TypeToken.getParameterized(Call.class, responseType).getType();
+        @SuppressWarnings("unchecked")
+        CallAdapter<Object, Call<Object>> next =
+                (CallAdapter<Object, Call<Object>>) retrofit.nextCallAdapter(this, callType, annotations);
+        return new FutureCallAdapter<>(next);
+    }
+
+    private static final class FutureCallAdapter<R> implements CallAdapter<R, CompletableFuture<R>> {
+        private final CallAdapter<R, Call<R>> next;
+
+        FutureCallAdapter(CallAdapter<R, Call<R>> next) {
+            this.next = next;
+        }
+
+        @Override
+        public Type responseType() {
+            return next.responseType();
+        }
+
+        @Override
+        public CompletableFuture<R> adapt(Call<R> call) {
+            Call<R> adapted = next.adapt(call);
+            CompletableFuture<R> future = new CompletableFuture<>();
+            future.whenComplete((result, error) -> {
+                if (future.isCancelled()) {
+                    adapted.cancel();
+                }
+            });
+            adapted.enqueue(new Callback<>() {
+                @Override
+                public void onResponse(Call<R> call, Response<R> response) {
+                    if (response.isSuccessful()) {
+                        future.complete(response.body());
+                    } else {
+                        future.completeExceptionally(AppwriteException.fromResponse(response));
+                    }
+                }
+
+                @Override
+                public void onFailure(Call<R> call, Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+            return future;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.util.function.Consumer;
+
+/**
+ * Count-based circuit breaker. Opens when the failure rate over the last {@code windowSize} calls reaches the
+ * threshold, rejects calls for {@code openDuration}, then lets a few probe calls through in the half-open state.
+ * Slow calls count as failures.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerRegistry.Config config;
+    private final Consumer<CircuitBreaker> onTransition;
+    private final boolean[] window;
+    private int windowIndex;
+    private int recorded;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(String name, CircuitBreakerRegistry.Config config, Consumer<CircuitBreaker> onTransition) {
+        this.name = name;
+        this.config = config;
+        this.onTransition = onTransition;
+        this.window = new boolean[config.windowSize()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    public boolean tryAcquire() {
+        State transitioned = null;
+        boolean permitted;
+        synchronized (this) {
+            if (state == State.OPEN
+                    && System.nanoTime() - openedAtNanos
+                            >= config.openDuration().toNanos()) {
+                transitioned = transition(State.HALF_OPEN);
+            }
+            permitted = switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (probesInFlight < config.halfOpenProbes()) {
+                        probesInFlight++;
+                        yield true;
+                    }
+                    yield false;
+                }};
+        }
+        notifyTransition(transitioned);
+        return permitted;
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(durationNanos >= config.slowCallThreshold().toNanos());
+    }
+
+    public void onFailure() {
+        record(true);
+    }
+
+    /** Returns a half-open probe permit for a call whose outcome says nothing about upstream health. */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void record(boolean failed) {
+        State transitioned = null;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED -> {
+                    if (recorded == window.length) {
+                        if (window[windowIndex]) {
+                            failures--;
+                        }
+                    } else {
+                        recorded++;
+                    }
+                    window[windowIndex] = failed;
+                    if (failed) {
+                        failures++;
+                    }
+                    windowIndex = (windowIndex + 1) % window.length;
+                    if (recorded >= config.minimumCalls()
+                            && (double) failures / recorded >= config.failureRateThreshold()) {
+                        transitioned = transition(State.OPEN);
+                    }
+                }
+                case HALF_OPEN -> {
+                    probesInFlight = Math.max(0, probesInFlight - 1);
+                    if (failed) {
+                        transitioned = transition(State.OPEN);
+                    } else if (++probeSuccesses >= config.halfOpenProbes()) {
+                        transitioned = transition(State.CLOSED);
+                    }
+                }
+                case OPEN -> {
+                    // Outcome of a call admitted before the breaker opened.
+                }
+            }
+        }
+        notifyTransition(transitioned);
+    }
+
+    private State transition(State next) {
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            recorded = 0;
+            failures = 0;
+            windowIndex = 0;
+        }
+        return next;
+    }
+
+    private void notifyTransition(State transitioned) {
+        if (transitioned != null && onTransition != null) {
+            onTransition.accept(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import lt.xnatty.sdk.appwrite.exceptions.CircuitBreakerOpenException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public final class CircuitBreakerInterceptor implements Interceptor {
+    private final CircuitBreakerRegistry registry;
+
+    public CircuitBreakerInterceptor(CircuitBreakerRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Circuit breaker registry cannot be null");
+        }
+        this.registry = registry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        CircuitBreaker breaker = registry.breaker(ServiceRoutes.nameOf(request));
+        if (!breaker.tryAcquire()) {
+            throw new CircuitBreakerOpenException(breaker.getName());
+        }
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (AppwriteException e) {
+            breaker.release();
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (chain.call().isCanceled()) {
+                breaker.release();
+            } else {
+                breaker.onFailure();
+            }
+            throw e;
+        }
+        if (response.code() >= 500) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess(System.nanoTime() - start);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,109 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/** Circuit breakers keyed by service and route, e.g. {@code StorageService#getFile}. */
+public final class CircuitBreakerRegistry {
+    private final Config config;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final List<Consumer<CircuitBreaker>> listeners = new CopyOnWriteArrayList<>();
+
+    private CircuitBreakerRegistry(Config config) {
+        this.config = config;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public CircuitBreaker breaker(String name) {
+        return breakers.computeIfAbsent(name, key -> new CircuitBreaker(key, config, this::publish));
+    }
+
+    /** Current state of every breaker that has seen traffic, sorted by name. */
+    public Map<String, CircuitBreaker.State> states() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((name, breaker) -> states.put(name, breaker.getState()));
+        return states;
+    }
+
+    /** Registers a listener that is called after every state transition. */
+    public void addListener(Consumer<CircuitBreaker> listener) {
+        listeners.add(listener);
+    }
+
+    private void publish(CircuitBreaker breaker) {
+        listeners.forEach(listener -> listener.accept(breaker));
+    }
+
+    record Config(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            Duration slowCallThreshold,
+            Duration openDuration,
+            int halfOpenProbes) {}
+
+    public static class Builder {
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private Duration slowCallThreshold = Duration.ofSeconds(5);
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 3;
+
+        private Builder() {}
+
+        public Builder window(int windowSize, int minimumCalls) {
+            if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+                throw new IllegalArgumentException("Window size and minimum calls must be positive, minimum <= size");
+            }
+            this.windowSize = windowSize;
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]");
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public Builder slowCallThreshold(Duration slowCallThreshold) {
+            if (slowCallThreshold == null || slowCallThreshold.isNegative() || slowCallThreshold.isZero()) {
+                throw new IllegalArgumentException("Slow call threshold must be positive");
+            }
+            this.slowCallThreshold = slowCallThreshold;
+            return this;
+        }
+
+        public Builder openDuration(Duration openDuration) {
+            if (openDuration == null || openDuration.isNegative()) {
+                throw new IllegalArgumentException("Open duration cannot be null or negative");
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder halfOpenProbes(int halfOpenProbes) {
+            if (halfOpenProbes < 1) {
+                throw new IllegalArgumentException("Half-open probes must be at least 1");
+            }
+            this.halfOpenProbes = halfOpenProbes;
+            return this;
+        }
+
+        public CircuitBreakerRegistry build() {
+            return new CircuitBreakerRegistry(new Config(
+                    windowSize, minimumCalls, failureRateThreshold, slowCallThreshold, openDuration, halfOpenProbes));
+        }
+    }
+}
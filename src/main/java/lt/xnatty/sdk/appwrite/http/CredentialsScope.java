@@ -0,0 +1,52 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import lt.xnatty.sdk.appwrite.config.AppwriteConfig;
+
+/**
+ * Carries project credentials from a project-scoped service to the point where Retrofit creates the OkHttp request,
+ * which happens on the thread that executes or enqueues the call.
+ */
+public final class CredentialsScope {
+
+    private static final ThreadLocal<AppwriteConfig> CURRENT = new ThreadLocal<>();
+
+    private CredentialsScope() {}
+
+    public static AppwriteConfig current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T supply(AppwriteConfig credentials, IOSupplier<T> supplier) throws IOException {
+        AppwriteConfig previous = CURRENT.get();
+        CURRENT.set(credentials);
+        try {
+            return supplier.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(AppwriteConfig credentials, Runnable runnable) {
+        AppwriteConfig previous = CURRENT.get();
+        CURRENT.set(credentials);
+        try {
+            runnable.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(AppwriteConfig previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @FunctionalInterface
+    public interface IOSupplier<T> {
+        T get() throws IOException;
+    }
+}
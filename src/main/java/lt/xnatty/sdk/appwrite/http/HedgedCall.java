@@ -0,0 +1,215 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.config.AppwriteConfig;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Sends the primary request and, if it has not answered within the hedge delay, a clone of it. The first successful
+ * or client-error response wins and the other attempt is cancelled; a 5xx or I/O failure is held back while the other
+ * attempt is still in flight. The hedge is enqueued from a timer thread, so the caller's project credentials are
+ * captured up front and restored around it. {@link #execute()} runs the primary on the calling thread, so blocking
+ * callers are not held to the dispatcher's per-host limit; only hedges go through the dispatcher.
+ */
+final class HedgedCall<T> implements Call<T> {
+    private final Call<T> primary;
+    private final HedgingPolicy policy;
+    private final LatencyTracker tracker;
+    private final ScheduledExecutorService timer;
+    private boolean executed;
+    private volatile boolean canceled;
+    private Call<T> hedge;
+    private ScheduledFuture<?> hedgeTimer;
+    private int outstanding;
+    private boolean delivered;
+
+    HedgedCall(Call<T> primary, HedgingPolicy policy, LatencyTracker tracker, ScheduledExecutorService timer) {
+        this.primary = primary;
+        this.policy = policy;
+        this.tracker = tracker;
+        this.timer = timer;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        CompletableFuture<Response<T>> result = new CompletableFuture<>();
+        Callback<T> callback = new Callback<>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable t) {
+                result.completeExceptionally(t);
+            }
+        };
+        Attempt attempt = new Attempt(primary, callback, begin(callback));
+        try {
+            attempt.onResponse(primary, primary.execute());
+        } catch (IOException | RuntimeException e) {
+            attempt.onFailure(primary, e);
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for hedged call");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+        long start = begin(callback);
+        primary.enqueue(new Attempt(primary, callback, start));
+    }
+
+    /** Marks the call executed and schedules the hedge; returns the start time of the primary attempt. */
+    private long begin(Callback<T> callback) {
+        synchronized (this) {
+            if (executed) {
+                throw new IllegalStateException("Already executed.");
+            }
+            executed = true;
+            outstanding = 1;
+        }
+        AppwriteConfig credentials = CredentialsScope.current();
+        long start = System.nanoTime();
+        policy.getBudget().recordRequest();
+        long delay = policy.delayNanos(tracker);
+        ScheduledFuture<?> scheduled = timer.schedule(
+                () -> CredentialsScope.run(credentials, () -> startHedge(callback, start)),
+                delay,
+                TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            hedgeTimer = scheduled;
+            if (delivered) {
+                scheduled.cancel(false);
+            }
+        }
+        return start;
+    }
+
+    private void startHedge(Callback<T> callback, long start) {
+        Call<T> clone;
+        synchronized (this) {
+            if (delivered || canceled || !policy.getBudget().tryWithdraw()) {
+                return;
+            }
+            clone = primary.clone();
+            hedge = clone;
+            outstanding++;
+        }
+        clone.enqueue(new Attempt(clone, callback, start));
+    }
+
+    private final class Attempt implements Callback<T> {
+        private final Call<T> call;
+        private final Callback<T> callback;
+        private final long start;
+
+        Attempt(Call<T> call, Callback<T> callback, long start) {
+            this.call = call;
+            this.callback = callback;
+            this.start = start;
+        }
+
+        @Override
+        public void onResponse(Call<T> ignored, Response<T> response) {
+            if (settle(call, response.code() < 500)) {
+                callback.onResponse(HedgedCall.this, response);
+            }
+        }
+
+        @Override
+        public void onFailure(Call<T> ignored, Throwable t) {
+            if (settle(call, false)) {
+                callback.onFailure(HedgedCall.this, t);
+            }
+        }
+
+        /** Decides whether this attempt's outcome is delivered, cancelling the other attempt if it is. */
+        private boolean settle(Call<T> call, boolean definitive) {
+            Call<T> loser;
+            synchronized (HedgedCall.this) {
+                outstanding--;
+                if (delivered || (!definitive && outstanding > 0 && !canceled)) {
+                    return false;
+                }
+                delivered = true;
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+                loser = call == primary ? hedge : primary;
+            }
+            if (loser != null) {
+                loser.cancel();
+            }
+            if (tracker != null && definitive) {
+                tracker.record(System.nanoTime() - start);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public synchronized boolean isExecuted() {
+        return executed;
+    }
+
+    @Override
+    public void cancel() {
+        Call<T> clone;
+        synchronized (this) {
+            canceled = true;
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+            }
+            clone = hedge;
+        }
+        primary.cancel();
+        if (clone != null) {
+            clone.cancel();
+        }
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return canceled || primary.isCanceled();
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new HedgedCall<>(primary.clone(), policy, tracker, timer);
+    }
+
+    @Override
+    public Request request() {
+        return primary.request();
+    }
+
+    @Override
+    public Timeout timeout() {
+        return primary.timeout();
+    }
+}
@@ -0,0 +1,73 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import retrofit2.http.Streaming;
+
+/** Wraps calls of {@code @GET} service methods in a {@link HedgedCall}; each method tracks its own latencies. */
+public final class HedgingCallAdapterFactory extends CallAdapter.Factory {
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("appwrite-hedge-timer").daemon(true).factory());
+
+    private final HedgingPolicy policy;
+
+    public HedgingCallAdapterFactory(HedgingPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Hedging policy cannot be null");
+        }
+        this.policy = policy;
+    }
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Call.class || !isAnnotated(annotations, GET.class)) {
+            return null;
+        }
+        if (isAnnotated(annotations, Streaming.class)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        CallAdapter<Object, Call<Object>> next =
+                (CallAdapter<Object, Call<Object>>) retrofit.nextCallAdapter(this, returnType, annotations);
+        LatencyTracker tracker =
+                policy.isAdaptive() ? new LatencyTracker(policy.getWindowSize(), policy.getPercentile()) : null;
+        return new HedgingCallAdapter<>(next, policy, tracker);
+    }
+
+    private static boolean isAnnotated(Annotation[] annotations, Class<? extends Annotation> type) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType() == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class HedgingCallAdapter<R> implements CallAdapter<R, Call<R>> {
+        private final CallAdapter<R, Call<R>> next;
+        private final HedgingPolicy policy;
+        private final LatencyTracker tracker;
+
+        HedgingCallAdapter(CallAdapter<R, Call<R>> next, HedgingPolicy policy, LatencyTracker tracker) {
+            this.next = next;
+            this.policy = policy;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public Type responseType() {
+            return next.responseType();
+        }
+
+        @Override
+        public Call<R> adapt(Call<R> call) {
+            return new HedgedCall<>(next.adapt(call), policy, tracker, TIMER);
+        }
+    }
+}
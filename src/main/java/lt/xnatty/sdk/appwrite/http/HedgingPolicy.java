@@ -0,0 +1,109 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.time.Duration;
+
+/**
+ * Opt-in hedging for GET service methods. When the first request has not answered within the hedge delay, a second
+ * identical request is sent and whichever succeeds first wins. The delay is either fixed or a percentile of recently
+ * observed latencies for the same service method; hedges draw from a {@link RetryBudget} so they stop when the
+ * backend is already slow for everyone.
+ */
+public final class HedgingPolicy {
+    private final Duration delay;
+    private final double percentile;
+    private final int windowSize;
+    private final Duration minDelay;
+    private final RetryBudget budget;
+
+    private HedgingPolicy(Builder builder) {
+        this.delay = builder.delay;
+        this.percentile = builder.percentile;
+        this.windowSize = builder.windowSize;
+        this.minDelay = builder.minDelay;
+        this.budget = builder.budget;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    boolean isAdaptive() {
+        return percentile > 0;
+    }
+
+    int getWindowSize() {
+        return windowSize;
+    }
+
+    double getPercentile() {
+        return percentile;
+    }
+
+    /** Fixed delay, or the tracked percentile once enough samples exist, never below the minimum delay. */
+    long delayNanos(LatencyTracker tracker) {
+        long nanos = delay.toNanos();
+        if (tracker != null) {
+            long measured = tracker.percentileNanos();
+            if (measured >= 0) {
+                nanos = measured;
+            }
+        }
+        return Math.max(minDelay.toNanos(), nanos);
+    }
+
+    public static class Builder {
+        private Duration delay = Duration.ofMillis(100);
+        private double percentile;
+        private int windowSize = 256;
+        private Duration minDelay = Duration.ofMillis(5);
+        private RetryBudget budget = new RetryBudget(0.05, 5);
+
+        private Builder() {}
+
+        /** Fixed hedge delay, also used by percentile hedging until enough latencies have been observed. */
+        public Builder delay(Duration delay) {
+            if (delay == null || delay.isNegative()) {
+                throw new IllegalArgumentException("Hedge delay cannot be null or negative");
+            }
+            this.delay = delay;
+            return this;
+        }
+
+        /** Hedges after the given percentile (e.g. 0.95) of the last {@code windowSize} latencies. */
+        public Builder percentile(double percentile, int windowSize) {
+            if (percentile <= 0 || percentile >= 1) {
+                throw new IllegalArgumentException("Hedge percentile must be in (0, 1)");
+            }
+            if (windowSize < 16) {
+                throw new IllegalArgumentException("Latency window must hold at least 16 samples");
+            }
+            this.percentile = percentile;
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        public Builder minDelay(Duration minDelay) {
+            if (minDelay == null || minDelay.isNegative()) {
+                throw new IllegalArgumentException("Minimum hedge delay cannot be null or negative");
+            }
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        public Builder budget(RetryBudget budget) {
+            if (budget == null) {
+                throw new IllegalArgumentException("Hedge budget cannot be null");
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
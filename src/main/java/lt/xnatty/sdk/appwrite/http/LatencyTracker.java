@@ -0,0 +1,40 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.util.Arrays;
+
+/** Sliding window of recent call latencies with a cached percentile that is recomputed every few samples. */
+final class LatencyTracker {
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final long[] samples;
+    private final double percentile;
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private long cachedNanos = -1;
+
+    LatencyTracker(int windowSize, double percentile) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            cachedNanos = sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+    }
+
+    /** The configured percentile of recent latencies, or -1 until enough samples have been recorded. */
+    synchronized long percentileNanos() {
+        return cachedNanos;
+    }
+}
@@ -0,0 +1,34 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import lt.xnatty.sdk.appwrite.exceptions.RateLimitException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public final class RateLimitInterceptor implements Interceptor {
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        if (rateLimiter == null) {
+            throw new IllegalArgumentException("Rate limiter cannot be null");
+        }
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        TokenBucket bucket = rateLimiter.bucket(request);
+        boolean acquired = rateLimiter.getMode() == RateLimiter.Mode.SHED
+                ? bucket.tryAcquire() == 0
+                : bucket.acquire(rateLimiter.getMaxWait().toNanos());
+        if (!acquired) {
+            throw new RateLimitException(
+                    "Local rate limit exceeded for route " + rateLimiter.routeOf(request), "client_rate_limited");
+        }
+        Response response = chain.proceed(request);
+        rateLimiter.observe(bucket, response);
+        return response;
+    }
+}
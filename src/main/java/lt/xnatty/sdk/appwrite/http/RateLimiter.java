@@ -0,0 +1,174 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Per-route token buckets, kept separately for every project. Buckets start from the configured rate and are
+ * tightened from Appwrite's {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset} response headers.
+ */
+public final class RateLimiter {
+    public static final String DOCUMENT_WRITES = "document-writes";
+    public static final String FILE_UPLOADS = "file-uploads";
+    public static final String EXECUTIONS = "executions";
+    public static final String DEFAULT = "default";
+
+    public enum Mode {
+        QUEUE,
+        SHED
+    }
+
+    private final Map<String, Limit> limits;
+    private final Limit defaultLimit;
+    private final Function<Request, String> classifier;
+    private final Mode mode;
+    private final Duration maxWait;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private RateLimiter(Builder builder) {
+        this.limits = Map.copyOf(builder.limits);
+        this.defaultLimit = builder.defaultLimit;
+        this.classifier = builder.classifier;
+        this.mode = builder.mode;
+        this.maxWait = builder.maxWait;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public String routeOf(Request request) {
+        return classifier.apply(request);
+    }
+
+    public TokenBucket bucket(Request request) {
+        String route = routeOf(request);
+        String project = request.header("X-Appwrite-Project");
+        return buckets.computeIfAbsent(project + '|' + route, key -> {
+            Limit limit = limits.getOrDefault(route, defaultLimit);
+            return new TokenBucket(limit.permitsPerSecond, limit.burst);
+        });
+    }
+
+    void observe(TokenBucket bucket, Response response) {
+        String remaining = response.header("X-RateLimit-Remaining");
+        String reset = response.header("X-RateLimit-Reset");
+        long resetNanos = resetNanoTime(reset);
+        if (response.code() == 429 && resetNanos != 0) {
+            bucket.blockUntil(resetNanos);
+            return;
+        }
+        if (remaining == null) {
+            return;
+        }
+        try {
+            long left = Long.parseLong(remaining.trim());
+            if (left <= 0 && resetNanos != 0) {
+                bucket.blockUntil(resetNanos);
+            } else {
+                bucket.limitTo(left);
+            }
+        } catch (NumberFormatException ignored) {
+            // Malformed header; keep the local estimate.
+        }
+    }
+
+    private static long resetNanoTime(String reset) {
+        if (reset == null) {
+            return 0;
+        }
+        try {
+            long resetMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(reset.trim()));
+            long delayMillis = resetMillis - System.currentTimeMillis();
+            return delayMillis <= 0 ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    static String defaultRoute(Request request) {
+        String method = request.method();
+        String path = request.url().encodedPath();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return DEFAULT;
+        }
+        if (path.contains("/documents")) {
+            return DOCUMENT_WRITES;
+        }
+        if ("POST".equals(method) && path.matches(".*/storage/buckets/[^/]+/files/?")) {
+            return FILE_UPLOADS;
+        }
+        if ("POST".equals(method) && path.matches(".*/functions/[^/]+/executions/?")) {
+            return EXECUTIONS;
+        }
+        return DEFAULT;
+    }
+
+    private record Limit(double permitsPerSecond, double burst) {}
+
+    public static class Builder {
+        private final Map<String, Limit> limits = new HashMap<>();
+        private Limit defaultLimit = new Limit(50, 50);
+        private Function<Request, String> classifier = RateLimiter::defaultRoute;
+        private Mode mode = Mode.QUEUE;
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        private Builder() {}
+
+        public Builder route(String route, double permitsPerSecond, int burst) {
+            if (route == null || route.isBlank()) {
+                throw new IllegalArgumentException("Route cannot be null or empty");
+            }
+            limits.put(route, limit(permitsPerSecond, burst));
+            return this;
+        }
+
+        public Builder defaultLimit(double permitsPerSecond, int burst) {
+            this.defaultLimit = limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        public Builder classifier(Function<Request, String> classifier) {
+            if (classifier == null) {
+                throw new IllegalArgumentException("Classifier cannot be null");
+            }
+            this.classifier = classifier;
+            return this;
+        }
+
+        /** QUEUE waits up to {@code maxWait} for a permit before shedding; SHED fails immediately. */
+        public Builder mode(Mode mode, Duration maxWait) {
+            if (mode == null || maxWait == null || maxWait.isNegative()) {
+                throw new IllegalArgumentException("Mode and max wait cannot be null or negative");
+            }
+            this.mode = mode;
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+
+        private static Limit limit(double permitsPerSecond, int burst) {
+            if (permitsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+            }
+            return new Limit(permitsPerSecond, burst);
+        }
+    }
+}
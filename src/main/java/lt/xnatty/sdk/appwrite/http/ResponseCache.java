@@ -0,0 +1,191 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Request;
+
+/**
+ * In-memory, size-bounded store of GET responses for {@link ResponseCacheInterceptor}. Entries are keyed by project,
+ * API key and URL, so tenants sharing a transport never see each other's responses, and nothing is written to disk.
+ * Each service method can have its own freshness; a stale entry with an {@code ETag} or {@code Last-Modified}
+ * validator is revalidated with a conditional request.
+ */
+public final class ResponseCache {
+    private final long maxBytes;
+    private final Duration defaultFreshness;
+    private final Map<String, Duration> freshness;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long bytes;
+
+    private ResponseCache(Builder builder) {
+        this.maxBytes = builder.maxBytes;
+        this.defaultFreshness = builder.defaultFreshness;
+        this.freshness = Map.copyOf(builder.freshness);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /** Stale entries confirmed unchanged by a 304 response. */
+    public long revalidationCount() {
+        return revalidations.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long byteSize() {
+        return bytes;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    long maxEntryBytes() {
+        return maxBytes;
+    }
+
+    Duration freshnessOf(Request request) {
+        return freshness.getOrDefault(ServiceRoutes.nameOf(request), defaultFreshness);
+    }
+
+    static String keyOf(Request request) {
+        return request.header("X-Appwrite-Project") + "\u0000" + request.header("X-Appwrite-Key") + "\u0000"
+                + request.url();
+    }
+
+    synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, Entry entry) {
+        if (entry.body.length > maxBytes) {
+            return;
+        }
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes -= previous.body.length;
+        }
+        bytes += entry.body.length;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().body.length;
+            eldest.remove();
+        }
+    }
+
+    /** Drops entries for {@code path}, and optionally everything below it, for all projects and keys. */
+    synchronized void invalidate(String path, boolean descendants) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.path.equals(path) || (descendants && entry.path.startsWith(path + "/"))) {
+                bytes -= entry.body.length;
+                iterator.remove();
+            }
+        }
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordRevalidation() {
+        revalidations.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    static final class Entry {
+        final String path;
+        final int code;
+        final String message;
+        final Headers headers;
+        final MediaType contentType;
+        final byte[] body;
+        volatile long storedAtNanos;
+
+        Entry(String path, int code, String message, Headers headers, MediaType contentType, byte[] body) {
+            this.path = path;
+            this.code = code;
+            this.message = message;
+            this.headers = headers;
+            this.contentType = contentType;
+            this.body = body;
+            this.storedAtNanos = System.nanoTime();
+        }
+
+        boolean isFresh(Duration freshness) {
+            return System.nanoTime() - storedAtNanos < freshness.toNanos();
+        }
+
+        boolean hasValidator() {
+            return headers.get("ETag") != null || headers.get("Last-Modified") != null;
+        }
+    }
+
+    public static class Builder {
+        private long maxBytes = 10L * 1024 * 1024;
+        private Duration defaultFreshness = Duration.ZERO;
+        private final Map<String, Duration> freshness = new HashMap<>();
+
+        private Builder() {}
+
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes < 1) {
+                throw new IllegalArgumentException("Max bytes must be positive");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /** Freshness for routes without their own policy; zero revalidates on every read. */
+        public Builder defaultFreshness(Duration freshness) {
+            this.defaultFreshness = requireNonNegative(freshness);
+            return this;
+        }
+
+        /** Freshness for one service method, named like {@code DatabaseService#getCollection}. */
+        public Builder freshness(String route, Duration freshness) {
+            if (route == null || route.isBlank()) {
+                throw new IllegalArgumentException("Route cannot be null or empty");
+            }
+            this.freshness.put(route, requireNonNegative(freshness));
+            return this;
+        }
+
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+
+        private static Duration requireNonNegative(Duration freshness) {
+            if (freshness == null || freshness.isNegative()) {
+                throw new IllegalArgumentException("Freshness cannot be null or negative");
+            }
+            return freshness;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import java.time.Duration;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Serves GET requests from a {@link ResponseCache}: fresh entries are returned without a network call, stale ones are
+ * revalidated with {@code If-None-Match}/{@code If-Modified-Since} and a 304 is answered from the cached body.
+ * Successful writes invalidate cached responses under the written path and its parent listing. Must run after the
+ * interceptor that adds the project headers.
+ */
+public final class ResponseCacheInterceptor implements Interceptor {
+    private final ResponseCache cache;
+
+    public ResponseCacheInterceptor(ResponseCache cache) {
+        if (cache == null) {
+            throw new IllegalArgumentException("Response cache cannot be null");
+        }
+        this.cache = cache;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method())) {
+            Response response = chain.proceed(request);
+            if (response.isSuccessful() && !"HEAD".equals(request.method())) {
+                invalidate(request.url().encodedPath());
+            }
+            return response;
+        }
+        if (request.header("If-None-Match") != null
+                || request.header("If-Modified-Since") != null
+                || request.cacheControl().noStore()) {
+            return chain.proceed(request);
+        }
+        String key = ResponseCache.keyOf(request);
+        Duration freshness = cache.freshnessOf(request);
+        ResponseCache.Entry entry = cache.get(key);
+        if (entry != null && entry.isFresh(freshness) && !request.cacheControl().noCache()) {
+            cache.recordHit();
+            return fromCache(request, entry);
+        }
+        Request network = request;
+        if (entry != null && entry.hasValidator()) {
+            Request.Builder conditional = request.newBuilder();
+            String etag = entry.headers.get("ETag");
+            String lastModified = entry.headers.get("Last-Modified");
+            if (etag != null) {
+                conditional.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                conditional.header("If-Modified-Since", lastModified);
+            }
+            network = conditional.build();
+        }
+        Response response = chain.proceed(network);
+        if (response.code() == 304 && entry != null) {
+            response.close();
+            entry.storedAtNanos = System.nanoTime();
+            cache.recordRevalidation();
+            return fromCache(request, entry);
+        }
+        cache.recordMiss();
+        return store(request, key, freshness, response);
+    }
+
+    private Response store(Request request, String key, Duration freshness, Response response) throws IOException {
+        ResponseBody body = response.body();
+        boolean cacheable = response.code() == 200
+                && body != null
+                && body.contentLength() <= cache.maxEntryBytes()
+                && !response.cacheControl().noStore()
+                && (!freshness.isZero() || response.header("ETag") != null || response.header("Last-Modified") != null);
+        if (!cacheable) {
+            return response;
+        }
+        byte[] bytes = body.bytes();
+        ResponseCache.Entry entry = new ResponseCache.Entry(
+                request.url().encodedPath(),
+                response.code(),
+                response.message(),
+                response.headers(),
+                body.contentType(),
+                bytes);
+        cache.put(key, entry);
+        return response.newBuilder()
+                .body(ResponseBody.create(bytes, body.contentType()))
+                .build();
+    }
+
+    private void invalidate(String path) {
+        cache.invalidate(path, true);
+        int parent = path.lastIndexOf('/');
+        if (parent > 0) {
+            cache.invalidate(path.substring(0, parent), false);
+        }
+    }
+
+    private static Response fromCache(Request request, ResponseCache.Entry entry) {
+        long now = System.currentTimeMillis();
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(entry.code)
+                .message(entry.message)
+                .headers(entry.headers)
+                .body(ResponseBody.create(entry.body, entry.contentType))
+                .sentRequestAtMillis(now)
+                .receivedResponseAtMillis(now)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package lt.xnatty.sdk.appwrite.http;
+
+/**
+ * Caps retries to a fraction of recent traffic so that retrying cannot multiply load during an outage. Every
+ * original request deposits {@code ratio} tokens, every retry withdraws one, and a small per-second allowance keeps
+ * low-traffic clients able to retry at all.
+ */
+public final class RetryBudget {
+    private final double ratio;
+    private final double minRetriesPerSecond;
+    private final double maxTokens;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public RetryBudget(double ratio, double minRetriesPerSecond) {
+        if (ratio < 0 || minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("Retry budget ratio and minimum rate cannot be negative");
+        }
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxTokens = Math.max(1, minRetriesPerSecond + ratio * 100);
+        this.tokens = minRetriesPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public static RetryBudget unlimited() {
+        return new RetryBudget(Double.POSITIVE_INFINITY, 0);
+    }
+
+    public synchronized void recordRequest() {
+        refill();
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (Double.isInfinite(ratio)) {
+            return true;
+        }
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double availableRetries() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastRefillNanos) / 1e9;
+        lastRefillNanos = now;
+        tokens = Math.min(maxTokens, tokens + elapsedSeconds * minRetriesPerSecond);
+    }
+}
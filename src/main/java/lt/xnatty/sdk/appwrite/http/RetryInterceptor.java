@@ -0,0 +1,109 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public final class RetryInterceptor implements Interceptor {
+    private final RetryPolicy policy;
+
+    public RetryInterceptor(RetryPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Retry policy cannot be null");
+        }
+        this.policy = policy;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        policy.getBudget().recordRequest();
+        boolean idempotent = policy.isIdempotent(request);
+        for (int attempt = 1; ; attempt++) {
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                failure = e;
+            }
+            boolean retryable = response != null ? policy.isRetryableStatus(response.code()) : isRetryable(failure);
+            if (!retryable
+                    || !idempotent
+                    || attempt >= policy.getMaxAttempts()
+                    || chain.call().isCanceled()) {
+                return complete(response, failure);
+            }
+            long delay = policy.backoffMillis(attempt);
+            if (response != null) {
+                Long retryAfter = retryAfterMillis(response.header("Retry-After"));
+                if (retryAfter != null) {
+                    if (retryAfter > policy.getMaxRetryAfter().toMillis()) {
+                        return response;
+                    }
+                    delay = Math.max(delay, retryAfter);
+                }
+            }
+            if (!policy.getBudget().tryWithdraw()) {
+                return complete(response, failure);
+            }
+            if (response != null) {
+                response.close();
+            }
+            sleep(delay);
+            if (chain.call().isCanceled()) {
+                throw new IOException("Canceled");
+            }
+        }
+    }
+
+    private static boolean isRetryable(IOException failure) {
+        return !(failure instanceof AppwriteException) && !"Canceled".equals(failure.getMessage());
+    }
+
+    private static Response complete(Response response, IOException failure) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        return response;
+    }
+
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while backing off");
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+    }
+
+    static Long retryAfterMillis(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException ignored) {
+            // Not delta-seconds; try an HTTP date.
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(
+                    0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import okhttp3.Request;
+import retrofit2.Invocation;
+import retrofit2.http.Field;
+import retrofit2.http.Part;
+
+public final class RetryPolicy {
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final Duration maxRetryAfter;
+    private final Set<Integer> retryableStatusCodes;
+    private final RetryBudget budget;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.maxRetryAfter = builder.maxRetryAfter;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.budget = builder.budget;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    public boolean isRetryableStatus(int code) {
+        return retryableStatusCodes.contains(code);
+    }
+
+    /** Full-jitter exponential backoff for the given 1-based attempt that just failed. */
+    public long backoffMillis(int attempt) {
+        double ceiling = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        long capped = (long) Math.min(maxBackoff.toMillis(), ceiling);
+        return capped <= 0 ? 0 : ThreadLocalRandom.current().nextLong(capped + 1);
+    }
+
+    /**
+     * GET, HEAD, OPTIONS, PUT and DELETE are retried freely. POST is retried only when the service method sends a
+     * client-chosen resource ID (a non-null {@code @Field} or {@code @Part} named like {@code documentId}), so a
+     * repeated create fails with a conflict instead of creating a duplicate.
+     */
+    public boolean isIdempotent(Request request) {
+        String method = request.method();
+        if (IDEMPOTENT_METHODS.contains(method)) {
+            return true;
+        }
+        if (!"POST".equals(method)) {
+            return false;
+        }
+        Invocation invocation = request.tag(Invocation.class);
+        if (invocation == null) {
+            return false;
+        }
+        Annotation[][] parameterAnnotations = invocation.method().getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            Object argument = invocation.arguments().get(i);
+            for (Annotation annotation : parameterAnnotations[i]) {
+                String name = null;
+                if (annotation instanceof Field field) {
+                    name = field.value();
+                } else if (annotation instanceof Part part) {
+                    name = part.value();
+                }
+                if (name != null && name.endsWith("Id") && isClientSuppliedId(argument)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isClientSuppliedId(Object argument) {
+        return argument instanceof String id && !id.isBlank() && !"unique()".equals(id);
+    }
+
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private double multiplier = 2;
+        private Duration maxRetryAfter = Duration.ofSeconds(30);
+        private Set<Integer> retryableStatusCodes = Set.of(429, 502, 503, 504);
+        private RetryBudget budget = new RetryBudget(0.1, 10);
+
+        private Builder() {}
+
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder backoff(Duration initialBackoff, Duration maxBackoff, double multiplier) {
+            if (initialBackoff == null
+                    || initialBackoff.isNegative()
+                    || maxBackoff == null
+                    || maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException("Backoff must be non-negative and max backoff at least the initial");
+            }
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("Backoff multiplier must be at least 1");
+            }
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /** Longest Retry-After the client is willing to wait; longer server hints return the response as is. */
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            if (maxRetryAfter == null || maxRetryAfter.isNegative()) {
+                throw new IllegalArgumentException("Max Retry-After cannot be null or negative");
+            }
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
+        public Builder retryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            if (retryableStatusCodes == null) {
+                throw new IllegalArgumentException("Retryable status codes cannot be null");
+            }
+            this.retryableStatusCodes = retryableStatusCodes;
+            return this;
+        }
+
+        public Builder budget(RetryBudget budget) {
+            if (budget == null) {
+                throw new IllegalArgumentException("Retry budget cannot be null");
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
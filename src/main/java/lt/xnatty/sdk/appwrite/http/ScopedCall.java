@@ -0,0 +1,63 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import lt.xnatty.sdk.appwrite.config.AppwriteConfig;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+public final class ScopedCall<T> implements Call<T> {
+    private final Call<T> delegate;
+    private final AppwriteConfig credentials;
+
+    public ScopedCall(Call<T> delegate, AppwriteConfig credentials) {
+        this.delegate = delegate;
+        this.credentials = credentials;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        return CredentialsScope.supply(credentials, delegate::execute);
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+        CredentialsScope.run(credentials, () -> delegate.enqueue(callback));
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return delegate.isExecuted();
+    }
+
+    @Override
+    public void cancel() {
+        delegate.cancel();
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return delegate.isCanceled();
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new ScopedCall<>(delegate.clone(), credentials);
+    }
+
+    @Override
+    public Request request() {
+        try {
+            return CredentialsScope.supply(credentials, delegate::request);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+}
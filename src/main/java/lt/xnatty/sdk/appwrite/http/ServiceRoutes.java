@@ -0,0 +1,27 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.lang.reflect.Method;
+import okhttp3.Request;
+import retrofit2.Invocation;
+
+final class ServiceRoutes {
+
+    private ServiceRoutes() {}
+
+    /**
+     * Names the service method behind a request, e.g. {@code StorageService#getFile}; sync and async variants share a
+     * name. Requests not created by a service method are named by HTTP method and path.
+     */
+    static String nameOf(Request request) {
+        Invocation invocation = request.tag(Invocation.class);
+        if (invocation != null) {
+            Method method = invocation.method();
+            String service = method.getDeclaringClass().getSimpleName();
+            if (service.startsWith("Async")) {
+                service = service.substring("Async".length());
+            }
+            return service + "#" + method.getName();
+        }
+        return request.method() + " " + request.url().encodedPath();
+    }
+}
@@ -0,0 +1,228 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lt.xnatty.sdk.appwrite.config.AppwriteConfig;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Joins an in-flight call with the same key or becomes its leader. The shared call is cancelled only once every
+ * waiter has cancelled; a waiter that cancels on its own just stops waiting.
+ */
+final class SingleFlightCall<T> implements Call<T> {
+    private final Call<T> delegate;
+    private final String responseType;
+    private final Map<String, Flight<?>> inFlight;
+    private boolean executed;
+    private volatile boolean canceled;
+    private volatile Flight<T> flight;
+
+    SingleFlightCall(Call<T> delegate, String responseType, Map<String, Flight<?>> inFlight) {
+        this.delegate = delegate;
+        this.responseType = responseType;
+        this.inFlight = inFlight;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        markExecuted();
+        Flight<T> joined = join();
+        if (joined.leader == this) {
+            try {
+                joined.complete(delegate.execute());
+            } catch (IOException | RuntimeException e) {
+                joined.fail(e);
+            }
+        }
+        try {
+            Response<T> response = joined.responseFor();
+            if (canceled) {
+                throw new IOException("Canceled");
+            }
+            return response;
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for coalesced call");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+        markExecuted();
+        Flight<T> joined = join();
+        if (joined.leader == this) {
+            delegate.enqueue(new Callback<>() {
+                @Override
+                public void onResponse(Call<T> call, Response<T> response) {
+                    joined.complete(response);
+                }
+
+                @Override
+                public void onFailure(Call<T> call, Throwable t) {
+                    joined.fail(t);
+                }
+            });
+        }
+        joined.result.whenComplete((response, error) -> {
+            if (canceled) {
+                callback.onFailure(this, new IOException("Canceled"));
+            } else if (error != null) {
+                callback.onFailure(this, error);
+            } else {
+                callback.onResponse(this, joined.share(response));
+            }
+        });
+    }
+
+    private synchronized void markExecuted() {
+        if (executed) {
+            throw new IllegalStateException("Already executed.");
+        }
+        executed = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flight<T> join() {
+        String key = keyOf(delegate.request()) + "\u0000" + responseType;
+        while (true) {
+            Flight<T> candidate = new Flight<>(key, this, inFlight);
+            Flight<T> existing = (Flight<T>) inFlight.putIfAbsent(key, candidate);
+            Flight<T> joined = existing == null ? candidate : existing;
+            if (joined.enter()) {
+                flight = joined;
+                return joined;
+            }
+            inFlight.remove(key, existing);
+        }
+    }
+
+    static String keyOf(Request request) {
+        AppwriteConfig credentials = request.tag(AppwriteConfig.class);
+        String scope = credentials == null ? "" : credentials.getProjectId() + "\u0000" + credentials.getApiKey();
+        return request.method() + " " + request.url() + "\u0000" + scope;
+    }
+
+    @Override
+    public synchronized boolean isExecuted() {
+        return executed;
+    }
+
+    @Override
+    public void cancel() {
+        if (canceled) {
+            return;
+        }
+        canceled = true;
+        Flight<T> joined = flight;
+        if (joined == null) {
+            delegate.cancel();
+        } else {
+            joined.leave();
+        }
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new SingleFlightCall<>(delegate.clone(), responseType, inFlight);
+    }
+
+    @Override
+    public Request request() {
+        return delegate.request();
+    }
+
+    @Override
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+
+    static final class Flight<T> {
+        private final String key;
+        private final SingleFlightCall<T> leader;
+        private final Map<String, Flight<?>> inFlight;
+        private final CompletableFuture<Response<T>> result = new CompletableFuture<>();
+        private int waiters;
+        private boolean abandoned;
+        private byte[] errorBytes;
+        private MediaType errorType;
+
+        Flight(String key, SingleFlightCall<T> leader, Map<String, Flight<?>> inFlight) {
+            this.key = key;
+            this.leader = leader;
+            this.inFlight = inFlight;
+        }
+
+        synchronized boolean enter() {
+            if (abandoned) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        void leave() {
+            synchronized (this) {
+                if (--waiters > 0 || result.isDone()) {
+                    return;
+                }
+                abandoned = true;
+            }
+            inFlight.remove(key, this);
+            leader.delegate.cancel();
+            result.completeExceptionally(new IOException("Canceled"));
+        }
+
+        void complete(Response<T> response) {
+            inFlight.remove(key, this);
+            if (!response.isSuccessful() && response.errorBody() != null) {
+                try (ResponseBody body = response.errorBody()) {
+                    errorType = body.contentType();
+                    errorBytes = body.bytes();
+                } catch (IOException e) {
+                    errorBytes = new byte[0];
+                }
+            }
+            result.complete(response);
+        }
+
+        void fail(Throwable error) {
+            inFlight.remove(key, this);
+            result.completeExceptionally(error);
+        }
+
+        Response<T> responseFor() throws InterruptedException, ExecutionException {
+            return share(result.get());
+        }
+
+        /** Error bodies are one-shot streams, so each waiter gets its own copy of the buffered bytes. */
+        Response<T> share(Response<T> response) {
+            if (response.isSuccessful() || errorBytes == null) {
+                return response;
+            }
+            return Response.error(ResponseBody.create(errorBytes, errorType), response.raw());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+import retrofit2.http.GET;
+import retrofit2.http.Streaming;
+
+/**
+ * Coalesces identical in-flight GET calls: calls with the same URL, credentials and response type started while one is already
+ * running wait for it and receive its response instead of issuing their own request. Successful bodies are shared
+ * between all waiters, so callers must treat them as read-only. Raw {@link ResponseBody} results can be read only
+ * once and are never coalesced, nor are {@code @Streaming} methods.
+ */
+public final class SingleFlightCallAdapterFactory extends CallAdapter.Factory {
+    private final Map<String, SingleFlightCall.Flight<?>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Call.class) {
+            return null;
+        }
+        boolean get = false;
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType() == Streaming.class) {
+                return null;
+            }
+            get |= annotation.annotationType() == GET.class;
+        }
+        if (!get || getRawType(getParameterUpperBound(0, (ParameterizedType) returnType)) == ResponseBody.class) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        CallAdapter<Object, Call<Object>> next =
+                (CallAdapter<Object, Call<Object>>) retrofit.nextCallAdapter(this, returnType, annotations);
+        return new CallAdapter<Object, Call<Object>>() {
+            @Override
+            public Type responseType() {
+                return next.responseType();
+            }
+
+            @Override
+            public Call<Object> adapt(Call<Object> call) {
+                return new SingleFlightCall<>(next.adapt(call), responseType().getTypeName(), inFlight);
+            }
+        };
+    }
+
+    /** Number of distinct requests currently in flight. */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
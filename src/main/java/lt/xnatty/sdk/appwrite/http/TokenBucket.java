@@ -0,0 +1,86 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+public final class TokenBucket {
+    private final double permitsPerSecond;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+    private long blockedUntilNanos;
+
+    public TokenBucket(double permitsPerSecond, double capacity) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Rate must be positive and capacity at least 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.blockedUntilNanos = lastRefillNanos;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /** Takes a permit if one is available now; otherwise returns the nanoseconds until one will be. */
+    public synchronized long tryAcquire() {
+        long now = System.nanoTime();
+        refill(now);
+        if (now - blockedUntilNanos < 0) {
+            return blockedUntilNanos - now;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /** Waits up to {@code maxWaitNanos} for a permit; returns false if none became available in time. */
+    public boolean acquire(long maxWaitNanos) throws InterruptedIOException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        for (; ; ) {
+            long wait = tryAcquire();
+            if (wait == 0) {
+                return true;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (wait > remaining) {
+                return false;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                InterruptedIOException interrupted = new InterruptedIOException("Interrupted while rate limited");
+                interrupted.initCause(e);
+                throw interrupted;
+            }
+        }
+    }
+
+    /** Lowers the local allowance to what the server reports as remaining in the current window. */
+    public synchronized void limitTo(double remaining) {
+        refill(System.nanoTime());
+        tokens = Math.min(tokens, Math.max(0, remaining));
+    }
+
+    /** Hands out no permits until the given {@link System#nanoTime()} instant. */
+    public synchronized void blockUntil(long nanoTime) {
+        if (nanoTime - blockedUntilNanos > 0) {
+            blockedUntilNanos = nanoTime;
+        }
+        tokens = 0;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package lt.xnatty.sdk.appwrite.json;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Converter;
+import retrofit2.Response;
+
+/**
+ * Adapts a raw-body call to a typed one by converting successful bodies. This lets a single Retrofit endpoint serve
+ * any target type chosen at runtime; error responses are passed through untouched.
+ */
+public final class ConvertingCall<T> implements Call<T> {
+    private final Call<ResponseBody> delegate;
+    private final Converter<ResponseBody, T> converter;
+
+    /** The converter owns the body and must close it. */
+    public ConvertingCall(Call<ResponseBody> delegate, Converter<ResponseBody, T> converter) {
+        this.delegate = delegate;
+        this.converter = converter;
+    }
+
+    public ConvertingCall(Call<ResponseBody> delegate, Gson gson, TypeToken<T> type) {
+        this(delegate, adapterConverter(gson.getAdapter(type)));
+    }
+
+    private static <T> Converter<ResponseBody, T> adapterConverter(TypeAdapter<T> adapter) {
+        return body -> ModelGson.read(body, adapter);
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        return convert(delegate.execute());
+    }
+
+    @Override
+    public void enqueue(Callback<T> callback) {
+        delegate.enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
+                Response<T> converted;
+                try {
+                    converted = convert(response);
+                } catch (IOException | RuntimeException e) {
+                    callback.onFailure(ConvertingCall.this, e);
+                    return;
+                }
+                callback.onResponse(ConvertingCall.this, converted);
+            }
+
+            @Override
+            public void onFailure(Call<ResponseBody> call, Throwable t) {
+                callback.onFailure(ConvertingCall.this, t);
+            }
+        });
+    }
+
+    private Response<T> convert(Response<ResponseBody> response) throws IOException {
+        if (!response.isSuccessful()) {
+            return Response.error(response.errorBody(), response.raw());
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            return Response.success(null, response.raw());
+        }
+        return Response.success(converter.convert(body), response.raw());
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return delegate.isExecuted();
+    }
+
+    @Override
+    public void cancel() {
+        delegate.cancel();
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return delegate.isCanceled();
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new ConvertingCall<>(delegate.clone(), converter);
+    }
+
+    @Override
+    public Request request() {
+        return delegate.request();
+    }
+
+    @Override
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+}
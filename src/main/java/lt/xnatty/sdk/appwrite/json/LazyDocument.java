@@ -0,0 +1,353 @@
+package lt.xnatty.sdk.appwrite.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.models.Document;
+import okhttp3.ResponseBody;
+
+/**
+ * A document kept as its raw UTF-8 JSON plus an index of where each attribute's value starts and ends. Parsing only
+ * scans the bytes to build the index; an attribute is decoded when it is read, and decoded again on every read, so
+ * the instance stays at roughly the size of the response. This suits reads that touch a few fields of wide
+ * documents, and caches that hold many documents ({@link #byteSize()} works as a weigher). Values are decoded with
+ * the {@link Gson} given when parsing, by default the shared {@link ModelGson}.
+ */
+public final class LazyDocument {
+    private static final TypeToken<List<String>> STRING_LIST = new TypeToken<>() {};
+    private static final String[] SYSTEM_FIELDS = {
+        "$id", "$createdAt", "$updatedAt", "$collectionId", "$databaseId", "$permissions"
+    };
+    private static final int PERMISSIONS = 5;
+
+    private final byte[] json;
+    /** Start and end offsets of the system fields, in {@link #SYSTEM_FIELDS} order; -1 when absent. */
+    private final int[] system;
+
+    private final String[] names;
+    /** Start and end offsets of the value of {@code names[i]} at {@code 2 * i} and {@code 2 * i + 1}. */
+    private final int[] offsets;
+
+    private final Gson gson;
+
+    private LazyDocument(byte[] json, int[] system, String[] names, int[] offsets, Gson gson) {
+        this.json = json;
+        this.gson = gson;
+        this.system = system;
+        this.names = names;
+        this.offsets = offsets;
+    }
+
+    /** Indexes the document; the array is kept, not copied, and must not be modified afterwards. */
+    public static LazyDocument parse(byte[] json) throws MalformedJsonException {
+        return parse(json, ModelGson.get());
+    }
+
+    /** Indexes the document; attributes will be decoded with {@code gson}, such as a transport's. */
+    public static LazyDocument parse(byte[] json, Gson gson) throws MalformedJsonException {
+        if (gson == null) {
+            throw new IllegalArgumentException("Gson cannot be null");
+        }
+        return new Indexer(json).index(gson);
+    }
+
+    /** Reads the whole body and indexes it. */
+    public static LazyDocument read(ResponseBody body) throws IOException {
+        return read(body, ModelGson.get());
+    }
+
+    public static LazyDocument read(ResponseBody body, Gson gson) throws IOException {
+        try (body) {
+            return parse(body.bytes(), gson);
+        }
+    }
+
+    public String getId() {
+        return systemString(0);
+    }
+
+    public String getCreatedAt() {
+        return systemString(1);
+    }
+
+    public String getUpdatedAt() {
+        return systemString(2);
+    }
+
+    public String getCollectionId() {
+        return systemString(3);
+    }
+
+    public String getDatabaseId() {
+        return systemString(4);
+    }
+
+    public List<String> getPermissions() {
+        return system[2 * PERMISSIONS] < 0
+                ? null
+                : decode(system[2 * PERMISSIONS], system[2 * PERMISSIONS + 1], gson.getAdapter(STRING_LIST));
+    }
+
+    /** Attribute names in document order. */
+    public List<String> attributeNames() {
+        return List.of(names);
+    }
+
+    public boolean has(String attribute) {
+        return indexOf(attribute) >= 0;
+    }
+
+    /** Decodes the attribute as Gson would into a map: objects become maps, numbers doubles. */
+    public Object get(String attribute) {
+        return get(attribute, Object.class);
+    }
+
+    public <T> T get(String attribute, Class<T> type) {
+        return get(attribute, TypeToken.get(type));
+    }
+
+    /** Decodes a single attribute into {@code type}; returns null when the attribute is absent. */
+    public <T> T get(String attribute, TypeToken<T> type) {
+        int index = indexOf(attribute);
+        if (index < 0) {
+            return null;
+        }
+        return decode(offsets[2 * index], offsets[2 * index + 1], gson.getAdapter(type));
+    }
+
+    /** The attribute's undecoded JSON text, or null when absent. */
+    public String getRaw(String attribute) {
+        int index = indexOf(attribute);
+        if (index < 0) {
+            return null;
+        }
+        int start = offsets[2 * index];
+        return new String(json, start, offsets[2 * index + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    /** Fully decodes the document, as {@code getDocument} would have. */
+    public Document<Map<String, Object>> toDocument() {
+        return decode(0, json.length, gson.getAdapter(ModelGson.documentType(new TypeToken<>() {})));
+    }
+
+    /** Approximate retained size in bytes. */
+    public long byteSize() {
+        long size = 64 + json.length + 4L * (system.length + offsets.length);
+        for (String name : names) {
+            size += 40 + name.length();
+        }
+        return size;
+    }
+
+    private int indexOf(String attribute) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(attribute)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String systemString(int index) {
+        int start = system[2 * index];
+        if (start < 0 || json[start] != '"') {
+            return null;
+        }
+        int end = system[2 * index + 1];
+        for (int i = start + 1; i < end - 1; i++) {
+            if (json[i] == '\\') {
+                return decode(start, end, gson.getAdapter(String.class));
+            }
+        }
+        return new String(json, start + 1, end - start - 2, StandardCharsets.UTF_8);
+    }
+
+    private <T> T decode(int start, int end, TypeAdapter<T> adapter) {
+        JsonReader reader = new JsonReader(
+                new InputStreamReader(new ByteArrayInputStream(json, start, end - start), StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        try {
+            return adapter.read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Single pass over the bytes that records value boundaries without decoding values. */
+    private static final class Indexer {
+        private final byte[] json;
+        private final int[] system = new int[2 * SYSTEM_FIELDS.length];
+        private final Map<String, int[]> attributes = new LinkedHashMap<>();
+        private int pos;
+
+        Indexer(byte[] json) {
+            this.json = json;
+            Arrays.fill(system, -1);
+        }
+
+        LazyDocument index(Gson gson) throws MalformedJsonException {
+            expect('{');
+            if (peek() != '}') {
+                do {
+                    String name = readName();
+                    int start = skipWhitespace();
+                    if ("data".equals(name) && start < json.length && json[start] == '{') {
+                        indexAttributes();
+                        continue;
+                    }
+                    skipValue();
+                    int field = Arrays.asList(SYSTEM_FIELDS).indexOf(name);
+                    if (field >= 0) {
+                        system[2 * field] = start;
+                        system[2 * field + 1] = pos;
+                    }
+                } while (consumeComma());
+            }
+            expect('}');
+            String[] names = attributes.keySet().toArray(new String[0]);
+            int[] offsets = new int[2 * names.length];
+            for (int i = 0; i < names.length; i++) {
+                int[] range = attributes.get(names[i]);
+                offsets[2 * i] = range[0];
+                offsets[2 * i + 1] = range[1];
+            }
+            return new LazyDocument(json, system, names, offsets, gson);
+        }
+
+        private void indexAttributes() throws MalformedJsonException {
+            expect('{');
+            if (peek() != '}') {
+                do {
+                    String name = readName();
+                    int start = skipWhitespace();
+                    skipValue();
+                    attributes.put(name, new int[] {start, pos});
+                } while (consumeComma());
+            }
+            expect('}');
+        }
+
+        private String readName() throws MalformedJsonException {
+            skipWhitespace();
+            int start = pos;
+            skipString();
+            boolean escaped = false;
+            for (int i = start + 1; i < pos - 1; i++) {
+                escaped |= json[i] == '\\';
+            }
+            String name = escaped
+                    ? unescape(start, pos)
+                    : new String(json, start + 1, pos - start - 2, StandardCharsets.UTF_8);
+            expect(':');
+            return name;
+        }
+
+        private String unescape(int start, int end) throws MalformedJsonException {
+            try {
+                return ModelGson.get()
+                        .fromJson(new String(json, start, end - start, StandardCharsets.UTF_8), String.class);
+            } catch (JsonParseException e) {
+                throw malformed("invalid string");
+            }
+        }
+
+        private void skipValue() throws MalformedJsonException {
+            skipWhitespace();
+            if (pos >= json.length) {
+                throw malformed("value expected");
+            }
+            byte first = json[pos];
+            if (first == '"') {
+                skipString();
+                return;
+            }
+            if (first == '{' || first == '[') {
+                int depth = 0;
+                while (pos < json.length) {
+                    byte b = json[pos];
+                    if (b == '"') {
+                        skipString();
+                        continue;
+                    }
+                    if (b == '{' || b == '[') {
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        depth--;
+                    }
+                    pos++;
+                    if (depth == 0) {
+                        return;
+                    }
+                }
+                throw malformed("unterminated " + (first == '{' ? "object" : "array"));
+            }
+            int start = pos;
+            while (pos < json.length && ",}] \t\r\n".indexOf(json[pos]) < 0) {
+                pos++;
+            }
+            if (pos == start) {
+                throw malformed("value expected");
+            }
+        }
+
+        private void skipString() throws MalformedJsonException {
+            if (pos >= json.length || json[pos] != '"') {
+                throw malformed("string expected");
+            }
+            pos++;
+            while (pos < json.length) {
+                byte b = json[pos++];
+                if (b == '\\') {
+                    pos++;
+                } else if (b == '"') {
+                    return;
+                }
+            }
+            throw malformed("unterminated string");
+        }
+
+        private boolean consumeComma() {
+            if (peek() == ',') {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) throws MalformedJsonException {
+            if (peek() != c) {
+                throw malformed("'" + c + "' expected");
+            }
+            pos++;
+        }
+
+        private int peek() {
+            skipWhitespace();
+            return pos < json.length ? json[pos] : -1;
+        }
+
+        private int skipWhitespace() {
+            while (pos < json.length
+                    && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+                pos++;
+            }
+            return pos;
+        }
+
+        private MalformedJsonException malformed(String problem) {
+            return new MalformedJsonException(problem + " at byte " + pos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package lt.xnatty.sdk.appwrite.json;
+
+/** Outcome of a streamed list decode: how many elements were delivered and the list envelope's total, if any. */
+public final class ListSummary {
+    private final long count;
+    private final long total;
+
+    ListSummary(long count, long total) {
+        this.count = count;
+        this.total = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /** The envelope's {@code total}, or -1 when the response was a bare array. */
+    public long getTotal() {
+        return total;
+    }
+
+    public boolean hasTotal() {
+        return total >= 0;
+    }
+}
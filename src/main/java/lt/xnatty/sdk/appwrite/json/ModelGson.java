@@ -0,0 +1,87 @@
+package lt.xnatty.sdk.appwrite.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lt.xnatty.sdk.appwrite.models.CompactModelsFactory;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.GeneratedTypeAdapterFactory;
+import lt.xnatty.sdk.appwrite.models.StringPool;
+import okhttp3.ResponseBody;
+
+/** The {@link Gson} configured for the SDK's models. It is immutable and shared by every transport. */
+public final class ModelGson {
+    private static final Gson GSON = new GsonBuilder()
+            .setLenient()
+            .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+            .create();
+    // Compacted models keep their timestamps as numbers, which only the compacting adapters write back. This
+    // instance is used for writing only, so its pool stays empty.
+    private static final Gson WRITER = compact(new StringPool(1, 1));
+
+    private ModelGson() {}
+
+    public static Gson get() {
+        return GSON;
+    }
+
+    /** A Gson that compacts documents, files and memberships as they are decoded; see {@link CompactModelsFactory}. */
+    public static Gson compact(StringPool pool) {
+        return GSON.newBuilder()
+                .registerTypeAdapterFactory(new CompactModelsFactory(pool))
+                .create();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> TypeToken<Document<T>> documentType(TypeToken<T> dataType) {
+        return (TypeToken<Document<T>>) TypeToken.getParameterized(Document.class, dataType.getType());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> TypeToken<List<Document<T>>> documentListType(TypeToken<T> dataType) {
+        return (TypeToken<List<Document<T>>>)
+                TypeToken.getParameterized(List.class, documentType(dataType).getType());
+    }
+
+    /** Encodes a model as UTF-8 JSON; compacted models are written like regular ones. */
+    public static <T> byte[] toBytes(T value, TypeToken<T> type) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (JsonWriter out = new JsonWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8))) {
+            WRITER.getAdapter(type).write(out, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Decodes UTF-8 JSON written by {@link #toBytes} or sent by the server. */
+    public static <T> T fromBytes(byte[] json, TypeToken<T> type) throws IOException {
+        return fromBytes(json, GSON, type);
+    }
+
+    /** Same as {@link #fromBytes(byte[], TypeToken)} with the given Gson, such as a transport's compacting one. */
+    public static <T> T fromBytes(byte[] json, Gson gson, TypeToken<T> type) throws IOException {
+        try (JsonReader reader =
+                new JsonReader(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8))) {
+            reader.setLenient(true);
+            return gson.getAdapter(type).read(reader);
+        }
+    }
+
+    /** Decodes the whole body with the adapter and closes it. */
+    public static <T> T read(ResponseBody body, TypeAdapter<T> adapter) throws IOException {
+        try (body;
+                JsonReader reader = new JsonReader(body.charStream())) {
+            reader.setLenient(true);
+            return adapter.read(reader);
+        }
+    }
+}
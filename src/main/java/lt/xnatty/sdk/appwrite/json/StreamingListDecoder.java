@@ -0,0 +1,230 @@
+package lt.xnatty.sdk.appwrite.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import lt.xnatty.sdk.appwrite.models.Document;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Decodes a list response element by element with a {@link JsonReader} over the response body, handing each element
+ * to a consumer as soon as it is parsed instead of materializing the whole list. Both bare arrays and envelopes such
+ * as {@code {"total":5000,"documents":[...]}} are accepted. With read-ahead enabled, parsing runs on an executor and
+ * stays at most {@code readAhead} elements ahead of the consumer; otherwise only the element being consumed is held.
+ */
+public final class StreamingListDecoder<T> {
+    private static final Object NULL_ELEMENT = new Object();
+
+    private final TypeAdapter<T> adapter;
+    private final int readAhead;
+    private final Executor executor;
+
+    private StreamingListDecoder(Builder<T> builder) {
+        this.adapter = builder.gson.getAdapter(builder.type);
+        this.readAhead = builder.readAhead;
+        this.executor = builder.executor;
+    }
+
+    public static <T> Builder<T> builder(Gson gson, TypeToken<T> type) {
+        return new Builder<>(gson, type);
+    }
+
+    public static Builder<Document<Map<String, Object>>> documents(Gson gson) {
+        return new Builder<>(gson, new TypeToken<>() {});
+    }
+
+    /**
+     * Executes a {@code @Streaming} call and decodes its body. Unsuccessful responses are thrown as
+     * {@link AppwriteException}s without invoking the consumer.
+     */
+    public ListSummary decode(Call<ResponseBody> call, Consumer<? super T> consumer) throws IOException {
+        Response<ResponseBody> response = call.execute();
+        if (!response.isSuccessful()) {
+            throw AppwriteException.fromResponse(response);
+        }
+        return decode(response.body(), consumer);
+    }
+
+    /** Decodes the body and closes it. */
+    public ListSummary decode(ResponseBody body, Consumer<? super T> consumer) throws IOException {
+        if (body == null) {
+            return new ListSummary(0, -1);
+        }
+        try (body) {
+            if (readAhead == 0) {
+                return parse(body, consumer);
+            }
+            return parseAhead(body, consumer);
+        }
+    }
+
+    private ListSummary parse(ResponseBody body, Consumer<? super T> consumer) throws IOException {
+        try (JsonReader reader = new JsonReader(body.charStream())) {
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_ARRAY) {
+                return new ListSummary(readArray(reader, consumer), -1);
+            }
+            if (token != JsonToken.BEGIN_OBJECT) {
+                throw new JsonParseException("Expected a list or a list envelope but was " + token);
+            }
+            long count = 0;
+            long total = -1;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                JsonToken value = reader.peek();
+                if ("total".equals(name) && value == JsonToken.NUMBER) {
+                    total = reader.nextLong();
+                } else if (value == JsonToken.BEGIN_ARRAY) {
+                    count += readArray(reader, consumer);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return new ListSummary(count, total);
+        }
+    }
+
+    private long readArray(JsonReader reader, Consumer<? super T> consumer) throws IOException {
+        long count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            consumer.accept(adapter.read(reader));
+            count++;
+        }
+        reader.endArray();
+        return count;
+    }
+
+    private ListSummary parseAhead(ResponseBody body, Consumer<? super T> consumer) throws IOException {
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(readAhead);
+        Parser parser = new Parser(body, queue);
+        executor.execute(parser);
+        try {
+            for (; ; ) {
+                Object element = queue.take();
+                if (element instanceof ListSummary summary) {
+                    return summary;
+                }
+                if (element instanceof IOException e) {
+                    throw e;
+                }
+                if (element instanceof RuntimeException e) {
+                    throw e;
+                }
+                if (element instanceof Error e) {
+                    throw e;
+                }
+                consumer.accept(parser.cast(element));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while decoding");
+        } finally {
+            // Stops a parser that is still running because the consumer failed or the caller was interrupted.
+            parser.cancelled = true;
+            queue.clear();
+        }
+    }
+
+    /** Parses on the executor, handing elements over through the bounded queue. */
+    private final class Parser implements Runnable {
+        private final ResponseBody body;
+        private final BlockingQueue<Object> queue;
+        private volatile boolean cancelled;
+
+        Parser(ResponseBody body, BlockingQueue<Object> queue) {
+            this.body = body;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            Object outcome;
+            try {
+                outcome = parse(body, this::offer);
+            } catch (CancelledException e) {
+                return;
+            } catch (IOException | RuntimeException | Error e) {
+                outcome = e;
+            }
+            try {
+                offer(outcome);
+            } catch (CancelledException ignored) {
+                // The consumer is gone; nobody is waiting for the outcome.
+            }
+        }
+
+        private void offer(Object element) {
+            try {
+                while (!queue.offer(element == null ? NULL_ELEMENT : element, 100, TimeUnit.MILLISECONDS)) {
+                    if (cancelled) {
+                        throw new CancelledException();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancelledException();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T cast(Object element) {
+            return element == NULL_ELEMENT ? null : (T) element;
+        }
+    }
+
+    /** Unwinds a parser whose consumer has gone away. */
+    private static final class CancelledException extends RuntimeException {
+        CancelledException() {
+            super(null, null, false, false);
+        }
+    }
+
+    public static class Builder<T> {
+        private final Gson gson;
+        private final TypeToken<T> type;
+        private int readAhead;
+        private Executor executor;
+
+        private Builder(Gson gson, TypeToken<T> type) {
+            if (gson == null || type == null) {
+                throw new IllegalArgumentException("Gson and element type cannot be null");
+            }
+            this.gson = gson;
+            this.type = type;
+        }
+
+        /** Parses up to {@code readAhead} elements ahead of the consumer on the given executor; zero disables it. */
+        public Builder<T> readAhead(int readAhead, Executor executor) {
+            if (readAhead < 0) {
+                throw new IllegalArgumentException("Read-ahead cannot be negative");
+            }
+            if (readAhead > 0 && executor == null) {
+                throw new IllegalArgumentException("Executor cannot be null when reading ahead");
+            }
+            this.readAhead = readAhead;
+            this.executor = executor;
+            return this;
+        }
+
+        public StreamingListDecoder<T> build() {
+            return new StreamingListDecoder<>(this);
+        }
+    }
+}
@@ -2,40 +2,42 @@ package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
 import java.util.List;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Bucket {
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("$permissions")
-    private List<String> permissions;
+    List<String> permissions;
 
     @SerializedName("name")
-    private String name;
+    String name;
 
     @SerializedName("enabled")
-    private boolean enabled;
+    boolean enabled;
 
     @SerializedName("maximumFileSize")
-    private long maximumFileSize;
+    long maximumFileSize;
 
     @SerializedName("allowedFileExtensions")
-    private List<String> allowedFileExtensions;
+    List<String> allowedFileExtensions;
 
     @SerializedName("compression")
-    private String compression;
+    String compression;
 
     @SerializedName("encryption")
-    private boolean encryption;
+    boolean encryption;
 
     @SerializedName("antivirus")
-    private boolean antivirus;
+    boolean antivirus;
 
     public String getId() {
         return id;
@@ -3,35 +3,37 @@ package lt.xnatty.sdk.appwrite.models;
 import com.google.gson.annotations.SerializedName;
 import java.util.List;
 import java.util.Map;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Collection {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("databaseId")
-    private String databaseId;
+    String databaseId;
 
     @SerializedName("name")
-    private String name;
+    String name;
 
     @SerializedName("enabled")
-    private boolean enabled;
+    boolean enabled;
 
     @SerializedName("documentSecurity")
-    private boolean documentSecurity;
+    boolean documentSecurity;
 
     @SerializedName("attributes")
-    private List<Map<String, Object>> attributes;
+    List<Map<String, Object>> attributes;
 
     @SerializedName("indexes")
-    private List<Map<String, Object>> indexes;
+    List<Map<String, Object>> indexes;
 
     public String getId() {
         return id;
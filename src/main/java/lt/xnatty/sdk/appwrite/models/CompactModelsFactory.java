@@ -0,0 +1,80 @@
+package lt.xnatty.sdk.appwrite.models;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Decodes {@link Document}s, {@link File}s and {@link Membership}s with the next adapter in line and then compacts
+ * them: low-cardinality strings go through a shared {@link StringPool} and {@code $createdAt}/{@code $updatedAt} are
+ * kept as epoch milliseconds. The getters still return ISO-8601 strings, normalized to UTC. Writing restores the
+ * timestamps, so compacted models serialize like regular ones.
+ */
+public final class CompactModelsFactory implements TypeAdapterFactory {
+    private final StringPool pool;
+
+    public CompactModelsFactory(StringPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("String pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw != Document.class && raw != File.class && raw != Membership.class) {
+            return null;
+        }
+        TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        TypeAdapter<JsonElement> elements = gson.getAdapter(JsonElement.class);
+        return new TypeAdapter<>() {
+            @Override
+            public void write(JsonWriter out, T value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                JsonElement tree = delegate.toJsonTree(value);
+                if (tree instanceof JsonObject object) {
+                    object.addProperty("$createdAt", createdAt(value));
+                    object.addProperty("$updatedAt", updatedAt(value));
+                }
+                elements.write(out, tree);
+            }
+
+            @Override
+            public T read(JsonReader in) throws IOException {
+                T value = delegate.read(in);
+                if (value instanceof Document<?> document) {
+                    document.compact(pool);
+                } else if (value instanceof File file) {
+                    file.compact(pool);
+                } else if (value instanceof Membership membership) {
+                    membership.compact(pool);
+                }
+                return value;
+            }
+        };
+    }
+
+    private static String createdAt(Object value) {
+        if (value instanceof Document<?> document) {
+            return document.getCreatedAt();
+        }
+        return value instanceof File file ? file.getCreatedAt() : ((Membership) value).getCreatedAt();
+    }
+
+    private static String updatedAt(Object value) {
+        if (value instanceof Document<?> document) {
+            return document.getUpdatedAt();
+        }
+        return value instanceof File file ? file.getUpdatedAt() : ((Membership) value).getUpdatedAt();
+    }
+}
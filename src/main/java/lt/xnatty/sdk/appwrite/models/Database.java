@@ -1,22 +1,24 @@
 package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Database {
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("name")
-    private String name;
+    String name;
 
     @SerializedName("enabled")
-    private boolean enabled;
+    boolean enabled;
 
     public String getId() {
         return id;
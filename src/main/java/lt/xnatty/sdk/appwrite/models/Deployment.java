@@ -1,45 +1,47 @@
 package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Deployment {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("type")
-    private String type;
+    String type;
 
     @SerializedName("resourceId")
-    private String resourceId;
+    String resourceId;
 
     @SerializedName("resourceType")
-    private String resourceType;
+    String resourceType;
 
     @SerializedName("entrypoint")
-    private String entrypoint;
+    String entrypoint;
 
     @SerializedName("size")
-    private long size;
+    long size;
 
     @SerializedName("buildId")
-    private String buildId;
+    String buildId;
 
     @SerializedName("activate")
-    private boolean activate;
+    boolean activate;
 
     @SerializedName("status")
-    private String status;
+    String status;
 
     @SerializedName("buildLogs")
-    private String buildLogs;
+    String buildLogs;
 
     @SerializedName("buildTime")
-    private int buildTime;
+    int buildTime;
 }
@@ -2,40 +2,47 @@ package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
 import java.util.List;
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Document<T> {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
+
+    transient long createdAtMillis = Timestamps.NONE;
+
+    transient long updatedAtMillis = Timestamps.NONE;
 
     @SerializedName("$collectionId")
-    private String collectionId;
+    String collectionId;
 
     @SerializedName("$databaseId")
-    private String databaseId;
+    String databaseId;
 
     @SerializedName("$permissions")
-    private List<String> permissions;
+    List<String> permissions;
 
     @SerializedName("data")
-    private T data;
+    T data;
 
     public String getId() {
         return id;
     }
 
     public String getCreatedAt() {
-        return createdAt;
+        return createdAt != null ? createdAt : Timestamps.format(createdAtMillis);
     }
 
     public String getUpdatedAt() {
-        return updatedAt;
+        return updatedAt != null ? updatedAt : Timestamps.format(updatedAtMillis);
     }
 
     public String getCollectionId() {
@@ -53,4 +60,24 @@ public class Document<T> {
     public T getData() {
         return data;
     }
+
+    @SuppressWarnings("unchecked")
+    void compact(StringPool pool) {
+        collectionId = pool.intern(collectionId);
+        databaseId = pool.intern(databaseId);
+        pool.internAll(permissions);
+        if (data instanceof Map<?, ?>) {
+            data = (T) pool.internTree(data);
+        }
+        long created = Timestamps.toMillis(createdAt);
+        if (created != Timestamps.NONE) {
+            createdAtMillis = created;
+            createdAt = null;
+        }
+        long updated = Timestamps.toMillis(updatedAt);
+        if (updated != Timestamps.NONE) {
+            updatedAtMillis = updated;
+            updatedAt = null;
+        }
+    }
 }
@@ -1,41 +1,43 @@
 package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Execution {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("functionId")
-    private String functionId;
+    String functionId;
 
     @SerializedName("trigger")
-    private String trigger;
+    String trigger;
 
     @SerializedName("status")
-    private String status;
+    String status;
 
     @SerializedName("statusCode")
-    private int statusCode;
+    int statusCode;
 
     @SerializedName("response")
-    private String response;
+    String response;
 
     @SerializedName("stdout")
-    private String stdout;
+    String stdout;
 
     @SerializedName("stderr")
-    private String stderr;
+    String stderr;
 
     @SerializedName("duration")
-    private double duration;
+    double duration;
 
     public String getId() {
         return id;
@@ -2,41 +2,47 @@ package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
 import java.util.List;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class File {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("bucketId")
-    private String bucketId;
+    String bucketId;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
+
+    transient long createdAtMillis = Timestamps.NONE;
+
+    transient long updatedAtMillis = Timestamps.NONE;
 
     @SerializedName("$permissions")
-    private List<String> permissions;
+    List<String> permissions;
 
     @SerializedName("name")
-    private String name;
+    String name;
 
     @SerializedName("signature")
-    private String signature;
+    String signature;
 
     @SerializedName("mimeType")
-    private String mimeType;
+    String mimeType;
 
     @SerializedName("sizeOriginal")
-    private long sizeOriginal;
+    long sizeOriginal;
 
     @SerializedName("chunksTotal")
-    private int chunksTotal;
+    int chunksTotal;
 
     @SerializedName("chunksUploaded")
-    private int chunksUploaded;
+    int chunksUploaded;
 
     public String getId() {
         return id;
@@ -47,11 +53,11 @@ public class File {
     }
 
     public String getCreatedAt() {
-        return createdAt;
+        return createdAt != null ? createdAt : Timestamps.format(createdAtMillis);
     }
 
     public String getUpdatedAt() {
-        return updatedAt;
+        return updatedAt != null ? updatedAt : Timestamps.format(updatedAtMillis);
     }
 
     public List<String> getPermissions() {
@@ -81,4 +87,20 @@ public class File {
     public int getChunksUploaded() {
         return chunksUploaded;
     }
+
+    void compact(StringPool pool) {
+        bucketId = pool.intern(bucketId);
+        mimeType = pool.intern(mimeType);
+        pool.internAll(permissions);
+        long created = Timestamps.toMillis(createdAt);
+        if (created != Timestamps.NONE) {
+            createdAtMillis = created;
+            createdAt = null;
+        }
+        long updated = Timestamps.toMillis(updatedAt);
+        if (updated != Timestamps.NONE) {
+            updatedAtMillis = updated;
+            updatedAt = null;
+        }
+    }
 }
@@ -3,53 +3,55 @@ package lt.xnatty.sdk.appwrite.models;
 import com.google.gson.annotations.SerializedName;
 import java.util.List;
 import java.util.Map;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Function {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("execute")
-    private List<String> execute;
+    List<String> execute;
 
     @SerializedName("name")
-    private String name;
+    String name;
 
     @SerializedName("enabled")
-    private boolean enabled;
+    boolean enabled;
 
     @SerializedName("runtime")
-    private String runtime;
+    String runtime;
 
     @SerializedName("deployment")
-    private String deployment;
+    String deployment;
 
     @SerializedName("vars")
-    private Map<String, String> variables;
+    Map<String, String> variables;
 
     @SerializedName("events")
-    private List<String> events;
+    List<String> events;
 
     @SerializedName("schedule")
-    private String schedule;
+    String schedule;
 
     @SerializedName("timeout")
-    private int timeout;
+    int timeout;
 
     @SerializedName("entrypoint")
-    private String entrypoint;
+    String entrypoint;
 
     @SerializedName("commands")
-    private String commands;
+    String commands;
 
     @SerializedName("version")
-    private String version;
+    String version;
 
     public String getId() {
         return id;
@@ -2,55 +2,61 @@ package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
 import java.util.List;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Membership {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
+
+    transient long createdAtMillis = Timestamps.NONE;
+
+    transient long updatedAtMillis = Timestamps.NONE;
 
     @SerializedName("userId")
-    private String userId;
+    String userId;
 
     @SerializedName("userName")
-    private String userName;
+    String userName;
 
     @SerializedName("userEmail")
-    private String userEmail;
+    String userEmail;
 
     @SerializedName("teamId")
-    private String teamId;
+    String teamId;
 
     @SerializedName("teamName")
-    private String teamName;
+    String teamName;
 
     @SerializedName("invited")
-    private String invited;
+    String invited;
 
     @SerializedName("joined")
-    private String joined;
+    String joined;
 
     @SerializedName("confirm")
-    private boolean confirm;
+    boolean confirm;
 
     @SerializedName("roles")
-    private List<String> roles;
+    List<String> roles;
 
     public String getId() {
         return id;
     }
 
     public String getCreatedAt() {
-        return createdAt;
+        return createdAt != null ? createdAt : Timestamps.format(createdAtMillis);
     }
 
     public String getUpdatedAt() {
-        return updatedAt;
+        return updatedAt != null ? updatedAt : Timestamps.format(updatedAtMillis);
     }
 
     public String getUserId() {
@@ -88,4 +94,20 @@ public class Membership {
     public List<String> getRoles() {
         return roles;
     }
+
+    void compact(StringPool pool) {
+        teamId = pool.intern(teamId);
+        teamName = pool.intern(teamName);
+        pool.internAll(roles);
+        long created = Timestamps.toMillis(createdAt);
+        if (created != Timestamps.NONE) {
+            createdAtMillis = created;
+            createdAt = null;
+        }
+        long updated = Timestamps.toMillis(updatedAt);
+        if (updated != Timestamps.NONE) {
+            updatedAtMillis = updated;
+            updatedAt = null;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package lt.xnatty.sdk.appwrite.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded pool of canonical string instances for values that repeat across many models, such as database and
+ * bucket IDs, permission strings and attribute names. Strings longer than {@code maxLength} are never pooled, and
+ * once the pool holds {@code maxEntries} strings new values are returned as is, so high-cardinality input cannot
+ * grow it without limit.
+ */
+public final class StringPool {
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final int maxLength;
+
+    public StringPool(int maxEntries, int maxLength) {
+        if (maxEntries < 1 || maxLength < 1) {
+            throw new IllegalArgumentException("Max entries and max length must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+    }
+
+    public String intern(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        String pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= maxEntries) {
+            return value;
+        }
+        pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    void internAll(List<String> values) {
+        if (values != null) {
+            values.replaceAll(this::intern);
+            if (values instanceof ArrayList<String> list) {
+                list.trimToSize();
+            }
+        }
+    }
+
+    /** Interns strings inside decoded JSON: map keys and string values, recursively. Maps are rebuilt. */
+    @SuppressWarnings("unchecked")
+    Object internTree(Object value) {
+        if (value instanceof String string) {
+            return intern(string);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> interned = new LinkedHashMap<>((int) (map.size() / 0.75f) + 1);
+            map.forEach((key, entry) -> interned.put(intern(String.valueOf(key)), internTree(entry)));
+            return interned;
+        }
+        if (value instanceof List<?> list) {
+            ((List<Object>) list).replaceAll(this::internTree);
+        }
+        return value;
+    }
+}
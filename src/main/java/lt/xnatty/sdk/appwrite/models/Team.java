@@ -2,26 +2,28 @@ package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
 import java.util.List;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class Team {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("name")
-    private String name;
+    String name;
 
     @SerializedName("total")
-    private int total;
+    int total;
 
     @SerializedName("prefs")
-    private TeamPreferences preferences;
+    TeamPreferences preferences;
 
     public String getId() {
         return id;
@@ -47,9 +49,10 @@ public class Team {
         return preferences;
     }
 
+    @GenerateTypeAdapter
     public static class TeamPreferences {
         @SerializedName("roles")
-        private List<String> roles;
+        List<String> roles;
 
         public List<String> getRoles() {
             return roles;
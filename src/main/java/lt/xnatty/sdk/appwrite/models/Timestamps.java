@@ -0,0 +1,33 @@
+package lt.xnatty.sdk.appwrite.models;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/** Epoch-millisecond storage for the ISO-8601 timestamps Appwrite returns. */
+final class Timestamps {
+    static final long NONE = Long.MIN_VALUE;
+    private static final DateTimeFormatter FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneOffset.UTC);
+
+    private Timestamps() {}
+
+    /** The timestamp in epoch milliseconds, or {@link #NONE} if it is missing, malformed or finer than a millisecond. */
+    static long toMillis(String timestamp) {
+        if (timestamp == null) {
+            return NONE;
+        }
+        try {
+            Instant instant = OffsetDateTime.parse(timestamp).toInstant();
+            return instant.getNano() % 1_000_000 == 0 ? instant.toEpochMilli() : NONE;
+        } catch (DateTimeParseException e) {
+            return NONE;
+        }
+    }
+
+    static String format(long millis) {
+        return millis == NONE ? null : FORMAT.format(Instant.ofEpochMilli(millis));
+    }
+}
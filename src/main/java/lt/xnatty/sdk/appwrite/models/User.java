@@ -2,32 +2,34 @@ package lt.xnatty.sdk.appwrite.models;
 
 import com.google.gson.annotations.SerializedName;
 import java.util.Map;
+import lt.xnatty.sdk.appwrite.processor.GenerateTypeAdapter;
 
+@GenerateTypeAdapter
 public class User {
 
     @SerializedName("$id")
-    private String id;
+    String id;
 
     @SerializedName("$createdAt")
-    private String createdAt;
+    String createdAt;
 
     @SerializedName("$updatedAt")
-    private String updatedAt;
+    String updatedAt;
 
     @SerializedName("email")
-    private String email;
+    String email;
 
     @SerializedName("emailVerification")
-    private boolean emailVerification;
+    boolean emailVerification;
 
     @SerializedName("name")
-    private String name;
+    String name;
 
     @SerializedName("status")
-    private boolean status;
+    boolean status;
 
     @SerializedName("prefs")
-    private Map<String, Object> preferences;
+    Map<String, Object> preferences;
 
     public String getId() {
         return id;
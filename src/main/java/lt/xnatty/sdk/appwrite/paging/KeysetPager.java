@@ -0,0 +1,123 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.query.Query;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import retrofit2.Response;
+
+/**
+ * Pages through documents in {@code ($updatedAt, $id)} order after a position, by value rather than with a cursor
+ * document. The rest of the position's millisecond is read with {@code equal} on {@code $updatedAt} and
+ * {@code greaterThan} on {@code $id}, then the walk goes on with {@code greaterThan} on {@code $updatedAt}. Every
+ * request has the same limit however many documents share a millisecond, and a document updated between pages only
+ * moves ahead of the position. A document written into a millisecond already passed, with a lower ID, is not seen.
+ */
+public final class KeysetPager {
+    private static final String UPDATED_AT = "$updatedAt";
+    private static final String ID = "$id";
+
+    private final DatabaseService databaseService;
+    private final String databaseId;
+    private final String collectionId;
+    private final List<String> queries;
+    private final int pageSize;
+    private String updatedAt;
+    private String documentId;
+    private boolean inTie;
+    private boolean more = true;
+
+    /**
+     * Starts after the document with {@code documentId} updated at {@code updatedAt}, or at the beginning when both
+     * are null. The queries must not contain order, cursor or limit queries.
+     */
+    public KeysetPager(
+            DatabaseService databaseService,
+            String databaseId,
+            String collectionId,
+            List<String> queries,
+            int pageSize,
+            String updatedAt,
+            String documentId) {
+        if ((updatedAt == null) != (documentId == null)) {
+            throw new IllegalArgumentException("Updated at and document ID must both be set or both be null");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        this.databaseService = databaseService;
+        this.databaseId = databaseId;
+        this.collectionId = collectionId;
+        this.queries = List.copyOf(queries);
+        this.pageSize = pageSize;
+        this.updatedAt = updatedAt;
+        this.documentId = documentId;
+        this.inTie = documentId != null;
+    }
+
+    /** False once a page came back short, so there is nothing more to read for now. */
+    public boolean hasMore() {
+        return more;
+    }
+
+    /** The next page, possibly empty; the position moves to its last document. */
+    public List<Document<Map<String, Object>>> next() throws IOException {
+        if (inTie) {
+            List<String> tie = new ArrayList<>(queries);
+            tie.add(Query.equal(UPDATED_AT, updatedAt));
+            tie.add(Query.greaterThan(ID, documentId));
+            tie.add(Query.orderAsc(ID));
+            tie.add(Query.limit(pageSize));
+            List<Document<Map<String, Object>>> page = fetch(tie);
+            inTie = page.size() == pageSize;
+            if (!page.isEmpty()) {
+                advance(page);
+                return page;
+            }
+        }
+        List<String> after = new ArrayList<>(queries);
+        if (updatedAt != null) {
+            after.add(Query.greaterThan(UPDATED_AT, updatedAt));
+        }
+        after.add(Query.orderAsc(UPDATED_AT));
+        after.add(Query.orderAsc(ID));
+        after.add(Query.limit(pageSize));
+        List<Document<Map<String, Object>>> page = fetch(after);
+        more = page.size() == pageSize;
+        inTie = more;
+        if (!page.isEmpty()) {
+            advance(page);
+        }
+        return page;
+    }
+
+    /** {@code $updatedAt} of the last document read, or the starting one. */
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /** ID of the last document read, or the starting one. */
+    public String getDocumentId() {
+        return documentId;
+    }
+
+    private void advance(List<Document<Map<String, Object>>> page) {
+        Document<Map<String, Object>> last = page.get(page.size() - 1);
+        updatedAt = last.getUpdatedAt();
+        documentId = last.getId();
+    }
+
+    private List<Document<Map<String, Object>>> fetch(List<String> pageQueries) throws IOException {
+        Response<List<Document<Map<String, Object>>>> response = databaseService
+                .listDocuments(databaseId, collectionId, pageQueries)
+                .execute();
+        if (!response.isSuccessful()) {
+            throw AppwriteException.fromResponse(response);
+        }
+        return response.body() == null ? List.of() : response.body();
+    }
+}
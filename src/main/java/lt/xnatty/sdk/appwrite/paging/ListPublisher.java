@@ -0,0 +1,178 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Cold publisher that walks a list endpoint page by page with {@code cursorAfter}. A page is fetched only when the
+ * subscriber has outstanding demand and the previous page has been fully delivered, so a slow subscriber stops
+ * further requests. Pages are fetched and signals delivered on the given executor.
+ */
+public class ListPublisher<T> implements Flow.Publisher<T> {
+    private final PageFetcher<T> fetcher;
+    private final Function<T, String> idOf;
+    private final List<String> queries;
+    private final int pageSize;
+    private final Executor executor;
+
+    public ListPublisher(
+            PageFetcher<T> fetcher, Function<T, String> idOf, List<String> queries, int pageSize, Executor executor) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        this.fetcher = Objects.requireNonNull(fetcher, "fetcher");
+        this.idOf = Objects.requireNonNull(idOf, "idOf");
+        this.queries = queries == null ? List.of() : List.copyOf(queries);
+        this.pageSize = pageSize;
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        PageSubscription<T> subscription = new PageSubscription<>(this, subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static final class PageSubscription<T> implements Flow.Subscription, Runnable {
+        private final ListPublisher<T> publisher;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final ArrayDeque<T> buffer = new ArrayDeque<>();
+        private volatile boolean cancelled;
+        private volatile Call<List<T>> inFlight;
+        private Throwable invalidRequest;
+        private String cursor;
+        private boolean exhausted;
+        private boolean done;
+
+        PageSubscription(ListPublisher<T> publisher, Flow.Subscriber<? super T> subscriber) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested count must be positive, got " + n);
+            } else {
+                requested.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Call<List<T>> call = inFlight;
+            if (call != null) {
+                call.cancel();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    publisher.executor.execute(this);
+                } catch (RuntimeException e) {
+                    cancelled = true;
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            while (!done) {
+                if (cancelled) {
+                    done = true;
+                    buffer.clear();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    fail(invalidRequest);
+                    return;
+                }
+                long demand = requested.get();
+                if (demand == 0) {
+                    return;
+                }
+                if (buffer.isEmpty()) {
+                    if (exhausted) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (!fetchPage()) {
+                        return;
+                    }
+                    continue;
+                }
+                subscriber.onNext(buffer.poll());
+                if (demand != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+            }
+        }
+
+        private boolean fetchPage() {
+            List<String> queries = Pages.pageQueries(publisher.queries, publisher.pageSize, cursor);
+            try {
+                Call<List<T>> call = publisher.fetcher.fetch(queries);
+                inFlight = call;
+                if (cancelled) {
+                    call.cancel();
+                    return true;
+                }
+                Response<List<T>> response = call.execute();
+                inFlight = null;
+                if (!response.isSuccessful()) {
+                    throw AppwriteException.fromResponse(response);
+                }
+                List<T> page = response.body() == null ? List.of() : response.body();
+                buffer.addAll(page);
+                exhausted = page.size() < publisher.pageSize;
+                if (!page.isEmpty()) {
+                    cursor = publisher.idOf.apply(page.get(page.size() - 1));
+                }
+                return true;
+            } catch (Exception e) {
+                inFlight = null;
+                if (cancelled) {
+                    return true;
+                }
+                fail(e);
+                return false;
+            }
+        }
+
+        private void fail(Throwable error) {
+            done = true;
+            cancelled = true;
+            buffer.clear();
+            subscriber.onError(error);
+        }
+    }
+}
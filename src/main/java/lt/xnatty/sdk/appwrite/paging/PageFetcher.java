@@ -0,0 +1,9 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.util.List;
+import retrofit2.Call;
+
+@FunctionalInterface
+public interface PageFetcher<T> {
+    Call<List<T>> fetch(List<String> queries);
+}
@@ -0,0 +1,123 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Iterates a list endpoint page by page with {@code cursorAfter}. As soon as a full page arrives, the next page is
+ * requested on the executor, so it is usually ready by the time the caller has consumed the current one. At most one
+ * page is buffered ahead. Request failures surface from {@link #hasNext()} as {@link UncheckedIOException}.
+ */
+public final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+    private final PageFetcher<T> fetcher;
+    private final Function<T, String> idOf;
+    private final List<String> queries;
+    private final int pageSize;
+    private final Executor executor;
+    private final ArrayDeque<T> buffer = new ArrayDeque<>();
+    private CompletableFuture<List<T>> next;
+    private volatile Call<List<T>> inFlight;
+    private volatile boolean closed;
+
+    PageIterator(
+            PageFetcher<T> fetcher, Function<T, String> idOf, List<String> queries, int pageSize, Executor executor) {
+        this.fetcher = fetcher;
+        this.idOf = idOf;
+        this.queries = queries;
+        this.pageSize = pageSize;
+        this.executor = executor;
+        this.next = fetch(null);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (buffer.isEmpty()) {
+            if (next == null || closed) {
+                return false;
+            }
+            List<T> page = await(next);
+            if (page.size() < pageSize) {
+                next = null;
+            } else {
+                next = fetch(idOf.apply(page.get(page.size() - 1)));
+            }
+            buffer.addAll(page);
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer.poll();
+    }
+
+    /** Stops iteration and cancels a prefetch that is still in flight. */
+    @Override
+    public void close() {
+        closed = true;
+        buffer.clear();
+        Call<List<T>> call = inFlight;
+        if (call != null) {
+            call.cancel();
+        }
+        next = null;
+    }
+
+    private CompletableFuture<List<T>> fetch(String cursor) {
+        List<String> pageQueries = Pages.pageQueries(queries, pageSize, cursor);
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    if (closed) {
+                        return List.of();
+                    }
+                    try {
+                        Call<List<T>> call = fetcher.fetch(pageQueries);
+                        inFlight = call;
+                        Response<List<T>> response = call.execute();
+                        inFlight = null;
+                        if (!response.isSuccessful()) {
+                            throw AppwriteException.fromResponse(response);
+                        }
+                        return response.body() == null ? List.of() : response.body();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                executor);
+    }
+
+    private List<T> await(CompletableFuture<List<T>> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted while waiting for page", e));
+        } catch (ExecutionException | CompletionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new UncheckedIOException(new IOException(cause));
+        }
+    }
+}
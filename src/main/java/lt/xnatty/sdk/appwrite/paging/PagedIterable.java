@@ -0,0 +1,44 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/** A re-iterable view of a list endpoint; every {@link #iterator()} starts a fresh cursor walk. */
+public final class PagedIterable<T> implements Iterable<T> {
+    private final PageFetcher<T> fetcher;
+    private final Function<T, String> idOf;
+    private final List<String> queries;
+    private final int pageSize;
+    private final Executor executor;
+
+    public PagedIterable(
+            PageFetcher<T> fetcher, Function<T, String> idOf, List<String> queries, int pageSize, Executor executor) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        this.fetcher = Objects.requireNonNull(fetcher, "fetcher");
+        this.idOf = Objects.requireNonNull(idOf, "idOf");
+        this.queries = queries == null ? List.of() : List.copyOf(queries);
+        this.pageSize = pageSize;
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public PageIterator<T> iterator() {
+        return new PageIterator<>(fetcher, idOf, queries, pageSize, executor);
+    }
+
+    /** Sequential stream over all items; closing the stream cancels any prefetch in flight. */
+    public Stream<T> stream() {
+        PageIterator<T> iterator = iterator();
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+}
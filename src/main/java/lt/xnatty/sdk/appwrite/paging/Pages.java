@@ -0,0 +1,102 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lt.xnatty.sdk.appwrite.models.Bucket;
+import lt.xnatty.sdk.appwrite.models.Collection;
+import lt.xnatty.sdk.appwrite.models.Database;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.Execution;
+import lt.xnatty.sdk.appwrite.models.File;
+import lt.xnatty.sdk.appwrite.models.Function;
+import lt.xnatty.sdk.appwrite.models.Membership;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.query.Query;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.FunctionService;
+import lt.xnatty.sdk.appwrite.services.StorageService;
+import lt.xnatty.sdk.appwrite.services.TeamService;
+
+public final class Pages {
+
+    private Pages() {}
+
+    public static PagedIterable<Database> databases(
+            DatabaseService databaseService, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(databaseService::listDatabases, Database::getId, queries, pageSize, executor);
+    }
+
+    public static PagedIterable<Collection> collections(
+            DatabaseService databaseService, String databaseId, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(
+                page -> databaseService.listCollections(databaseId, page),
+                Collection::getId,
+                queries,
+                pageSize,
+                executor);
+    }
+
+    public static PagedIterable<Document<Map<String, Object>>> documents(
+            DatabaseService databaseService,
+            String databaseId,
+            String collectionId,
+            List<String> queries,
+            int pageSize,
+            Executor executor) {
+        return new PagedIterable<>(
+                page -> databaseService.listDocuments(databaseId, collectionId, page),
+                Document::getId,
+                queries,
+                pageSize,
+                executor);
+    }
+
+    public static PagedIterable<Bucket> buckets(
+            StorageService storageService, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(storageService::listBuckets, Bucket::getId, queries, pageSize, executor);
+    }
+
+    public static PagedIterable<File> files(
+            StorageService storageService, String bucketId, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(
+                page -> storageService.listFiles(bucketId, page), File::getId, queries, pageSize, executor);
+    }
+
+    public static PagedIterable<Function> functions(
+            FunctionService functionService, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(functionService::listFunctions, Function::getId, queries, pageSize, executor);
+    }
+
+    public static PagedIterable<Execution> executions(
+            FunctionService functionService, String functionId, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(
+                page -> functionService.listExecutions(functionId, page),
+                Execution::getId,
+                queries,
+                pageSize,
+                executor);
+    }
+
+    public static PagedIterable<Team> teams(
+            TeamService teamService, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(teamService::listTeams, Team::getId, queries, pageSize, executor);
+    }
+
+    public static PagedIterable<Membership> memberships(
+            TeamService teamService, String teamId, List<String> queries, int pageSize, Executor executor) {
+        return new PagedIterable<>(
+                page -> teamService.listMemberships(teamId, page), Membership::getId, queries, pageSize, executor);
+    }
+
+    /** The caller's queries followed by the page limit and, after the first page, the cursor. */
+    static List<String> pageQueries(List<String> queries, int pageSize, String cursor) {
+        List<String> page = new ArrayList<>(queries);
+        page.add(Query.limit(pageSize));
+        if (cursor != null) {
+            page.add(Query.cursorAfter(cursor));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,380 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import lt.xnatty.sdk.appwrite.http.TokenBucket;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.query.Query;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Scans a collection with several cursors at once. The {@code $createdAt} span of the matching documents (found with
+ * two single-document queries) is cut into disjoint ranges, and each range is walked by a worker with its own
+ * {@code cursorAfter} chain, ordered by {@code $createdAt}. In ordered mode the ranges are emitted one after another,
+ * giving {@code $createdAt} order overall, while later ranges prefetch into bounded buffers; in unordered mode documents
+ * are emitted as soon as any worker has them. An optional token bucket caps the scan's total request rate.
+ *
+ * <p>Use the stream in a try-with-resources block: closing it stops the workers. A stream left open without being
+ * consumed to the end, such as after {@code limit(n).toList()}, is cancelled once no document has been taken from it
+ * for the {@linkplain Builder#consumerTimeout(Duration) consumer timeout}.
+ */
+public final class PartitionedScan {
+    private static final String CREATED_AT = "$createdAt";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    private static final Object END = new Object();
+
+    private final DatabaseService databaseService;
+    private final String databaseId;
+    private final String collectionId;
+    private final List<String> queries;
+    private final int partitions;
+    private final int parallelism;
+    private final int pageSize;
+    private final boolean ordered;
+    private final TokenBucket rateLimit;
+    private final Executor executor;
+    private final Duration consumerTimeout;
+
+    private PartitionedScan(Builder builder) {
+        this.databaseService = builder.databaseService;
+        this.databaseId = builder.databaseId;
+        this.collectionId = builder.collectionId;
+        this.queries = List.copyOf(builder.queries);
+        this.partitions = builder.partitions;
+        this.parallelism = builder.parallelism;
+        this.pageSize = builder.pageSize;
+        this.ordered = builder.ordered;
+        this.rateLimit = builder.maxRequestsPerSecond > 0
+                ? new TokenBucket(builder.maxRequestsPerSecond, Math.max(1, parallelism))
+                : null;
+        this.executor = builder.executor != null
+                ? builder.executor
+                : Transport.getDefault().getExecutor();
+        this.consumerTimeout = builder.consumerTimeout;
+    }
+
+    public static Builder builder(DatabaseService databaseService, String databaseId, String collectionId) {
+        return new Builder(databaseService, databaseId, collectionId);
+    }
+
+    /**
+     * Starts the scan. Use the stream in try-with-resources, since closing it stops the workers; request failures
+     * surface from the stream as {@link UncheckedIOException}.
+     */
+    public Stream<Document<Map<String, Object>>> stream() {
+        Run run = new Run();
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(run, Spliterator.NONNULL | Spliterator.ORDERED), false)
+                .onClose(run::cancel);
+    }
+
+    /** Lower bounds of the ranges; range {@code i} ends where range {@code i + 1} starts. */
+    List<String> boundaries() throws IOException {
+        Document<Map<String, Object>> first = single(Query.orderAsc(CREATED_AT));
+        if (first == null) {
+            return List.of();
+        }
+        Document<Map<String, Object>> last = single(Query.orderDesc(CREATED_AT));
+        long min = millis(first.getCreatedAt());
+        long max = last == null ? min : millis(last.getCreatedAt());
+        long span = Math.max(1, max - min + 1);
+        int count = (int) Math.min(partitions, span);
+        List<String> boundaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long start = min + (long) ((double) span * i / count);
+            boundaries.add(TIMESTAMP.format(Instant.ofEpochMilli(start).atOffset(ZoneOffset.UTC)));
+        }
+        return boundaries;
+    }
+
+    private Document<Map<String, Object>> single(String order) throws IOException {
+        List<String> probe = new ArrayList<>(queries);
+        probe.add(order);
+        probe.add(Query.limit(1));
+        List<Document<Map<String, Object>>> page = execute(probe);
+        return page.isEmpty() ? null : page.get(0);
+    }
+
+    private List<Document<Map<String, Object>>> execute(List<String> pageQueries) throws IOException {
+        if (rateLimit != null) {
+            rateLimit.acquire(Long.MAX_VALUE);
+        }
+        Call<List<Document<Map<String, Object>>>> call =
+                databaseService.listDocuments(databaseId, collectionId, pageQueries);
+        Response<List<Document<Map<String, Object>>>> response = call.execute();
+        if (!response.isSuccessful()) {
+            throw AppwriteException.fromResponse(response);
+        }
+        return response.body() == null ? List.of() : response.body();
+    }
+
+    private static long millis(String timestamp) {
+        return OffsetDateTime.parse(timestamp).toInstant().toEpochMilli();
+    }
+
+    /** One execution of the scan; iterates the merged output of its workers. */
+    private final class Run implements Iterator<Document<Map<String, Object>>> {
+        private final List<BlockingQueue<Object>> buffers = new ArrayList<>();
+        private final AtomicInteger nextPartition = new AtomicInteger();
+        private List<String> boundaries;
+        private volatile boolean cancelled;
+        /** Set while the consumer waits in {@code take()}, which means it is not the one holding the scan up. */
+        private volatile boolean taking;
+
+        private volatile long lastTake;
+        private volatile boolean abandoned;
+        private int current;
+        private int finished;
+        private Object lookahead;
+
+        private void start() {
+            lastTake = System.nanoTime();
+            try {
+                boundaries = boundaries();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int queues = ordered ? boundaries.size() : Math.min(1, boundaries.size());
+            for (int i = 0; i < queues; i++) {
+                buffers.add(new ArrayBlockingQueue<>(pageSize * 2));
+            }
+            int workers = Math.min(parallelism, boundaries.size());
+            for (int i = 0; i < workers; i++) {
+                try {
+                    executor.execute(this::work);
+                } catch (RejectedExecutionException e) {
+                    cancel();
+                    throw e;
+                }
+            }
+        }
+
+        private void work() {
+            int partition;
+            while (!cancelled && (partition = nextPartition.getAndIncrement()) < boundaries.size()) {
+                BlockingQueue<Object> buffer = buffers.get(ordered ? partition : 0);
+                try {
+                    scan(partition, buffer);
+                    put(buffer, END);
+                } catch (Throwable e) {
+                    put(buffer, e);
+                }
+            }
+        }
+
+        private void scan(int partition, BlockingQueue<Object> buffer) throws IOException {
+            List<String> range = new ArrayList<>(queries);
+            if (partition > 0) {
+                range.add(Query.greaterThanEqual(CREATED_AT, boundaries.get(partition)));
+            }
+            if (partition < boundaries.size() - 1) {
+                range.add(Query.lessThan(CREATED_AT, boundaries.get(partition + 1)));
+            }
+            range.add(Query.orderAsc(CREATED_AT));
+            String cursor = null;
+            while (!cancelled) {
+                List<Document<Map<String, Object>>> page = execute(Pages.pageQueries(range, pageSize, cursor));
+                for (Document<Map<String, Object>> document : page) {
+                    put(buffer, document);
+                }
+                if (page.size() < pageSize) {
+                    return;
+                }
+                cursor = page.get(page.size() - 1).getId();
+            }
+        }
+
+        private void put(BlockingQueue<Object> buffer, Object element) {
+            try {
+                while (!cancelled && !buffer.offer(element, 100, TimeUnit.MILLISECONDS)) {
+                    if (!taking && System.nanoTime() - lastTake > consumerTimeout.toNanos()) {
+                        abandoned = true;
+                        cancel();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelled = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (boundaries == null) {
+                start();
+            }
+            while (lookahead == null) {
+                if (abandoned) {
+                    throw new IllegalStateException(
+                            "Scan was cancelled after no document was taken for " + consumerTimeout);
+                }
+                if (cancelled || finished == boundaries.size()) {
+                    return false;
+                }
+                Object element;
+                taking = true;
+                try {
+                    element = buffers.get(ordered ? current : 0).take();
+                } catch (InterruptedException e) {
+                    cancel();
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedIOException(new InterruptedIOException("Interrupted while scanning"));
+                } finally {
+                    lastTake = System.nanoTime();
+                    taking = false;
+                }
+                if (element == END) {
+                    finished++;
+                    current++;
+                } else if (element instanceof Throwable e) {
+                    cancel();
+                    if (e instanceof IOException io) {
+                        throw new UncheckedIOException(io);
+                    }
+                    if (e instanceof Error error) {
+                        throw error;
+                    }
+                    throw (RuntimeException) e;
+                } else {
+                    lookahead = element;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Document<Map<String, Object>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document<Map<String, Object>> document = (Document<Map<String, Object>>) lookahead;
+            lookahead = null;
+            return document;
+        }
+
+        void cancel() {
+            cancelled = true;
+            buffers.forEach(BlockingQueue::clear);
+        }
+    }
+
+    public static class Builder {
+        private final DatabaseService databaseService;
+        private final String databaseId;
+        private final String collectionId;
+        private List<String> queries = List.of();
+        private int partitions = 8;
+        private int parallelism = 4;
+        private int pageSize = 100;
+        private boolean ordered;
+        private double maxRequestsPerSecond;
+        private Executor executor;
+        private Duration consumerTimeout = Duration.ofMinutes(1);
+
+        private Builder(DatabaseService databaseService, String databaseId, String collectionId) {
+            if (databaseService == null) {
+                throw new IllegalArgumentException("Database service cannot be null");
+            }
+            if (databaseId == null || databaseId.isEmpty() || collectionId == null || collectionId.isEmpty()) {
+                throw new IllegalArgumentException("Database ID and collection ID cannot be null or empty");
+            }
+            this.databaseService = databaseService;
+            this.databaseId = databaseId;
+            this.collectionId = collectionId;
+        }
+
+        /** Filters applied to every range; must not contain limit, cursor or order queries. */
+        public Builder queries(List<String> queries) {
+            this.queries = queries == null ? List.of() : queries;
+            return this;
+        }
+
+        public Builder partitions(int partitions) {
+            if (partitions < 1) {
+                throw new IllegalArgumentException("Partitions must be at least 1");
+            }
+            this.partitions = partitions;
+            return this;
+        }
+
+        /** Number of ranges fetched concurrently. */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("Page size must be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /** Emits documents in {@code $createdAt} order instead of as they arrive. */
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /** Caps the scan's requests across all workers; zero means no cap. */
+        public Builder maxRequestsPerSecond(double maxRequestsPerSecond) {
+            if (maxRequestsPerSecond < 0) {
+                throw new IllegalArgumentException("Max requests per second cannot be negative");
+            }
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        /** Executor running the workers; defaults to the default transport's executor. */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * How long workers wait for a consumer that takes nothing before cancelling the scan; the stream then throws
+         * {@link IllegalStateException}. Defaults to one minute.
+         */
+        public Builder consumerTimeout(Duration consumerTimeout) {
+            if (consumerTimeout == null || consumerTimeout.isNegative() || consumerTimeout.isZero()) {
+                throw new IllegalArgumentException("Consumer timeout must be positive");
+            }
+            this.consumerTimeout = consumerTimeout;
+            return this;
+        }
+
+        public PartitionedScan build() {
+            return new PartitionedScan(this);
+        }
+    }
+}
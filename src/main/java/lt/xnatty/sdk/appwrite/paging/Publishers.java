@@ -0,0 +1,62 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.Execution;
+import lt.xnatty.sdk.appwrite.models.File;
+import lt.xnatty.sdk.appwrite.models.Membership;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.FunctionService;
+import lt.xnatty.sdk.appwrite.services.StorageService;
+import lt.xnatty.sdk.appwrite.services.TeamService;
+
+public final class Publishers {
+
+    private Publishers() {}
+
+    public static Flow.Publisher<Document<Map<String, Object>>> documents(
+            DatabaseService databaseService,
+            String databaseId,
+            String collectionId,
+            List<String> queries,
+            int pageSize,
+            Executor executor) {
+        return new ListPublisher<>(
+                page -> databaseService.listDocuments(databaseId, collectionId, page),
+                Document::getId,
+                queries,
+                pageSize,
+                executor);
+    }
+
+    public static Flow.Publisher<File> files(
+            StorageService storageService, String bucketId, List<String> queries, int pageSize, Executor executor) {
+        return new ListPublisher<>(
+                page -> storageService.listFiles(bucketId, page), File::getId, queries, pageSize, executor);
+    }
+
+    public static Flow.Publisher<Execution> executions(
+            FunctionService functionService, String functionId, List<String> queries, int pageSize, Executor executor) {
+        return new ListPublisher<>(
+                page -> functionService.listExecutions(functionId, page),
+                Execution::getId,
+                queries,
+                pageSize,
+                executor);
+    }
+
+    public static Flow.Publisher<Membership> memberships(
+            TeamService teamService, String teamId, List<String> queries, int pageSize, Executor executor) {
+        return new ListPublisher<>(
+                page -> teamService.listMemberships(teamId, page), Membership::getId, queries, pageSize, executor);
+    }
+
+    public static Flow.Publisher<Team> teams(
+            TeamService teamService, List<String> queries, int pageSize, Executor executor) {
+        return new ListPublisher<>(teamService::listTeams, Team::getId, queries, pageSize, executor);
+    }
+}
@@ -0,0 +1,147 @@
+package lt.xnatty.sdk.appwrite.query;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds Appwrite query strings for the {@code queries[]} parameter of list endpoints, e.g.
+ * {@code Query.limit(25)} becomes {@code {"method":"limit","values":[25]}}.
+ */
+public final class Query {
+    private static final Gson GSON = new Gson();
+
+    private Query() {}
+
+    public static String limit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return build("limit", null, List.of(limit));
+    }
+
+    public static String offset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        return build("offset", null, List.of(offset));
+    }
+
+    public static String cursorAfter(String documentId) {
+        return build("cursorAfter", null, List.of(requireId(documentId)));
+    }
+
+    public static String cursorBefore(String documentId) {
+        return build("cursorBefore", null, List.of(requireId(documentId)));
+    }
+
+    /** Matches documents whose attribute equals any of the given values. */
+    public static String equal(String attribute, Object... values) {
+        return build("equal", requireAttribute(attribute), requireValues(values));
+    }
+
+    public static String notEqual(String attribute, Object value) {
+        return build("notEqual", requireAttribute(attribute), List.of(value));
+    }
+
+    public static String lessThan(String attribute, Object value) {
+        return build("lessThan", requireAttribute(attribute), List.of(value));
+    }
+
+    public static String lessThanEqual(String attribute, Object value) {
+        return build("lessThanEqual", requireAttribute(attribute), List.of(value));
+    }
+
+    public static String greaterThan(String attribute, Object value) {
+        return build("greaterThan", requireAttribute(attribute), List.of(value));
+    }
+
+    public static String greaterThanEqual(String attribute, Object value) {
+        return build("greaterThanEqual", requireAttribute(attribute), List.of(value));
+    }
+
+    /** Matches values in the inclusive range {@code [start, end]}. */
+    public static String between(String attribute, Object start, Object end) {
+        return build("between", requireAttribute(attribute), List.of(start, end));
+    }
+
+    /** Full-text search; the attribute needs a fulltext index. */
+    public static String search(String attribute, String value) {
+        return build("search", requireAttribute(attribute), List.of(value));
+    }
+
+    public static String startsWith(String attribute, String value) {
+        return build("startsWith", requireAttribute(attribute), List.of(value));
+    }
+
+    public static String endsWith(String attribute, String value) {
+        return build("endsWith", requireAttribute(attribute), List.of(value));
+    }
+
+    public static String isNull(String attribute) {
+        return build("isNull", requireAttribute(attribute), null);
+    }
+
+    public static String isNotNull(String attribute) {
+        return build("isNotNull", requireAttribute(attribute), null);
+    }
+
+    public static String orderAsc(String attribute) {
+        return build("orderAsc", requireAttribute(attribute), null);
+    }
+
+    public static String orderDesc(String attribute) {
+        return build("orderDesc", requireAttribute(attribute), null);
+    }
+
+    /**
+     * Limits the returned attributes to the given ones. The server omits everything else, so only the selected
+     * attributes are transferred and deserialized; system attributes such as {@code $id} are always returned.
+     */
+    public static String select(String... attributes) {
+        if (attributes == null || attributes.length == 0) {
+            throw new IllegalArgumentException("Attributes cannot be null or empty");
+        }
+        for (String attribute : attributes) {
+            requireAttribute(attribute);
+        }
+        return build("select", null, List.of(attributes));
+    }
+
+    private static String requireAttribute(String attribute) {
+        if (attribute == null || attribute.trim().isEmpty()) {
+            throw new IllegalArgumentException("Attribute cannot be null or empty");
+        }
+        return attribute;
+    }
+
+    private static List<Object> requireValues(Object[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("Values cannot be null or empty");
+        }
+        return Arrays.asList(values);
+    }
+
+    private static String requireId(String id) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("Cursor ID cannot be null or empty");
+        }
+        return id;
+    }
+
+    static String build(String method, String attribute, List<?> values) {
+        JsonObject query = new JsonObject();
+        query.addProperty("method", method);
+        if (attribute != null) {
+            query.addProperty("attribute", attribute);
+        }
+        if (values != null) {
+            JsonArray array = new JsonArray();
+            values.forEach(value -> array.add(GSON.toJsonTree(value)));
+            query.add("values", array);
+        }
+        return GSON.toJson(query);
+    }
+}
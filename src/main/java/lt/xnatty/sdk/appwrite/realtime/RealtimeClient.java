@@ -0,0 +1,326 @@
+package lt.xnatty.sdk.appwrite.realtime;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lt.xnatty.sdk.appwrite.Client;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+
+/**
+ * Appwrite Realtime client. All subscriptions share one WebSocket whose URL lists the union of their channels; since
+ * the channel set is fixed per connection, subscribing to or releasing a channel reconnects. Dropped connections are
+ * re-established with jittered exponential backoff and resubscribe to the current channels.
+ */
+public final class RealtimeClient implements AutoCloseable {
+    private static final String PING = "{\"type\":\"ping\"}";
+
+    private final OkHttpClient httpClient;
+    private final Gson gson;
+    private final HttpUrl url;
+    private final String projectId;
+    private final Executor deliveryExecutor;
+    private final int queueCapacity;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final ScheduledExecutorService scheduler;
+    private final Set<RealtimeSubscription> subscriptions = new LinkedHashSet<>();
+    private WebSocket socket;
+    private Set<String> socketChannels = Set.of();
+    private boolean connected;
+    private boolean closed;
+    private int attempt;
+    private ScheduledFuture<?> pendingConnect;
+
+    private RealtimeClient(Builder builder) {
+        Client client = builder.client;
+        this.httpClient = client.getTransport().getHttpClient();
+        this.gson = client.getTransport().getGson();
+        this.url = HttpUrl.get(client.getEndpoint())
+                .newBuilder()
+                .addPathSegment("realtime")
+                .build();
+        this.projectId = client.getProjectId();
+        this.deliveryExecutor = builder.deliveryExecutor != null
+                ? builder.deliveryExecutor
+                : client.getTransport().getExecutor();
+        this.queueCapacity = builder.queueCapacity;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("appwrite-realtime").daemon(true).factory());
+        long ping = builder.pingInterval.toMillis();
+        scheduler.scheduleAtFixedRate(this::ping, ping, ping, TimeUnit.MILLISECONDS);
+    }
+
+    public static Builder builder(Client client) {
+        return new Builder(client);
+    }
+
+    public RealtimeSubscription subscribe(Consumer<RealtimeEvent> listener, String... channels) {
+        return subscribe(listener, Arrays.asList(channels));
+    }
+
+    public RealtimeSubscription subscribe(Consumer<RealtimeEvent> listener, List<String> channels) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        if (channels == null || channels.isEmpty()) {
+            throw new IllegalArgumentException("Channels cannot be null or empty");
+        }
+        RealtimeSubscription subscription =
+                new RealtimeSubscription(this, Set.copyOf(channels), listener, deliveryExecutor, queueCapacity);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Realtime client is closed");
+            }
+            subscriptions.add(subscription);
+            reconcile(0);
+        }
+        return subscription;
+    }
+
+    public synchronized boolean isConnected() {
+        return connected;
+    }
+
+    /** Channels of the current connection. */
+    public synchronized Set<String> getChannels() {
+        return socketChannels;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscriptions.clear();
+            disconnect("Client closed");
+        }
+        scheduler.shutdownNow();
+    }
+
+    synchronized void unsubscribe(RealtimeSubscription subscription) {
+        if (subscriptions.remove(subscription) && !closed) {
+            reconcile(0);
+        }
+    }
+
+    private Set<String> desiredChannels() {
+        Set<String> channels = new TreeSet<>();
+        for (RealtimeSubscription subscription : subscriptions) {
+            channels.addAll(subscription.getChannels());
+        }
+        return channels;
+    }
+
+    /** Schedules a (re)connect unless the open socket already carries exactly the wanted channels. */
+    private void reconcile(long delayMillis) {
+        if (socket != null && socketChannels.equals(desiredChannels())) {
+            return;
+        }
+        if (pendingConnect != null && !pendingConnect.isDone()) {
+            return;
+        }
+        pendingConnect = scheduler.schedule(this::connect, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void connect() {
+        pendingConnect = null;
+        if (closed) {
+            return;
+        }
+        Set<String> channels = desiredChannels();
+        if (socket != null && socketChannels.equals(channels)) {
+            return;
+        }
+        disconnect("Channels changed");
+        if (channels.isEmpty()) {
+            return;
+        }
+        HttpUrl.Builder target = url.newBuilder();
+        if (projectId != null) {
+            target.addQueryParameter("project", projectId);
+        }
+        for (String channel : channels) {
+            target.addQueryParameter("channels[]", channel);
+        }
+        Request.Builder request = new Request.Builder().url(target.build());
+        if (projectId != null) {
+            request.header("X-Appwrite-Project", projectId);
+        }
+        socketChannels = Set.copyOf(channels);
+        socket = httpClient.newWebSocket(request.build(), new Listener());
+    }
+
+    private void disconnect(String reason) {
+        if (socket != null) {
+            socket.close(1000, reason);
+            socket = null;
+        }
+        socketChannels = Set.of();
+        connected = false;
+    }
+
+    private synchronized void connectionLost(WebSocket webSocket) {
+        if (webSocket != socket) {
+            return;
+        }
+        socket = null;
+        socketChannels = Set.of();
+        connected = false;
+        if (!closed && !subscriptions.isEmpty()) {
+            reconcile(backoffMillis(attempt++));
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        double ceiling = initialBackoff.toMillis() * Math.pow(2, Math.min(attempt, 30));
+        long capped = (long) Math.min(maxBackoff.toMillis(), ceiling);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void ping() {
+        WebSocket current;
+        synchronized (this) {
+            current = connected ? socket : null;
+        }
+        if (current != null) {
+            current.send(PING);
+        }
+    }
+
+    private void dispatch(RealtimeEvent event) {
+        List<RealtimeSubscription> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(subscriptions);
+        }
+        for (RealtimeSubscription subscription : targets) {
+            if (subscription.matches(event.getChannels())) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    private final class Listener extends WebSocketListener {
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            JsonObject message;
+            try {
+                message = gson.fromJson(text, JsonObject.class);
+            } catch (JsonParseException e) {
+                return;
+            }
+            if (message == null || !message.has("type")) {
+                return;
+            }
+            JsonElement data = message.get("data");
+            switch (message.get("type").getAsString()) {
+                case "connected" -> {
+                    synchronized (RealtimeClient.this) {
+                        if (webSocket == socket) {
+                            connected = true;
+                            attempt = 0;
+                        }
+                    }
+                }
+                case "event" -> {
+                    if (data != null && data.isJsonObject()) {
+                        dispatch(gson.fromJson(data, RealtimeEvent.class));
+                    }
+                }
+                default -> {
+                    // "pong" and "error" need no handling; errors are followed by the server closing the socket.
+                }
+            }
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(1000, null);
+            connectionLost(webSocket);
+        }
+
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+            connectionLost(webSocket);
+        }
+    }
+
+    public static class Builder {
+        private final Client client;
+        private Executor deliveryExecutor;
+        private int queueCapacity = 1024;
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+        private Duration pingInterval = Duration.ofSeconds(20);
+
+        private Builder(Client client) {
+            if (client == null) {
+                throw new IllegalArgumentException("Client cannot be null");
+            }
+            this.client = client;
+        }
+
+        /** Executor that runs subscriber callbacks; defaults to the transport's executor. */
+        public Builder deliveryExecutor(Executor deliveryExecutor) {
+            this.deliveryExecutor = deliveryExecutor;
+            return this;
+        }
+
+        /** Maximum number of undelivered events kept per subscription. */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("Queue capacity must be at least 1");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder reconnectBackoff(Duration initialBackoff, Duration maxBackoff) {
+            if (initialBackoff == null
+                    || maxBackoff == null
+                    || initialBackoff.isNegative()
+                    || maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException("Backoff must be non-negative and max must be >= initial");
+            }
+            this.initialBackoff = initialBackoff;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder pingInterval(Duration pingInterval) {
+            if (pingInterval == null || pingInterval.isNegative() || pingInterval.isZero()) {
+                throw new IllegalArgumentException("Ping interval must be positive");
+            }
+            this.pingInterval = pingInterval;
+            return this;
+        }
+
+        public RealtimeClient build() {
+            return new RealtimeClient(this);
+        }
+    }
+}
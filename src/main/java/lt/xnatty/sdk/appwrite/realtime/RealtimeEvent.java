@@ -0,0 +1,27 @@
+package lt.xnatty.sdk.appwrite.realtime;
+
+import java.util.List;
+import java.util.Map;
+
+public class RealtimeEvent {
+    private List<String> events;
+    private List<String> channels;
+    private String timestamp;
+    private Map<String, Object> payload;
+
+    public List<String> getEvents() {
+        return events;
+    }
+
+    public List<String> getChannels() {
+        return channels;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public Map<String, Object> getPayload() {
+        return payload;
+    }
+}
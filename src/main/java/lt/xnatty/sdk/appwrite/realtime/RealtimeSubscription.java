@@ -0,0 +1,113 @@
+package lt.xnatty.sdk.appwrite.realtime;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A listener registered for a set of channels. Events are queued per subscription and delivered one at a time on the
+ * delivery executor; when a slow listener lets the queue fill up, the oldest queued event is dropped.
+ */
+public final class RealtimeSubscription implements AutoCloseable {
+    private final RealtimeClient client;
+    private final Set<String> channels;
+    private final Consumer<RealtimeEvent> listener;
+    private final Executor executor;
+    private final int capacity;
+    private final ArrayDeque<RealtimeEvent> queue = new ArrayDeque<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    RealtimeSubscription(
+            RealtimeClient client,
+            Set<String> channels,
+            Consumer<RealtimeEvent> listener,
+            Executor executor,
+            int capacity) {
+        this.client = client;
+        this.channels = channels;
+        this.listener = listener;
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    public Set<String> getChannels() {
+        return channels;
+    }
+
+    /** Events discarded because this subscription's queue was full. */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            client.unsubscribe(this);
+        }
+    }
+
+    boolean matches(List<String> eventChannels) {
+        if (eventChannels == null) {
+            return false;
+        }
+        for (String channel : eventChannels) {
+            if (channels.contains(channel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void offer(RealtimeEvent event) {
+        if (closed) {
+            return;
+        }
+        synchronized (queue) {
+            if (queue.size() == capacity) {
+                queue.poll();
+                dropped.incrementAndGet();
+            }
+            queue.add(event);
+        }
+        if (wip.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                wip.set(0);
+            }
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            while (true) {
+                RealtimeEvent event;
+                synchronized (queue) {
+                    event = queue.poll();
+                }
+                if (event == null || closed) {
+                    break;
+                }
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    // A failing listener must not stop delivery of later events.
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,45 @@
+package lt.xnatty.sdk.appwrite.services;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.models.User;
+import retrofit2.http.*;
+
+public interface AsyncAccountService {
+
+    @FormUrlEncoded
+    @POST("account")
+    CompletableFuture<User> create(
+            @Field("email") String email, @Field("password") String password, @Field("name") String name);
+
+    @FormUrlEncoded
+    @POST("account/sessions/email")
+    CompletableFuture<User> createEmailSession(@Field("email") String email, @Field("password") String password);
+
+    @GET("account")
+    CompletableFuture<User> get();
+
+    @GET("account/prefs")
+    CompletableFuture<Map<String, Object>> getPrefs();
+
+    @PATCH("account/prefs")
+    CompletableFuture<Map<String, Object>> updatePrefs(@Body Map<String, Object> prefs);
+
+    @FormUrlEncoded
+    @POST("account/recovery")
+    CompletableFuture<Void> createRecovery(@Field("email") String email, @Field("url") String url);
+
+    @FormUrlEncoded
+    @PUT("account/recovery")
+    CompletableFuture<Void> updateRecovery(
+            @Field("userId") String userId,
+            @Field("secret") String secret,
+            @Field("password") String password,
+            @Field("passwordAgain") String passwordAgain);
+
+    @DELETE("account/sessions/{sessionId}")
+    CompletableFuture<Void> deleteSession(@Path("sessionId") String sessionId);
+
+    @DELETE("account/sessions")
+    CompletableFuture<Void> deleteSessions();
+}
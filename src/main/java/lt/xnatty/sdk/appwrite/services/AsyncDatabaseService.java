@@ -0,0 +1,167 @@
+package lt.xnatty.sdk.appwrite.services;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lt.xnatty.sdk.appwrite.json.LazyDocument;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
+import lt.xnatty.sdk.appwrite.models.Collection;
+import lt.xnatty.sdk.appwrite.models.Database;
+import lt.xnatty.sdk.appwrite.models.Document;
+import okhttp3.ResponseBody;
+import retrofit2.http.*;
+
+public interface AsyncDatabaseService {
+
+    @FormUrlEncoded
+    @POST("databases")
+    CompletableFuture<Database> createDatabase(@Field("name") String name, @Field("databaseId") String databaseId);
+
+    @GET("databases")
+    CompletableFuture<List<Database>> listDatabases();
+
+    @GET("databases")
+    CompletableFuture<List<Database>> listDatabases(@Query("queries[]") List<String> queries);
+
+    @GET("databases/{databaseId}")
+    CompletableFuture<Database> getDatabase(@Path("databaseId") String databaseId);
+
+    @DELETE("databases/{databaseId}")
+    CompletableFuture<Void> deleteDatabase(@Path("databaseId") String databaseId);
+
+    @FormUrlEncoded
+    @POST("databases/{databaseId}/collections")
+    CompletableFuture<Collection> createCollection(
+            @Path("databaseId") String databaseId,
+            @Field("name") String name,
+            @Field("collectionId") String collectionId,
+            @Field("permissions") List<String> permissions);
+
+    @GET("databases/{databaseId}/collections")
+    CompletableFuture<List<Collection>> listCollections(@Path("databaseId") String databaseId);
+
+    @GET("databases/{databaseId}/collections")
+    CompletableFuture<List<Collection>> listCollections(
+            @Path("databaseId") String databaseId, @Query("queries[]") List<String> queries);
+
+    @GET("databases/{databaseId}/collections/{collectionId}")
+    CompletableFuture<Collection> getCollection(
+            @Path("databaseId") String databaseId, @Path("collectionId") String collectionId);
+
+    @DELETE("databases/{databaseId}/collections/{collectionId}")
+    CompletableFuture<Void> deleteCollection(
+            @Path("databaseId") String databaseId, @Path("collectionId") String collectionId);
+
+    @FormUrlEncoded
+    @POST("databases/{databaseId}/collections/{collectionId}/documents")
+    CompletableFuture<Document<Map<String, Object>>> createDocument(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Field("documentId") String documentId,
+            @Field("data") Map<String, Object> data,
+            @Field("permissions") List<String> permissions);
+
+    @GET("databases/{databaseId}/collections/{collectionId}/documents")
+    CompletableFuture<List<Document<Map<String, Object>>>> listDocuments(
+            @Path("databaseId") String databaseId, @Path("collectionId") String collectionId);
+
+    @GET("databases/{databaseId}/collections/{collectionId}/documents")
+    CompletableFuture<List<Document<Map<String, Object>>>> listDocuments(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Query("queries[]") List<String> queries);
+
+    @Streaming
+    @GET("databases/{databaseId}/collections/{collectionId}/documents")
+    CompletableFuture<ResponseBody> listDocumentsBody(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Query("queries[]") List<String> queries);
+
+    @GET("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
+    CompletableFuture<Document<Map<String, Object>>> getDocument(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Path("documentId") String documentId);
+
+    @GET("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
+    CompletableFuture<Document<Map<String, Object>>> getDocument(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Path("documentId") String documentId,
+            @Query("queries[]") List<String> queries);
+
+    @Streaming
+    @GET("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
+    CompletableFuture<ResponseBody> getDocumentBody(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Path("documentId") String documentId,
+            @Query("queries[]") List<String> queries);
+
+    /** Decodes the document's attributes directly into {@code type}, such as a record, instead of a map. */
+    default <T> CompletableFuture<Document<T>> getDocument(
+            String databaseId, String collectionId, String documentId, Class<T> type) {
+        return getDocument(databaseId, collectionId, documentId, TypeToken.get(type));
+    }
+
+    /**
+     * The default decodes with the shared {@link ModelGson#get()}; the service implementations override it to use
+     * their transport's Gson, so settings such as compact models apply. The same holds for the other typed and lazy
+     * reads.
+     */
+    default <T> CompletableFuture<Document<T>> getDocument(
+            String databaseId, String collectionId, String documentId, TypeToken<T> type) {
+        TypeAdapter<Document<T>> adapter = ModelGson.get().getAdapter(ModelGson.documentType(type));
+        return getDocumentBody(databaseId, collectionId, documentId, List.of()).thenApply(body -> read(body, adapter));
+    }
+
+    /** Reads the document as a {@link LazyDocument}, which decodes attributes only when they are accessed. */
+    default CompletableFuture<LazyDocument> getLazyDocument(String databaseId, String collectionId, String documentId) {
+        return getDocumentBody(databaseId, collectionId, documentId, List.of()).thenApply(body -> {
+            try {
+                return LazyDocument.read(body);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    default <T> CompletableFuture<List<Document<T>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries, Class<T> type) {
+        return listDocuments(databaseId, collectionId, queries, TypeToken.get(type));
+    }
+
+    default <T> CompletableFuture<List<Document<T>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries, TypeToken<T> type) {
+        TypeAdapter<List<Document<T>>> adapter = ModelGson.get().getAdapter(ModelGson.documentListType(type));
+        return listDocumentsBody(databaseId, collectionId, queries).thenApply(body -> read(body, adapter));
+    }
+
+    private static <T> T read(ResponseBody body, TypeAdapter<T> adapter) {
+        try {
+            return ModelGson.read(body, adapter);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @FormUrlEncoded
+    @PATCH("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
+    CompletableFuture<Document<Map<String, Object>>> updateDocument(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Path("documentId") String documentId,
+            @Field("data") Map<String, Object> data,
+            @Field("permissions") List<String> permissions);
+
+    @DELETE("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
+    CompletableFuture<Void> deleteDocument(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Path("documentId") String documentId);
+}
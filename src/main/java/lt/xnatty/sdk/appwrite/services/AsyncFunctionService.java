@@ -0,0 +1,66 @@
+package lt.xnatty.sdk.appwrite.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.models.Execution;
+import lt.xnatty.sdk.appwrite.models.Function;
+import retrofit2.http.*;
+
+public interface AsyncFunctionService {
+
+    @FormUrlEncoded
+    @POST("functions")
+    CompletableFuture<Function> createFunction(
+            @Field("functionId") String functionId,
+            @Field("name") String name,
+            @Field("runtime") String runtime,
+            @Field("execute") List<String> execute,
+            @Field("events") List<String> events,
+            @Field("schedule") String schedule,
+            @Field("timeout") Integer timeout,
+            @Field("enabled") Boolean enabled);
+
+    @GET("functions")
+    CompletableFuture<List<Function>> listFunctions();
+
+    @GET("functions")
+    CompletableFuture<List<Function>> listFunctions(@Query("queries[]") List<String> queries);
+
+    @GET("functions/{functionId}")
+    CompletableFuture<Function> getFunction(@Path("functionId") String functionId);
+
+    @FormUrlEncoded
+    @PUT("functions/{functionId}")
+    CompletableFuture<Function> updateFunction(
+            @Path("functionId") String functionId,
+            @Field("name") String name,
+            @Field("execute") List<String> execute,
+            @Field("events") List<String> events,
+            @Field("schedule") String schedule,
+            @Field("timeout") Integer timeout,
+            @Field("enabled") Boolean enabled);
+
+    @DELETE("functions/{functionId}")
+    CompletableFuture<Void> deleteFunction(@Path("functionId") String functionId);
+
+    @FormUrlEncoded
+    @POST("functions/{functionId}/executions")
+    CompletableFuture<Execution> createExecution(@Path("functionId") String functionId, @Field("data") String data);
+
+    @GET("functions/{functionId}/executions")
+    CompletableFuture<List<Execution>> listExecutions(@Path("functionId") String functionId);
+
+    @GET("functions/{functionId}/executions")
+    CompletableFuture<List<Execution>> listExecutions(
+            @Path("functionId") String functionId, @Query("queries[]") List<String> queries);
+
+    @GET("functions/{functionId}/executions/{executionId}")
+    CompletableFuture<Execution> getExecution(
+            @Path("functionId") String functionId, @Path("executionId") String executionId);
+
+    @FormUrlEncoded
+    @PUT("functions/{functionId}/variables")
+    CompletableFuture<Function> updateVariables(
+            @Path("functionId") String functionId, @FieldMap Map<String, String> variables);
+}
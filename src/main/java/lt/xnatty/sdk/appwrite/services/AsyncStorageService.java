@@ -0,0 +1,54 @@
+package lt.xnatty.sdk.appwrite.services;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.models.Bucket;
+import lt.xnatty.sdk.appwrite.models.File;
+import retrofit2.http.*;
+
+public interface AsyncStorageService {
+
+    @FormUrlEncoded
+    @POST("storage/buckets")
+    CompletableFuture<Bucket> createBucket(
+            @Field("bucketId") String bucketId,
+            @Field("name") String name,
+            @Field("permissions") List<String> permissions,
+            @Field("maximumFileSize") Long maximumFileSize,
+            @Field("allowedFileExtensions") List<String> allowedFileExtensions,
+            @Field("encryption") Boolean encryption,
+            @Field("antivirus") Boolean antivirus);
+
+    @GET("storage/buckets")
+    CompletableFuture<List<Bucket>> listBuckets();
+
+    @GET("storage/buckets")
+    CompletableFuture<List<Bucket>> listBuckets(@Query("queries[]") List<String> queries);
+
+    @GET("storage/buckets/{bucketId}")
+    CompletableFuture<Bucket> getBucket(@Path("bucketId") String bucketId);
+
+    @DELETE("storage/buckets/{bucketId}")
+    CompletableFuture<Void> deleteBucket(@Path("bucketId") String bucketId);
+
+    @Multipart
+    @POST("storage/buckets/{bucketId}/files")
+    CompletableFuture<File> createFile(
+            @Path("bucketId") String bucketId,
+            @Part okhttp3.MultipartBody.Part file,
+            @Part("fileId") String fileId,
+            @Part("permissions") List<String> permissions);
+
+    @GET("storage/buckets/{bucketId}/files")
+    CompletableFuture<List<File>> listFiles(@Path("bucketId") String bucketId);
+
+    @GET("storage/buckets/{bucketId}/files")
+    CompletableFuture<List<File>> listFiles(
+            @Path("bucketId") String bucketId, @Query("queries[]") List<String> queries);
+
+    @GET("storage/buckets/{bucketId}/files/{fileId}")
+    CompletableFuture<File> getFile(@Path("bucketId") String bucketId, @Path("fileId") String fileId);
+
+    @DELETE("storage/buckets/{bucketId}/files/{fileId}")
+    CompletableFuture<Void> deleteFile(@Path("bucketId") String bucketId, @Path("fileId") String fileId);
+}
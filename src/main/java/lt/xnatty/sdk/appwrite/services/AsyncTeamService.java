@@ -0,0 +1,66 @@
+package lt.xnatty.sdk.appwrite.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.models.Membership;
+import lt.xnatty.sdk.appwrite.models.Team;
+import retrofit2.http.*;
+
+public interface AsyncTeamService {
+
+    @FormUrlEncoded
+    @POST("teams")
+    CompletableFuture<Team> createTeam(
+            @Field("teamId") String teamId, @Field("name") String name, @Field("roles") List<String> roles);
+
+    @GET("teams")
+    CompletableFuture<List<Team>> listTeams();
+
+    @GET("teams")
+    CompletableFuture<List<Team>> listTeams(@Query("queries[]") List<String> queries);
+
+    @GET("teams/{teamId}")
+    CompletableFuture<Team> getTeam(@Path("teamId") String teamId);
+
+    @FormUrlEncoded
+    @PUT("teams/{teamId}")
+    CompletableFuture<Team> updateTeam(@Path("teamId") String teamId, @Field("name") String name);
+
+    @DELETE("teams/{teamId}")
+    CompletableFuture<Void> deleteTeam(@Path("teamId") String teamId);
+
+    @GET("teams/{teamId}/memberships")
+    CompletableFuture<List<Membership>> listMemberships(@Path("teamId") String teamId);
+
+    @GET("teams/{teamId}/memberships")
+    CompletableFuture<List<Membership>> listMemberships(
+            @Path("teamId") String teamId, @Query("queries[]") List<String> queries);
+
+    @FormUrlEncoded
+    @POST("teams/{teamId}/memberships")
+    CompletableFuture<Membership> createMembership(
+            @Path("teamId") String teamId,
+            @Field("email") String email,
+            @Field("roles") List<String> roles,
+            @Field("url") String url);
+
+    @GET("teams/{teamId}/memberships/{membershipId}")
+    CompletableFuture<Membership> getMembership(
+            @Path("teamId") String teamId, @Path("membershipId") String membershipId);
+
+    @FormUrlEncoded
+    @PATCH("teams/{teamId}/memberships/{membershipId}")
+    CompletableFuture<Membership> updateMembership(
+            @Path("teamId") String teamId,
+            @Path("membershipId") String membershipId,
+            @Field("roles") List<String> roles);
+
+    @DELETE("teams/{teamId}/memberships/{membershipId}")
+    CompletableFuture<Void> deleteMembership(@Path("teamId") String teamId, @Path("membershipId") String membershipId);
+
+    @FormUrlEncoded
+    @PUT("teams/{teamId}/prefs")
+    CompletableFuture<Map<String, Object>> updatePrefs(
+            @Path("teamId") String teamId, @FieldMap Map<String, Object> prefs);
+}
@@ -1,10 +1,15 @@
 package lt.xnatty.sdk.appwrite.services;
 
+import com.google.gson.reflect.TypeToken;
 import java.util.List;
 import java.util.Map;
+import lt.xnatty.sdk.appwrite.json.ConvertingCall;
+import lt.xnatty.sdk.appwrite.json.LazyDocument;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
 import lt.xnatty.sdk.appwrite.models.Collection;
 import lt.xnatty.sdk.appwrite.models.Database;
 import lt.xnatty.sdk.appwrite.models.Document;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.*;
 
@@ -17,6 +22,9 @@ public interface DatabaseService {
     @GET("databases")
     Call<List<Database>> listDatabases();
 
+    @GET("databases")
+    Call<List<Database>> listDatabases(@Query("queries[]") List<String> queries);
+
     @GET("databases/{databaseId}")
     Call<Database> getDatabase(@Path("databaseId") String databaseId);
 
@@ -34,6 +42,10 @@ public interface DatabaseService {
     @GET("databases/{databaseId}/collections")
     Call<List<Collection>> listCollections(@Path("databaseId") String databaseId);
 
+    @GET("databases/{databaseId}/collections")
+    Call<List<Collection>> listCollections(
+            @Path("databaseId") String databaseId, @Query("queries[]") List<String> queries);
+
     @GET("databases/{databaseId}/collections/{collectionId}")
     Call<Collection> getCollection(@Path("databaseId") String databaseId, @Path("collectionId") String collectionId);
 
@@ -53,12 +65,80 @@ public interface DatabaseService {
     Call<List<Document<Map<String, Object>>>> listDocuments(
             @Path("databaseId") String databaseId, @Path("collectionId") String collectionId);
 
+    @GET("databases/{databaseId}/collections/{collectionId}/documents")
+    Call<List<Document<Map<String, Object>>>> listDocuments(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Query("queries[]") List<String> queries);
+
+    /** Same request as {@link #listDocuments(String, String, List)} with an unbuffered body for streamed decoding. */
+    @Streaming
+    @GET("databases/{databaseId}/collections/{collectionId}/documents")
+    Call<ResponseBody> listDocumentsBody(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Query("queries[]") List<String> queries);
+
     @GET("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
     Call<Document<Map<String, Object>>> getDocument(
             @Path("databaseId") String databaseId,
             @Path("collectionId") String collectionId,
             @Path("documentId") String documentId);
 
+    @GET("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
+    Call<Document<Map<String, Object>>> getDocument(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Path("documentId") String documentId,
+            @Query("queries[]") List<String> queries);
+
+    /** Same request as {@link #getDocument(String, String, String, List)} with the body left undecoded. */
+    @Streaming
+    @GET("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
+    Call<ResponseBody> getDocumentBody(
+            @Path("databaseId") String databaseId,
+            @Path("collectionId") String collectionId,
+            @Path("documentId") String documentId,
+            @Query("queries[]") List<String> queries);
+
+    /** Decodes the document's attributes directly into {@code type}, such as a record, instead of a map. */
+    default <T> Call<Document<T>> getDocument(
+            String databaseId, String collectionId, String documentId, Class<T> type) {
+        return getDocument(databaseId, collectionId, documentId, TypeToken.get(type));
+    }
+
+    /**
+     * The default decodes with the shared {@link ModelGson#get()}; the service implementations override it to use
+     * their transport's Gson, so settings such as compact models apply. The same holds for the other typed and lazy
+     * reads.
+     */
+    default <T> Call<Document<T>> getDocument(
+            String databaseId, String collectionId, String documentId, TypeToken<T> type) {
+        return new ConvertingCall<>(
+                getDocumentBody(databaseId, collectionId, documentId, List.of()),
+                ModelGson.get(),
+                ModelGson.documentType(type));
+    }
+
+    /** Reads the document as a {@link LazyDocument}, which decodes attributes only when they are accessed. */
+    default Call<LazyDocument> getLazyDocument(String databaseId, String collectionId, String documentId) {
+        return new ConvertingCall<>(
+                getDocumentBody(databaseId, collectionId, documentId, List.of()), LazyDocument::read);
+    }
+
+    default <T> Call<List<Document<T>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries, Class<T> type) {
+        return listDocuments(databaseId, collectionId, queries, TypeToken.get(type));
+    }
+
+    default <T> Call<List<Document<T>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries, TypeToken<T> type) {
+        return new ConvertingCall<>(
+                listDocumentsBody(databaseId, collectionId, queries),
+                ModelGson.get(),
+                ModelGson.documentListType(type));
+    }
+
     @FormUrlEncoded
     @PATCH("databases/{databaseId}/collections/{collectionId}/documents/{documentId}")
     Call<Document<Map<String, Object>>> updateDocument(
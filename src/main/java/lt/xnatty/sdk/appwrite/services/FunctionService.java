@@ -24,6 +24,9 @@ public interface FunctionService {
     @GET("functions")
     Call<List<Function>> listFunctions();
 
+    @GET("functions")
+    Call<List<Function>> listFunctions(@Query("queries[]") List<String> queries);
+
     @GET("functions/{functionId}")
     Call<Function> getFunction(@Path("functionId") String functionId);
 
@@ -48,6 +51,10 @@ public interface FunctionService {
     @GET("functions/{functionId}/executions")
     Call<List<Execution>> listExecutions(@Path("functionId") String functionId);
 
+    @GET("functions/{functionId}/executions")
+    Call<List<Execution>> listExecutions(
+            @Path("functionId") String functionId, @Query("queries[]") List<String> queries);
+
     @GET("functions/{functionId}/executions/{executionId}")
     Call<Execution> getExecution(@Path("functionId") String functionId, @Path("executionId") String executionId);
 
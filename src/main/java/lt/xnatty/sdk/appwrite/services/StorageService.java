@@ -22,6 +22,9 @@ public interface StorageService {
     @GET("storage/buckets")
     Call<List<Bucket>> listBuckets();
 
+    @GET("storage/buckets")
+    Call<List<Bucket>> listBuckets(@Query("queries[]") List<String> queries);
+
     @GET("storage/buckets/{bucketId}")
     Call<Bucket> getBucket(@Path("bucketId") String bucketId);
 
@@ -39,6 +42,9 @@ public interface StorageService {
     @GET("storage/buckets/{bucketId}/files")
     Call<List<File>> listFiles(@Path("bucketId") String bucketId);
 
+    @GET("storage/buckets/{bucketId}/files")
+    Call<List<File>> listFiles(@Path("bucketId") String bucketId, @Query("queries[]") List<String> queries);
+
     @GET("storage/buckets/{bucketId}/files/{fileId}")
     Call<File> getFile(@Path("bucketId") String bucketId, @Path("fileId") String fileId);
 
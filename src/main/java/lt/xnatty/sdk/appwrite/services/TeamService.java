@@ -17,6 +17,9 @@ public interface TeamService {
     @GET("teams")
     Call<List<Team>> listTeams();
 
+    @GET("teams")
+    Call<List<Team>> listTeams(@Query("queries[]") List<String> queries);
+
     @GET("teams/{teamId}")
     Call<Team> getTeam(@Path("teamId") String teamId);
 
@@ -30,6 +33,9 @@ public interface TeamService {
     @GET("teams/{teamId}/memberships")
     Call<List<Membership>> listMemberships(@Path("teamId") String teamId);
 
+    @GET("teams/{teamId}/memberships")
+    Call<List<Membership>> listMemberships(@Path("teamId") String teamId, @Query("queries[]") List<String> queries);
+
     @FormUrlEncoded
     @POST("teams/{teamId}/memberships")
     Call<Membership> createMembership(
@@ -0,0 +1,60 @@
+package lt.xnatty.sdk.appwrite.services.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.models.User;
+import lt.xnatty.sdk.appwrite.services.AsyncAccountService;
+
+public class AsyncAccountServiceImpl implements AsyncAccountService {
+    private final AsyncAccountService accountService;
+
+    public AsyncAccountServiceImpl(Client client) {
+        this.accountService = client.createService(AsyncAccountService.class);
+    }
+
+    @Override
+    public CompletableFuture<User> create(String email, String password, String name) {
+        return accountService.create(email, password, name);
+    }
+
+    @Override
+    public CompletableFuture<User> createEmailSession(String email, String password) {
+        return accountService.createEmailSession(email, password);
+    }
+
+    @Override
+    public CompletableFuture<User> get() {
+        return accountService.get();
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getPrefs() {
+        return accountService.getPrefs();
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> updatePrefs(Map<String, Object> prefs) {
+        return accountService.updatePrefs(prefs);
+    }
+
+    @Override
+    public CompletableFuture<Void> createRecovery(String email, String url) {
+        return accountService.createRecovery(email, url);
+    }
+
+    @Override
+    public CompletableFuture<Void> updateRecovery(String userId, String secret, String password, String passwordAgain) {
+        return accountService.updateRecovery(userId, secret, password, passwordAgain);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSession(String sessionId) {
+        return accountService.deleteSession(sessionId);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSessions() {
+        return accountService.deleteSessions();
+    }
+}
@@ -0,0 +1,171 @@
+package lt.xnatty.sdk.appwrite.services.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.http.CredentialsScope.IOSupplier;
+import lt.xnatty.sdk.appwrite.json.LazyDocument;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
+import lt.xnatty.sdk.appwrite.models.Collection;
+import lt.xnatty.sdk.appwrite.models.Database;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.services.AsyncDatabaseService;
+import okhttp3.ResponseBody;
+
+public class AsyncDatabaseServiceImpl implements AsyncDatabaseService {
+    private final AsyncDatabaseService databaseService;
+    private final Gson gson;
+
+    public AsyncDatabaseServiceImpl(Client client) {
+        this.databaseService = client.createService(AsyncDatabaseService.class);
+        this.gson = client.getTransport().getGson();
+    }
+
+    @Override
+    public CompletableFuture<Database> createDatabase(String name, String id) {
+        return databaseService.createDatabase(name, id);
+    }
+
+    @Override
+    public CompletableFuture<List<Database>> listDatabases() {
+        return databaseService.listDatabases();
+    }
+
+    @Override
+    public CompletableFuture<List<Database>> listDatabases(List<String> queries) {
+        return databaseService.listDatabases(queries);
+    }
+
+    @Override
+    public CompletableFuture<Database> getDatabase(String databaseId) {
+        return databaseService.getDatabase(databaseId);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteDatabase(String databaseId) {
+        return databaseService.deleteDatabase(databaseId);
+    }
+
+    @Override
+    public CompletableFuture<Collection> createCollection(
+            String databaseId, String name, String collectionId, List<String> permissions) {
+        return databaseService.createCollection(databaseId, name, collectionId, permissions);
+    }
+
+    @Override
+    public CompletableFuture<List<Collection>> listCollections(String databaseId) {
+        return databaseService.listCollections(databaseId);
+    }
+
+    @Override
+    public CompletableFuture<List<Collection>> listCollections(String databaseId, List<String> queries) {
+        return databaseService.listCollections(databaseId, queries);
+    }
+
+    @Override
+    public CompletableFuture<Collection> getCollection(String databaseId, String collectionId) {
+        return databaseService.getCollection(databaseId, collectionId);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteCollection(String databaseId, String collectionId) {
+        return databaseService.deleteCollection(databaseId, collectionId);
+    }
+
+    @Override
+    public CompletableFuture<Document<Map<String, Object>>> createDocument(
+            String databaseId,
+            String collectionId,
+            String documentId,
+            Map<String, Object> data,
+            List<String> permissions) {
+        return databaseService.createDocument(databaseId, collectionId, documentId, data, permissions);
+    }
+
+    @Override
+    public CompletableFuture<List<Document<Map<String, Object>>>> listDocuments(
+            String databaseId, String collectionId) {
+        return databaseService.listDocuments(databaseId, collectionId);
+    }
+
+    @Override
+    public CompletableFuture<List<Document<Map<String, Object>>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries) {
+        return databaseService.listDocuments(databaseId, collectionId, queries);
+    }
+
+    @Override
+    public CompletableFuture<ResponseBody> listDocumentsBody(
+            String databaseId, String collectionId, List<String> queries) {
+        return databaseService.listDocumentsBody(databaseId, collectionId, queries);
+    }
+
+    @Override
+    public CompletableFuture<Document<Map<String, Object>>> getDocument(
+            String databaseId, String collectionId, String documentId) {
+        return databaseService.getDocument(databaseId, collectionId, documentId);
+    }
+
+    @Override
+    public CompletableFuture<Document<Map<String, Object>>> getDocument(
+            String databaseId, String collectionId, String documentId, List<String> queries) {
+        return databaseService.getDocument(databaseId, collectionId, documentId, queries);
+    }
+
+    @Override
+    public CompletableFuture<ResponseBody> getDocumentBody(
+            String databaseId, String collectionId, String documentId, List<String> queries) {
+        return databaseService.getDocumentBody(databaseId, collectionId, documentId, queries);
+    }
+
+    @Override
+    public <T> CompletableFuture<Document<T>> getDocument(
+            String databaseId, String collectionId, String documentId, TypeToken<T> type) {
+        TypeAdapter<Document<T>> adapter = gson.getAdapter(ModelGson.documentType(type));
+        return getDocumentBody(databaseId, collectionId, documentId, List.of())
+                .thenApply(body -> read(() -> ModelGson.read(body, adapter)));
+    }
+
+    @Override
+    public CompletableFuture<LazyDocument> getLazyDocument(String databaseId, String collectionId, String documentId) {
+        return getDocumentBody(databaseId, collectionId, documentId, List.of())
+                .thenApply(body -> read(() -> LazyDocument.read(body, gson)));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<Document<T>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries, TypeToken<T> type) {
+        TypeAdapter<List<Document<T>>> adapter = gson.getAdapter(ModelGson.documentListType(type));
+        return listDocumentsBody(databaseId, collectionId, queries)
+                .thenApply(body -> read(() -> ModelGson.read(body, adapter)));
+    }
+
+    private static <T> T read(IOSupplier<T> reader) {
+        try {
+            return reader.get();
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Document<Map<String, Object>>> updateDocument(
+            String databaseId,
+            String collectionId,
+            String documentId,
+            Map<String, Object> data,
+            List<String> permissions) {
+        return databaseService.updateDocument(databaseId, collectionId, documentId, data, permissions);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteDocument(String databaseId, String collectionId, String documentId) {
+        return databaseService.deleteDocument(databaseId, collectionId, documentId);
+    }
+}
@@ -0,0 +1,87 @@
+package lt.xnatty.sdk.appwrite.services.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.models.Execution;
+import lt.xnatty.sdk.appwrite.models.Function;
+import lt.xnatty.sdk.appwrite.services.AsyncFunctionService;
+
+public class AsyncFunctionServiceImpl implements AsyncFunctionService {
+    private final AsyncFunctionService functionService;
+
+    public AsyncFunctionServiceImpl(Client client) {
+        this.functionService = client.createService(AsyncFunctionService.class);
+    }
+
+    @Override
+    public CompletableFuture<Function> createFunction(
+            String functionId,
+            String name,
+            String runtime,
+            List<String> execute,
+            List<String> events,
+            String schedule,
+            Integer timeout,
+            Boolean enabled) {
+        return functionService.createFunction(functionId, name, runtime, execute, events, schedule, timeout, enabled);
+    }
+
+    @Override
+    public CompletableFuture<List<Function>> listFunctions() {
+        return functionService.listFunctions();
+    }
+
+    @Override
+    public CompletableFuture<List<Function>> listFunctions(List<String> queries) {
+        return functionService.listFunctions(queries);
+    }
+
+    @Override
+    public CompletableFuture<Function> getFunction(String functionId) {
+        return functionService.getFunction(functionId);
+    }
+
+    @Override
+    public CompletableFuture<Function> updateFunction(
+            String functionId,
+            String name,
+            List<String> execute,
+            List<String> events,
+            String schedule,
+            Integer timeout,
+            Boolean enabled) {
+        return functionService.updateFunction(functionId, name, execute, events, schedule, timeout, enabled);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteFunction(String functionId) {
+        return functionService.deleteFunction(functionId);
+    }
+
+    @Override
+    public CompletableFuture<Execution> createExecution(String functionId, String data) {
+        return functionService.createExecution(functionId, data);
+    }
+
+    @Override
+    public CompletableFuture<List<Execution>> listExecutions(String functionId) {
+        return functionService.listExecutions(functionId);
+    }
+
+    @Override
+    public CompletableFuture<List<Execution>> listExecutions(String functionId, List<String> queries) {
+        return functionService.listExecutions(functionId, queries);
+    }
+
+    @Override
+    public CompletableFuture<Execution> getExecution(String functionId, String executionId) {
+        return functionService.getExecution(functionId, executionId);
+    }
+
+    @Override
+    public CompletableFuture<Function> updateVariables(String functionId, Map<String, String> variables) {
+        return functionService.updateVariables(functionId, variables);
+    }
+}
@@ -0,0 +1,76 @@
+package lt.xnatty.sdk.appwrite.services.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.models.Bucket;
+import lt.xnatty.sdk.appwrite.models.File;
+import lt.xnatty.sdk.appwrite.services.AsyncStorageService;
+import okhttp3.MultipartBody;
+
+public class AsyncStorageServiceImpl implements AsyncStorageService {
+    private final AsyncStorageService storageService;
+
+    public AsyncStorageServiceImpl(Client client) {
+        this.storageService = client.createService(AsyncStorageService.class);
+    }
+
+    @Override
+    public CompletableFuture<Bucket> createBucket(
+            String bucketId,
+            String name,
+            List<String> permissions,
+            Long maximumFileSize,
+            List<String> allowedFileExtensions,
+            Boolean encryption,
+            Boolean antivirus) {
+        return storageService.createBucket(
+                bucketId, name, permissions, maximumFileSize, allowedFileExtensions, encryption, antivirus);
+    }
+
+    @Override
+    public CompletableFuture<List<Bucket>> listBuckets() {
+        return storageService.listBuckets();
+    }
+
+    @Override
+    public CompletableFuture<List<Bucket>> listBuckets(List<String> queries) {
+        return storageService.listBuckets(queries);
+    }
+
+    @Override
+    public CompletableFuture<Bucket> getBucket(String bucketId) {
+        return storageService.getBucket(bucketId);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteBucket(String bucketId) {
+        return storageService.deleteBucket(bucketId);
+    }
+
+    @Override
+    public CompletableFuture<File> createFile(
+            String bucketId, MultipartBody.Part file, String fileId, List<String> permissions) {
+        return storageService.createFile(bucketId, file, fileId, permissions);
+    }
+
+    @Override
+    public CompletableFuture<List<File>> listFiles(String bucketId) {
+        return storageService.listFiles(bucketId);
+    }
+
+    @Override
+    public CompletableFuture<List<File>> listFiles(String bucketId, List<String> queries) {
+        return storageService.listFiles(bucketId, queries);
+    }
+
+    @Override
+    public CompletableFuture<File> getFile(String bucketId, String fileId) {
+        return storageService.getFile(bucketId, fileId);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteFile(String bucketId, String fileId) {
+        return storageService.deleteFile(bucketId, fileId);
+    }
+}
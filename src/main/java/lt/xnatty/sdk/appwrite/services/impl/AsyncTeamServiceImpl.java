@@ -0,0 +1,82 @@
+package lt.xnatty.sdk.appwrite.services.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.models.Membership;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.services.AsyncTeamService;
+
+public class AsyncTeamServiceImpl implements AsyncTeamService {
+    private final AsyncTeamService teamService;
+
+    public AsyncTeamServiceImpl(Client client) {
+        this.teamService = client.createService(AsyncTeamService.class);
+    }
+
+    @Override
+    public CompletableFuture<Team> createTeam(String teamId, String name, List<String> roles) {
+        return teamService.createTeam(teamId, name, roles);
+    }
+
+    @Override
+    public CompletableFuture<List<Team>> listTeams() {
+        return teamService.listTeams();
+    }
+
+    @Override
+    public CompletableFuture<List<Team>> listTeams(List<String> queries) {
+        return teamService.listTeams(queries);
+    }
+
+    @Override
+    public CompletableFuture<Team> getTeam(String teamId) {
+        return teamService.getTeam(teamId);
+    }
+
+    @Override
+    public CompletableFuture<Team> updateTeam(String teamId, String name) {
+        return teamService.updateTeam(teamId, name);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTeam(String teamId) {
+        return teamService.deleteTeam(teamId);
+    }
+
+    @Override
+    public CompletableFuture<List<Membership>> listMemberships(String teamId) {
+        return teamService.listMemberships(teamId);
+    }
+
+    @Override
+    public CompletableFuture<List<Membership>> listMemberships(String teamId, List<String> queries) {
+        return teamService.listMemberships(teamId, queries);
+    }
+
+    @Override
+    public CompletableFuture<Membership> createMembership(String teamId, String email, List<String> roles, String url) {
+        return teamService.createMembership(teamId, email, roles, url);
+    }
+
+    @Override
+    public CompletableFuture<Membership> getMembership(String teamId, String membershipId) {
+        return teamService.getMembership(teamId, membershipId);
+    }
+
+    @Override
+    public CompletableFuture<Membership> updateMembership(String teamId, String membershipId, List<String> roles) {
+        return teamService.updateMembership(teamId, membershipId, roles);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteMembership(String teamId, String membershipId) {
+        return teamService.deleteMembership(teamId, membershipId);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> updatePrefs(String teamId, Map<String, Object> prefs) {
+        return teamService.updatePrefs(teamId, prefs);
+    }
+}
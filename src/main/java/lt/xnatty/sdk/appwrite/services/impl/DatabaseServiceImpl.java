@@ -1,19 +1,27 @@
 package lt.xnatty.sdk.appwrite.services.impl;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import java.util.List;
 import java.util.Map;
 import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.json.ConvertingCall;
+import lt.xnatty.sdk.appwrite.json.LazyDocument;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
 import lt.xnatty.sdk.appwrite.models.Collection;
 import lt.xnatty.sdk.appwrite.models.Database;
 import lt.xnatty.sdk.appwrite.models.Document;
 import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 
 public class DatabaseServiceImpl implements DatabaseService {
     private final DatabaseService databaseService;
+    private final Gson gson;
 
     public DatabaseServiceImpl(Client client) {
         this.databaseService = client.createService(DatabaseService.class);
+        this.gson = client.getTransport().getGson();
     }
 
     @Override
@@ -26,6 +34,11 @@ public class DatabaseServiceImpl implements DatabaseService {
         return databaseService.listDatabases();
     }
 
+    @Override
+    public Call<List<Database>> listDatabases(List<String> queries) {
+        return databaseService.listDatabases(queries);
+    }
+
     @Override
     public Call<Database> getDatabase(String databaseId) {
         return databaseService.getDatabase(databaseId);
@@ -47,6 +60,11 @@ public class DatabaseServiceImpl implements DatabaseService {
         return databaseService.listCollections(databaseId);
     }
 
+    @Override
+    public Call<List<Collection>> listCollections(String databaseId, List<String> queries) {
+        return databaseService.listCollections(databaseId, queries);
+    }
+
     @Override
     public Call<Collection> getCollection(String databaseId, String collectionId) {
         return databaseService.getCollection(databaseId, collectionId);
@@ -72,11 +90,55 @@ public class DatabaseServiceImpl implements DatabaseService {
         return databaseService.listDocuments(databaseId, collectionId);
     }
 
+    @Override
+    public Call<List<Document<Map<String, Object>>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries) {
+        return databaseService.listDocuments(databaseId, collectionId, queries);
+    }
+
+    @Override
+    public Call<ResponseBody> listDocumentsBody(String databaseId, String collectionId, List<String> queries) {
+        return databaseService.listDocumentsBody(databaseId, collectionId, queries);
+    }
+
     @Override
     public Call<Document<Map<String, Object>>> getDocument(String databaseId, String collectionId, String documentId) {
         return databaseService.getDocument(databaseId, collectionId, documentId);
     }
 
+    @Override
+    public Call<Document<Map<String, Object>>> getDocument(
+            String databaseId, String collectionId, String documentId, List<String> queries) {
+        return databaseService.getDocument(databaseId, collectionId, documentId, queries);
+    }
+
+    @Override
+    public Call<ResponseBody> getDocumentBody(
+            String databaseId, String collectionId, String documentId, List<String> queries) {
+        return databaseService.getDocumentBody(databaseId, collectionId, documentId, queries);
+    }
+
+    @Override
+    public <T> Call<Document<T>> getDocument(
+            String databaseId, String collectionId, String documentId, TypeToken<T> type) {
+        return new ConvertingCall<>(
+                getDocumentBody(databaseId, collectionId, documentId, List.of()), gson, ModelGson.documentType(type));
+    }
+
+    @Override
+    public Call<LazyDocument> getLazyDocument(String databaseId, String collectionId, String documentId) {
+        return new ConvertingCall<>(
+                getDocumentBody(databaseId, collectionId, documentId, List.of()),
+                body -> LazyDocument.read(body, gson));
+    }
+
+    @Override
+    public <T> Call<List<Document<T>>> listDocuments(
+            String databaseId, String collectionId, List<String> queries, TypeToken<T> type) {
+        return new ConvertingCall<>(
+                listDocumentsBody(databaseId, collectionId, queries), gson, ModelGson.documentListType(type));
+    }
+
     @Override
     public Call<Document<Map<String, Object>>> updateDocument(
             String databaseId,
@@ -33,6 +33,11 @@ public class FunctionServiceImpl implements FunctionService {
         return functionService.listFunctions();
     }
 
+    @Override
+    public Call<List<Function>> listFunctions(List<String> queries) {
+        return functionService.listFunctions(queries);
+    }
+
     @Override
     public Call<Function> getFunction(String functionId) {
         return functionService.getFunction(functionId);
@@ -65,6 +70,11 @@ public class FunctionServiceImpl implements FunctionService {
         return functionService.listExecutions(functionId);
     }
 
+    @Override
+    public Call<List<Execution>> listExecutions(String functionId, List<String> queries) {
+        return functionService.listExecutions(functionId, queries);
+    }
+
     @Override
     public Call<Execution> getExecution(String functionId, String executionId) {
         return functionService.getExecution(functionId, executionId);
@@ -33,6 +33,11 @@ public class StorageServiceImpl implements StorageService {
         return storageService.listBuckets();
     }
 
+    @Override
+    public Call<List<Bucket>> listBuckets(List<String> queries) {
+        return storageService.listBuckets(queries);
+    }
+
     @Override
     public Call<Bucket> getBucket(String bucketId) {
         return storageService.getBucket(bucketId);
@@ -53,6 +58,11 @@ public class StorageServiceImpl implements StorageService {
         return storageService.listFiles(bucketId);
     }
 
+    @Override
+    public Call<List<File>> listFiles(String bucketId, List<String> queries) {
+        return storageService.listFiles(bucketId, queries);
+    }
+
     @Override
     public Call<File> getFile(String bucketId, String fileId) {
         return storageService.getFile(bucketId, fileId);
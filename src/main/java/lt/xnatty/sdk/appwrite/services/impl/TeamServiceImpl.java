@@ -25,6 +25,11 @@ public class TeamServiceImpl implements TeamService {
         return teamService.listTeams();
     }
 
+    @Override
+    public Call<List<Team>> listTeams(List<String> queries) {
+        return teamService.listTeams(queries);
+    }
+
     @Override
     public Call<Team> getTeam(String teamId) {
         return teamService.getTeam(teamId);
@@ -45,6 +50,11 @@ public class TeamServiceImpl implements TeamService {
         return teamService.listMemberships(teamId);
     }
 
+    @Override
+    public Call<List<Membership>> listMemberships(String teamId, List<String> queries) {
+        return teamService.listMemberships(teamId, queries);
+    }
+
     @Override
     public Call<Membership> createMembership(String teamId, String email, List<String> roles, String url) {
         return teamService.createMembership(teamId, email, roles, url);
@@ -0,0 +1,278 @@
+package lt.xnatty.sdk.appwrite.snapshot;
+
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.MalformedJsonException;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import lt.xnatty.sdk.appwrite.json.LazyDocument;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.paging.KeysetPager;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+
+/**
+ * Local copy of one collection, persisted to a file so a restarted process does not have to scan the collection
+ * again. {@link #load()} memory-maps the file and indexes it without decoding anything, then fetches only the
+ * documents after the snapshot's watermark, the {@code $updatedAt} and ID of the last document fetched, using a
+ * {@link KeysetPager}. Documents are kept as JSON, in the mapping or on the heap for newer ones, and decoded when read.
+ *
+ * <p>A delta fetch cannot see deletions. Remove documents deleted elsewhere with {@link #remove}, or call {@link
+ * #rebuild()} now and then. Instances are thread-safe.
+ */
+public final class CollectionSnapshot {
+    private static final TypeToken<Document<Map<String, Object>>> DOCUMENT =
+            ModelGson.documentType(new TypeToken<>() {});
+    private static final int MAGIC = 0x41575350;
+    private static final int VERSION = 2;
+
+    private final DatabaseService databaseService;
+    private final String databaseId;
+    private final String collectionId;
+    private final Path file;
+    private final int pageSize;
+
+    private final Map<String, ByteBuffer> documents = new LinkedHashMap<>();
+    private String watermark;
+    private String watermarkId;
+
+    private CollectionSnapshot(Builder builder) {
+        this.databaseService = builder.databaseService;
+        this.databaseId = builder.databaseId;
+        this.collectionId = builder.collectionId;
+        this.file = builder.file;
+        this.pageSize = builder.pageSize;
+    }
+
+    public static Builder builder(DatabaseService databaseService, String databaseId, String collectionId, Path file) {
+        return new Builder(databaseService, databaseId, collectionId, file);
+    }
+
+    /**
+     * Reads the snapshot file, if there is a usable one, and fetches what changed since. A missing file, or one
+     * written for another collection or in another format, leads to a full scan. Returns the number of documents
+     * fetched from the server.
+     */
+    public synchronized int load() throws IOException {
+        clear();
+        readFile();
+        return refresh();
+    }
+
+    /** Fetches the documents after the watermark; without one, the whole collection. */
+    public synchronized int refresh() throws IOException {
+        KeysetPager pager =
+                new KeysetPager(databaseService, databaseId, collectionId, List.of(), pageSize, watermark, watermarkId);
+        int fetched = 0;
+        while (pager.hasMore()) {
+            for (Document<Map<String, Object>> document : pager.next()) {
+                documents.put(document.getId(), ByteBuffer.wrap(ModelGson.toBytes(document, DOCUMENT)));
+                fetched++;
+            }
+            // Moved page by page, so a failed refresh resumes after what it already stored.
+            watermark = pager.getUpdatedAt();
+            watermarkId = pager.getDocumentId();
+        }
+        return fetched;
+    }
+
+    /** Drops everything and scans the whole collection, which also forgets documents deleted on the server. */
+    public synchronized int rebuild() throws IOException {
+        clear();
+        return refresh();
+    }
+
+    /** Writes the snapshot to a temporary file next to the target and moves it into place. */
+    public synchronized void save() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                        temp,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeString(out, databaseId);
+            writeString(out, collectionId);
+            writeString(out, watermark);
+            writeString(out, watermarkId);
+            out.writeInt(documents.size());
+            for (Map.Entry<String, ByteBuffer> entry : documents.entrySet()) {
+                writeString(out, entry.getKey());
+                ByteBuffer json = entry.getValue().duplicate();
+                out.writeInt(json.remaining());
+                if (json.hasArray()) {
+                    out.write(json.array(), json.arrayOffset() + json.position(), json.remaining());
+                } else {
+                    byte[] bytes = new byte[json.remaining()];
+                    json.get(bytes);
+                    out.write(bytes);
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Decodes the document, or returns null when the snapshot does not hold it. */
+    public synchronized Document<Map<String, Object>> get(String documentId) throws IOException {
+        byte[] json = bytes(documentId);
+        return json == null ? null : ModelGson.fromBytes(json, DOCUMENT);
+    }
+
+    /** The document as a {@link LazyDocument}, for reads of a few attributes. */
+    public synchronized LazyDocument getLazy(String documentId) throws MalformedJsonException {
+        byte[] json = bytes(documentId);
+        return json == null ? null : LazyDocument.parse(json);
+    }
+
+    /** Decodes every document in turn, in the order they first entered the snapshot. */
+    public synchronized void forEach(Consumer<? super Document<Map<String, Object>>> action) throws IOException {
+        for (ByteBuffer json : documents.values()) {
+            action.accept(ModelGson.fromBytes(copy(json), DOCUMENT));
+        }
+    }
+
+    public synchronized boolean remove(String documentId) {
+        return documents.remove(documentId) != null;
+    }
+
+    public synchronized Set<String> documentIds() {
+        return Set.copyOf(documents.keySet());
+    }
+
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    /** {@code $updatedAt} of the last document fetched, or null before anything was fetched. */
+    public synchronized String getWatermark() {
+        return watermark;
+    }
+
+    private void readFile() throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        try (channel) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file is larger than 2 GB: " + file);
+            }
+            // The mapping stays valid after the channel is closed and is released with the last slice.
+            ByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (map.getInt() != MAGIC
+                    || map.getInt() != VERSION
+                    || !databaseId.equals(readString(map))
+                    || !collectionId.equals(readString(map))) {
+                return;
+            }
+            String storedWatermark = readString(map);
+            String storedWatermarkId = readString(map);
+            int count = map.getInt();
+            for (int i = 0; i < count; i++) {
+                String id = readString(map);
+                int length = map.getInt();
+                documents.put(id, map.slice(map.position(), length));
+                map.position(map.position() + length);
+            }
+            watermark = storedWatermark;
+            watermarkId = storedWatermarkId;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            clear();
+        }
+    }
+
+    private byte[] bytes(String documentId) {
+        ByteBuffer json = documents.get(documentId);
+        return json == null ? null : copy(json);
+    }
+
+    private void clear() {
+        documents.clear();
+        watermark = null;
+        watermarkId = null;
+    }
+
+    private static byte[] copy(ByteBuffer json) {
+        byte[] bytes = new byte[json.remaining()];
+        json.get(json.position(), bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static class Builder {
+        private final DatabaseService databaseService;
+        private final String databaseId;
+        private final String collectionId;
+        private final Path file;
+        private int pageSize = 100;
+
+        private Builder(DatabaseService databaseService, String databaseId, String collectionId, Path file) {
+            if (databaseService == null) {
+                throw new IllegalArgumentException("Database service cannot be null");
+            }
+            if (databaseId == null || databaseId.isEmpty() || collectionId == null || collectionId.isEmpty()) {
+                throw new IllegalArgumentException("Database ID and collection ID cannot be null or empty");
+            }
+            if (file == null) {
+                throw new IllegalArgumentException("Snapshot file cannot be null");
+            }
+            this.databaseService = databaseService;
+            this.databaseId = databaseId;
+            this.collectionId = collectionId;
+            this.file = file;
+        }
+
+        public Builder pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("Page size must be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public CollectionSnapshot build() {
+            return new CollectionSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package lt.xnatty.sdk.appwrite;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.services.TeamService;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+class ClientTest extends BaseTest {
+
+    @Test
+    void createServiceReusesProxy() {
+        assertSame(client.createService(TeamService.class), client.createService(TeamService.class));
+    }
+
+    @Test
+    void createServiceRequiresCredentials() {
+        Client incomplete = new Client().setEndpoint(mockWebServer.url("v1/").toString());
+        assertThrows(IllegalStateException.class, () -> incomplete.createService(TeamService.class));
+    }
+
+    @Test
+    void settersApplyToNewServices() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        client.setKey("rotated-key");
+        client.createService(TeamService.class).deleteTeam("test-team").execute();
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("test-project", request.getHeader("X-Appwrite-Project"));
+        assertEquals("rotated-key", request.getHeader("X-Appwrite-Key"));
+    }
+
+    @Test
+    void transportAppliesSettings() {
+        Transport transport = Transport.builder()
+                .maxRequests(128)
+                .maxRequestsPerHost(32)
+                .connectTimeout(Duration.ofSeconds(3))
+                .readTimeout(Duration.ofSeconds(4))
+                .writeTimeout(Duration.ofSeconds(5))
+                .callTimeout(Duration.ofSeconds(6))
+                .build();
+        assertEquals(128, transport.getHttpClient().dispatcher().getMaxRequests());
+        assertEquals(32, transport.getHttpClient().dispatcher().getMaxRequestsPerHost());
+        assertEquals(3000, transport.getHttpClient().connectTimeoutMillis());
+        assertEquals(4000, transport.getHttpClient().readTimeoutMillis());
+        assertEquals(5000, transport.getHttpClient().writeTimeoutMillis());
+        assertEquals(6000, transport.getHttpClient().callTimeoutMillis());
+        transport.shutdown();
+    }
+
+    @Test
+    void transportRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> Transport.builder().maxRequests(0));
+        assertThrows(IllegalArgumentException.class, () -> Transport.builder().keepAlive(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> Transport.builder().readTimeout(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new Client(null));
+    }
+
+    @Test
+    void clientsShareConnectionsOnSameTransport() throws Exception {
+        Transport transport = Transport.builder().build();
+        Client first = new Client(transport)
+                .setEndpoint(mockWebServer.url("v1/").toString())
+                .setProject("project-a")
+                .setKey("key-a");
+        Client second = new Client(transport)
+                .setEndpoint(mockWebServer.url("v1/").toString())
+                .setProject("project-b")
+                .setKey("key-b");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        first.createService(TeamService.class).deleteTeam("a").execute();
+        second.createService(TeamService.class).deleteTeam("b").execute();
+        RecordedRequest firstRequest = mockWebServer.takeRequest();
+        RecordedRequest secondRequest = mockWebServer.takeRequest();
+        assertEquals("project-a", firstRequest.getHeader("X-Appwrite-Project"));
+        assertEquals("project-b", secondRequest.getHeader("X-Appwrite-Project"));
+        assertEquals(0, firstRequest.getSequenceNumber());
+        assertEquals(1, secondRequest.getSequenceNumber());
+        assertEquals(1, transport.getHttpClient().connectionPool().connectionCount());
+        transport.shutdown();
+    }
+
+    @Test
+    void forProjectSendsScopedCredentials() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        client.forProject("tenant-project", "tenant-key")
+                .createService(TeamService.class)
+                .deleteTeam("test-team")
+                .execute();
+        client.createService(TeamService.class).deleteTeam("test-team").execute();
+        RecordedRequest scoped = mockWebServer.takeRequest();
+        RecordedRequest unscoped = mockWebServer.takeRequest();
+        assertEquals("tenant-project", scoped.getHeader("X-Appwrite-Project"));
+        assertEquals("tenant-key", scoped.getHeader("X-Appwrite-Key"));
+        assertEquals("test-project", unscoped.getHeader("X-Appwrite-Project"));
+        assertEquals("test-key", unscoped.getHeader("X-Appwrite-Key"));
+    }
+
+    @Test
+    void forProjectScopesEnqueuedAndClonedCalls() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        Call<Void> call = client.forProject("tenant-project", "tenant-key")
+                .createService(TeamService.class)
+                .deleteTeam("test-team");
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        call.clone().enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<Void> call, Response<Void> response) {
+                result.complete(response.code());
+            }
+
+            @Override
+            public void onFailure(Call<Void> call, Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        assertEquals(204, result.get(5, TimeUnit.SECONDS));
+        call.execute();
+        assertEquals("tenant-key", mockWebServer.takeRequest().getHeader("X-Appwrite-Key"));
+        assertEquals("tenant-key", mockWebServer.takeRequest().getHeader("X-Appwrite-Key"));
+    }
+
+    @Test
+    void forProjectCachesScopedServices() {
+        Client tenant = client.forProject("tenant-project", "tenant-key");
+        assertSame(tenant.createService(TeamService.class), tenant.createService(TeamService.class));
+        assertSame(client.getTransport(), tenant.getTransport());
+        assertThrows(IllegalStateException.class, () -> tenant.setKey("other-key"));
+        assertThrows(IllegalArgumentException.class, () -> client.forProject("", "tenant-key"));
+    }
+
+    @Test
+    void virtualThreadTransportDispatchesOnVirtualThreads() throws Exception {
+        Transport transport = Transport.builder().virtualThreads(true).build();
+        Client virtual = new Client(transport)
+                .setEndpoint(mockWebServer.url("v1/").toString())
+                .setProject("test-project")
+                .setKey("test-key");
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        CompletableFuture<Boolean> dispatchedOnVirtual = new CompletableFuture<>();
+        virtual.createService(TeamService.class).deleteTeam("test-team").enqueue(new Callback<>() {
+            @Override
+            public void onResponse(Call<Void> call, Response<Void> response) {
+                dispatchedOnVirtual.complete(Thread.currentThread().isVirtual());
+            }
+
+            @Override
+            public void onFailure(Call<Void> call, Throwable t) {
+                dispatchedOnVirtual.completeExceptionally(t);
+            }
+        });
+        assertTrue(dispatchedOnVirtual.get(5, TimeUnit.SECONDS));
+        assertTrue(transport.isVirtualThreads());
+        assertTrue(transport
+                .getExecutor()
+                .submit(() -> Thread.currentThread().isVirtual())
+                .get());
+        transport.shutdown();
+    }
+}
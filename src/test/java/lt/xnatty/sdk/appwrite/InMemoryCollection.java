@@ -0,0 +1,160 @@
+package lt.xnatty.sdk.appwrite;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Answers document list requests from an in-memory collection, honouring the filter, order, cursor and limit
+ * queries the SDK sends. Attributes ending in {@code At} compare as instants, everything else as strings.
+ */
+public final class InMemoryCollection extends Dispatcher {
+    private final Map<String, JsonObject> documents = new LinkedHashMap<>();
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+    private volatile int maxLimit = Integer.MAX_VALUE;
+    private volatile Predicate<List<String>> failing = queries -> false;
+    private volatile Runnable afterNextPage;
+
+    public synchronized InMemoryCollection put(String id, String createdAt, String updatedAt) {
+        JsonObject document = new JsonObject();
+        document.addProperty("$id", id);
+        document.addProperty("$createdAt", createdAt);
+        document.addProperty("$updatedAt", updatedAt);
+        document.add("data", new JsonObject());
+        documents.put(id, document);
+        return this;
+    }
+
+    /** Document IDs in insertion order. */
+    public synchronized List<String> ids() {
+        return List.copyOf(documents.keySet());
+    }
+
+    /** The {@code queries[]} of every list request so far. */
+    public List<List<String>> requests() {
+        return requests;
+    }
+
+    /** Rejects requests whose limit is above {@code maxLimit} with a 400, as the server does. */
+    public InMemoryCollection maxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /** Answers the requests whose queries match with a 500. */
+    public InMemoryCollection failWhen(Predicate<List<String>> failing) {
+        this.failing = failing;
+        return this;
+    }
+
+    /** Runs once, after the next page has been read and before it is returned. */
+    public InMemoryCollection afterNextPage(Runnable afterNextPage) {
+        this.afterNextPage = afterNextPage;
+        return this;
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        List<String> queries = request.getRequestUrl().queryParameterValues("queries[]");
+        requests.add(queries);
+        if (failing.test(queries)) {
+            return new MockResponse().setResponseCode(500);
+        }
+        List<JsonObject> matches;
+        synchronized (this) {
+            matches = new ArrayList<>(documents.values());
+        }
+        Comparator<JsonObject> order = null;
+        int limit = 25;
+        String cursor = null;
+        for (String raw : queries) {
+            JsonObject query = JsonParser.parseString(raw).getAsJsonObject();
+            String method = query.get("method").getAsString();
+            String attribute = query.has("attribute") ? query.get("attribute").getAsString() : null;
+            JsonArray values = query.getAsJsonArray("values");
+            switch (method) {
+                case "limit" -> limit = values.get(0).getAsInt();
+                case "cursorAfter" -> cursor = values.get(0).getAsString();
+                case "orderAsc", "orderDesc" -> {
+                    Comparator<JsonObject> key = Comparator.comparing(document -> value(document, attribute));
+                    key = method.equals("orderAsc") ? key : key.reversed();
+                    order = order == null ? key : order.thenComparing(key);
+                }
+                default -> {
+                    Comparable<Object> bound = value(attribute, values.get(0).getAsString());
+                    matches.removeIf(document ->
+                            !matches(method, value(document, attribute).compareTo(bound)));
+                }
+            }
+        }
+        if (limit > maxLimit) {
+            return error(400, "Invalid query: limit must be at most " + maxLimit);
+        }
+        if (order != null) {
+            matches.sort(order);
+        }
+        if (cursor != null) {
+            String after = cursor;
+            int index = matches.stream().map(InMemoryCollection::id).toList().indexOf(after);
+            if (index < 0) {
+                return error(400, "Document '" + after + "' for the 'cursor' value not found.");
+            }
+            matches.subList(0, index + 1).clear();
+        }
+        String body =
+                matches.stream().limit(limit).map(JsonObject::toString).collect(Collectors.joining(",", "[", "]"));
+        Runnable hook = afterNextPage;
+        if (hook != null) {
+            afterNextPage = null;
+            hook.run();
+        }
+        return new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Type", "application/json");
+    }
+
+    private static boolean matches(String method, int comparison) {
+        return switch (method) {
+            case "equal" -> comparison == 0;
+            case "greaterThan" -> comparison > 0;
+            case "greaterThanEqual" -> comparison >= 0;
+            case "lessThan" -> comparison < 0;
+            case "lessThanEqual" -> comparison <= 0;
+            default -> throw new IllegalArgumentException("Unsupported query method: " + method);
+        };
+    }
+
+    private static Comparable<Object> value(JsonObject document, String attribute) {
+        return value(attribute, document.get(attribute).getAsString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> value(String attribute, String value) {
+        return (Comparable<Object>) (Comparable<?>) (attribute.endsWith("At") ? Instant.parse(value) : value);
+    }
+
+    private static String id(JsonObject document) {
+        return document.get("$id").getAsString();
+    }
+
+    private static MockResponse error(int code, String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("message", message);
+        error.addProperty("code", code);
+        error.addProperty("type", "general_query_invalid");
+        return new MockResponse()
+                .setResponseCode(code)
+                .setBody(error.toString())
+                .addHeader("Content-Type", "application/json");
+    }
+}
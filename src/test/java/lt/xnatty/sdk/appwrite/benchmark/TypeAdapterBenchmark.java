@@ -0,0 +1,91 @@
+package lt.xnatty.sdk.appwrite.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.Execution;
+import lt.xnatty.sdk.appwrite.models.GeneratedTypeAdapterFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares decode throughput of the generated model adapters against Gson's reflective adapters, for a page of
+ * documents and a page of executions, plus the cost of the first decode on a fresh {@link Gson}. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class TypeAdapterBenchmark {
+    private static final int PAGE_SIZE = 5_000;
+    private static final int ROUNDS = 20;
+    private static final Type DOCUMENTS = new TypeToken<List<Document<Map<String, Object>>>>() {}.getType();
+    private static final Type EXECUTIONS = new TypeToken<List<Execution>>() {}.getType();
+
+    @Test
+    void reflectiveVersusGenerated() {
+        String documents = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> "{\"$id\":\"doc-" + i + "\",\"$createdAt\":\"2024-01-01T00:00:00.000+00:00\","
+                        + "\"$updatedAt\":\"2024-01-01T00:00:00.000+00:00\",\"$collectionId\":\"orders\","
+                        + "\"$databaseId\":\"shop\",\"$permissions\":[\"read(\\\"any\\\")\"],"
+                        + "\"data\":{\"total\":" + i + ",\"status\":\"paid\"}}")
+                .collect(Collectors.joining(",", "[", "]"));
+        String executions = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> "{\"$id\":\"exec-" + i + "\",\"$createdAt\":\"2024-01-01T00:00:00.000+00:00\","
+                        + "\"$updatedAt\":\"2024-01-01T00:00:00.000+00:00\",\"functionId\":\"fn\","
+                        + "\"trigger\":\"http\",\"status\":\"completed\",\"statusCode\":200,\"response\":\"ok\","
+                        + "\"stdout\":\"\",\"stderr\":\"\",\"duration\":0.25}")
+                .collect(Collectors.joining(",", "[", "]"));
+        Gson reflective = new GsonBuilder().setLenient().create();
+        Gson generated = Transport.getDefault().getGson();
+
+        System.out.printf("%d-element pages, %d rounds%n", PAGE_SIZE, ROUNDS);
+        System.out.printf(
+                "%12s %18s %18s %18s%n", "model", "first decode ms", "reflective pages/s", "generated pages/s");
+        report("documents", documents, DOCUMENTS, reflective, generated);
+        report("executions", executions, EXECUTIONS, reflective, generated);
+    }
+
+    private static void report(String name, String json, Type type, Gson reflective, Gson generated) {
+        double firstReflective =
+                firstDecodeMillis(new GsonBuilder().setLenient().create(), json, type);
+        double firstGenerated = firstDecodeMillis(
+                new GsonBuilder()
+                        .setLenient()
+                        .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                        .create(),
+                json,
+                type);
+        double reflectiveRate = pagesPerSecond(reflective, json, type);
+        double generatedRate = pagesPerSecond(generated, json, type);
+        System.out.printf(
+                "%12s %8.1f / %7.1f %18.1f %18.1f%n",
+                name, firstReflective, firstGenerated, reflectiveRate, generatedRate);
+    }
+
+    private static double firstDecodeMillis(Gson gson, String json, Type type) {
+        long start = System.nanoTime();
+        List<?> page = gson.fromJson(json, type);
+        assertEquals(PAGE_SIZE, page.size());
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static double pagesPerSecond(Gson gson, String json, Type type) {
+        for (int i = 0; i < ROUNDS; i++) {
+            gson.fromJson(json, type);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            List<?> page = gson.fromJson(json, type);
+            assertEquals(PAGE_SIZE, page.size());
+        }
+        return ROUNDS / ((System.nanoTime() - start) / 1e9);
+    }
+}
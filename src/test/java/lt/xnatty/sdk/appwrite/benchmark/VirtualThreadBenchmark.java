@@ -0,0 +1,115 @@
+package lt.xnatty.sdk.appwrite.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares blocking {@code execute()} throughput from platform-thread handler pools against virtual-thread handlers
+ * on a virtual-thread transport, at the same number of in-flight calls. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmark {
+    private static final int CALLS = 2_000;
+    private static final int[] CONCURRENCY = {50, 200, 500};
+    private static final long SERVER_DELAY_MILLIS = 100;
+
+    private MockWebServer mockWebServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .setBody("{\"$id\":\"db\",\"name\":\"Benchmark\",\"enabled\":true}")
+                        .addHeader("Content-Type", "application/json")
+                        .setHeadersDelay(SERVER_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        });
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        Transport platform = transport(false);
+        Transport virtual = transport(true);
+        try {
+            run(platform, Executors.newFixedThreadPool(CONCURRENCY[0]), CONCURRENCY[0]);
+            run(virtual, virtual.getExecutor(), CONCURRENCY[0]);
+            System.out.printf("%d blocking calls, %d ms server latency%n", CALLS, SERVER_DELAY_MILLIS);
+            System.out.printf("%12s %18s %18s%n", "in-flight", "platform calls/s", "virtual calls/s");
+            for (int concurrency : CONCURRENCY) {
+                double platformRate = run(platform, Executors.newFixedThreadPool(concurrency), concurrency);
+                double virtualRate = run(virtual, virtual.getExecutor(), concurrency);
+                System.out.printf("%12d %18.0f %18.0f%n", concurrency, platformRate, virtualRate);
+            }
+        } finally {
+            platform.shutdown();
+            virtual.shutdown();
+        }
+    }
+
+    private static Transport transport(boolean virtualThreads) {
+        return Transport.builder()
+                .maxIdleConnections(CONCURRENCY[CONCURRENCY.length - 1])
+                .readTimeout(Duration.ofMinutes(1))
+                .virtualThreads(virtualThreads)
+                .build();
+    }
+
+    private double run(Transport transport, ExecutorService handlers, int concurrency) throws Exception {
+        DatabaseService databaseService = new DatabaseServiceImpl(new Client(transport)
+                .setEndpoint(mockWebServer.url("v1/").toString())
+                .setProject("benchmark")
+                .setKey("benchmark"));
+        Semaphore inFlight = new Semaphore(concurrency);
+        long start = System.nanoTime();
+        List<Future<Boolean>> results = new ArrayList<>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            inFlight.acquire();
+            results.add(handlers.submit(() -> {
+                try {
+                    return databaseService.getDatabase("db").execute().isSuccessful();
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(2, TimeUnit.MINUTES));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        if (!transport.isVirtualThreads()) {
+            handlers.shutdown();
+        }
+        return CALLS / seconds;
+    }
+}
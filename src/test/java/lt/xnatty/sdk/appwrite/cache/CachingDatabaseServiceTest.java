@@ -0,0 +1,182 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.StringPool;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+class CachingDatabaseServiceTest extends BaseTest {
+    private CachingDatabaseService databaseService;
+
+    @BeforeEach
+    void init() {
+        databaseService = CachingDatabaseService.builder(new DatabaseServiceImpl(client))
+                .defaultTtl(Duration.ofMinutes(1))
+                .collectionTtl("test-db", "volatile", Duration.ZERO)
+                .build();
+    }
+
+    private MockResponse document() throws Exception {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("document"))
+                .addHeader("Content-Type", "application/json");
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() throws Exception {
+        mockWebServer.enqueue(document());
+        Document<Map<String, Object>> first = databaseService
+                .getDocument("test-db", "test-collection", "test-doc")
+                .execute()
+                .body();
+        Document<Map<String, Object>> second = databaseService
+                .getDocument("test-db", "test-collection", "test-doc")
+                .execute()
+                .body();
+        assertSame(first, second);
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void zeroTtlCollectionsAreNotCached() throws Exception {
+        mockWebServer.enqueue(document());
+        mockWebServer.enqueue(document());
+        databaseService.getDocument("test-db", "volatile", "test-doc").execute();
+        databaseService.getDocument("test-db", "volatile", "test-doc").execute();
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void updateRefreshesCachedDocument() throws Exception {
+        mockWebServer.enqueue(document());
+        mockWebServer.enqueue(document());
+        databaseService.getDocument("test-db", "test-collection", "test-doc").execute();
+        Document<Map<String, Object>> updated = databaseService
+                .updateDocument("test-db", "test-collection", "test-doc", Map.of("name", "John Doe"), List.of())
+                .execute()
+                .body();
+        Document<Map<String, Object>> cached = databaseService
+                .getDocument("test-db", "test-collection", updated.getId())
+                .execute()
+                .body();
+        assertSame(updated, cached);
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void deleteDocumentInvalidates() throws Exception {
+        mockWebServer.enqueue(document());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+        databaseService.getDocument("test-db", "test-collection", "test-doc").execute();
+        databaseService.deleteDocument("test-db", "test-collection", "test-doc").execute();
+        assertEquals(
+                404,
+                databaseService
+                        .getDocument("test-db", "test-collection", "test-doc")
+                        .execute()
+                        .code());
+    }
+
+    @Test
+    void deleteCollectionInvalidatesItsDocuments() throws Exception {
+        mockWebServer.enqueue(document());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        databaseService.getDocument("test-db", "test-collection", "test-doc").execute();
+        assertEquals(1, databaseService.size());
+        databaseService.deleteCollection("test-db", "test-collection").execute();
+        assertEquals(0, databaseService.size());
+    }
+
+    @Test
+    void asyncHitsCompleteImmediately() throws Exception {
+        mockWebServer.enqueue(document());
+        databaseService.getDocument("test-db", "test-collection", "test-doc").execute();
+        AtomicReference<Document<Map<String, Object>>> hit = new AtomicReference<>();
+        databaseService.getDocument("test-db", "test-collection", "test-doc").enqueue(new Callback<>() {
+            @Override
+            public void onResponse(
+                    Call<Document<Map<String, Object>>> call, Response<Document<Map<String, Object>>> response) {
+                hit.set(response.body());
+            }
+
+            @Override
+            public void onFailure(Call<Document<Map<String, Object>>> call, Throwable t) {}
+        });
+        assertEquals("John Doe", hit.get().getData().get("name"));
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void heapMissesAreServedFromOffHeapTier() throws Exception {
+        CachingDatabaseService tiered = CachingDatabaseService.builder(new DatabaseServiceImpl(client))
+                .maxEntries(1)
+                .offHeap(1 << 16, 1 << 14)
+                .build();
+        mockWebServer.enqueue(document());
+        mockWebServer.enqueue(document());
+        Document<Map<String, Object>> first =
+                tiered.getDocument("test-db", "test-collection", "a").execute().body();
+        tiered.getDocument("test-db", "test-collection", "b").execute();
+        assertEquals(1, tiered.size());
+        assertEquals(2, tiered.offHeapSize());
+
+        Document<Map<String, Object>> promoted =
+                tiered.getDocument("test-db", "test-collection", "a").execute().body();
+        assertNotSame(first, promoted);
+        assertEquals(first.getId(), promoted.getId());
+        assertEquals(first.getCreatedAt(), promoted.getCreatedAt());
+        assertEquals(first.getData(), promoted.getData());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, tiered.getStats().offHeapHitCount());
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        tiered.deleteCollection("test-db", "test-collection").execute();
+        assertEquals(0, tiered.offHeapSize());
+    }
+
+    @Test
+    void offHeapCopiesAreDecodedWithTheClientsGson() throws Exception {
+        Transport transport =
+                Transport.builder().compactModels(new StringPool(100, 64)).build();
+        try {
+            Client compact = new Client(transport)
+                    .setEndpoint(mockWebServer.url("v1/").toString())
+                    .setProject("test-project")
+                    .setKey("test-key");
+            CachingDatabaseService tiered = CachingDatabaseService.builder(compact)
+                    .maxEntries(1)
+                    .offHeap(1 << 16, 1 << 14)
+                    .build();
+            mockWebServer.enqueue(document());
+            mockWebServer.enqueue(document());
+            Document<Map<String, Object>> first = tiered.getDocument("test-db", "test-collection", "a")
+                    .execute()
+                    .body();
+            tiered.getDocument("test-db", "test-collection", "b").execute();
+
+            Document<Map<String, Object>> promoted = tiered.getDocument("test-db", "test-collection", "a")
+                    .execute()
+                    .body();
+            assertEquals(1, tiered.getStats().offHeapHitCount());
+            assertSame(first.getDatabaseId(), promoted.getDatabaseId());
+        } finally {
+            transport.shutdown();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LocalCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        LocalCache<String, String> cache =
+                LocalCache.<String, String>builder().maxEntries(2).build();
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    void evictsByWeight() {
+        LocalCache<String, String> cache = LocalCache.<String, String>builder()
+                .maxWeight(10, (key, value) -> value.length())
+                .build();
+        cache.put("a", "12345");
+        cache.put("b", "12345");
+        cache.put("c", "1");
+        assertNull(cache.get("a"));
+        assertEquals(6, cache.weight());
+        cache.put("d", "12345678901");
+        assertNull(cache.get("d"));
+    }
+
+    @Test
+    void expiresEntries() throws Exception {
+        LocalCache<String, String> cache = LocalCache.<String, String>builder().build();
+        cache.put("a", "1", Duration.ofMillis(20));
+        assertEquals("1", cache.get("a"));
+        Thread.sleep(40);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidationRejectsOlderGeneration() {
+        LocalCache<String, String> cache = LocalCache.<String, String>builder().build();
+        long generation = cache.generation();
+        cache.invalidate("a");
+        assertFalse(cache.putIfGeneration("a", "stale", Duration.ofMinutes(1), generation));
+        assertNull(cache.get("a"));
+    }
+}
@@ -0,0 +1,63 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class OffHeapStoreTest {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Test
+    void storesValuesInTheSmallestFittingChunk() {
+        OffHeapStore store = new OffHeapStore(4096, 1024);
+        assertTrue(store.put("a", bytes(10, 'a'), 0, NEVER));
+        assertTrue(store.put("b", bytes(300, 'b'), 0, NEVER));
+        assertArrayEquals(bytes(10, 'a'), store.get("a", 0).value());
+        assertArrayEquals(bytes(300, 'b'), store.get("b", 0).value());
+        assertEquals(256 + 512, store.usedBytes());
+        assertEquals(2048, store.reservedBytes());
+        assertFalse(store.put("c", bytes(1025, 'c'), 0, NEVER));
+        assertNull(store.get("c", 0));
+    }
+
+    @Test
+    void clockEvictsEntriesNotReadSinceTheLastSweep() {
+        OffHeapStore store = new OffHeapStore(1024, 1024);
+        for (String key : new String[] {"a", "b", "c", "d"}) {
+            assertTrue(store.put(key, bytes(100, key.charAt(0)), 0, NEVER));
+        }
+        store.get("a", 0);
+        store.get("c", 0);
+        assertTrue(store.put("e", bytes(100, 'e'), 0, NEVER));
+        assertTrue(store.put("f", bytes(100, 'f'), 0, NEVER));
+        assertNull(store.get("b", 0));
+        assertNull(store.get("d", 0));
+        assertArrayEquals(bytes(100, 'a'), store.get("a", 0).value());
+        assertArrayEquals(bytes(100, 'c'), store.get("c", 0).value());
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    void expiresAndInvalidatesEntries() {
+        OffHeapStore store = new OffHeapStore(1024, 1024);
+        store.put("db/a/1", bytes(1, '1'), 5, 10);
+        store.put("db/a/2", bytes(1, '2'), 5, NEVER);
+        store.put("db/b/1", bytes(1, '3'), 5, NEVER);
+        assertEquals(5, store.get("db/a/1", 9).freshUntilNanos());
+        assertNull(store.get("db/a/1", 10));
+        store.invalidateIf(key -> key.startsWith("db/a/"));
+        assertNull(store.get("db/a/2", 0));
+        assertEquals(1, store.size());
+        assertEquals(256, store.usedBytes());
+        assertTrue(store.put("db/b/1", bytes(2, '4'), 5, NEVER));
+        assertArrayEquals(bytes(2, '4'), store.get("db/b/1", 0).value());
+        assertEquals(1, store.size());
+    }
+
+    private static byte[] bytes(int length, char value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+}
@@ -0,0 +1,191 @@
+package lt.xnatty.sdk.appwrite.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.StorageServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+
+class ReadPoliciesTest extends BaseTest {
+    private static final String NOT_FOUND =
+            "{\"message\":\"Document not found\",\"code\":404,\"type\":\"document_not_found\"}";
+
+    private MockResponse document(String name) throws Exception {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("document").replace("John Doe", name))
+                .addHeader("Content-Type", "application/json");
+    }
+
+    private CachingDatabaseService.Builder databaseService() {
+        return CachingDatabaseService.builder(new DatabaseServiceImpl(client)).refreshExecutor(Runnable::run);
+    }
+
+    private static String nameOf(Response<Document<Map<String, Object>>> response) {
+        return (String) response.body().getData().get("name");
+    }
+
+    @Test
+    void staleEntriesAreServedWhileRefreshing() throws Exception {
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingDatabaseService databaseService = databaseService()
+                .defaultTtl(Duration.ofMillis(500))
+                .staleWhileRevalidate(Duration.ofMinutes(1))
+                .refreshExecutor(refreshes::add)
+                .build();
+        mockWebServer.enqueue(document("John Doe"));
+        mockWebServer.enqueue(document("Jane Doe"));
+        databaseService.getDocument("db", "coll", "doc").execute();
+        Thread.sleep(600);
+        assertEquals(
+                "John Doe",
+                nameOf(databaseService.getDocument("db", "coll", "doc").execute()));
+        assertEquals(1, refreshes.size());
+        refreshes.get(0).run();
+        assertEquals(
+                "Jane Doe",
+                nameOf(databaseService.getDocument("db", "coll", "doc").execute()));
+        CacheStats stats = databaseService.getStats();
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.staleHitCount());
+        assertEquals(1, stats.hitCount());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void clientBuilderRefreshesOnTheClientsTransport() throws Exception {
+        Transport transport = Transport.builder().build();
+        Client custom = new Client(transport)
+                .setEndpoint(mockWebServer.url("v1/").toString())
+                .setProject("test-project")
+                .setKey("test-key");
+        CachingDatabaseService databaseService = CachingDatabaseService.builder(custom)
+                .defaultTtl(Duration.ofMillis(20))
+                .staleWhileRevalidate(Duration.ofMinutes(1))
+                .build();
+        mockWebServer.enqueue(document("John Doe"));
+        databaseService.getDocument("db", "coll", "doc").execute();
+        // A refresh submitted to the shut-down pool is rejected instead of running on the default transport.
+        transport.getExecutor().shutdown();
+        Thread.sleep(40);
+        assertEquals(
+                "John Doe",
+                nameOf(databaseService.getDocument("db", "coll", "doc").execute()));
+        Thread.sleep(100);
+        assertEquals(1, mockWebServer.getRequestCount());
+        transport.shutdown();
+    }
+
+    @Test
+    void failedRefreshKeepsServingStaleValue() throws Exception {
+        CachingDatabaseService databaseService = databaseService()
+                .defaultTtl(Duration.ofMillis(20))
+                .staleWhileRevalidate(Duration.ofMinutes(1))
+                .build();
+        mockWebServer.enqueue(document("John Doe"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        databaseService.getDocument("db", "coll", "doc").execute();
+        Thread.sleep(40);
+        databaseService.getDocument("db", "coll", "doc").execute();
+        assertEquals(
+                "John Doe",
+                nameOf(databaseService.getDocument("db", "coll", "doc").execute()));
+        assertEquals(2, databaseService.getStats().refreshFailureCount());
+    }
+
+    @Test
+    void refreshedNotFoundIsNotServedFromOffHeapLater() throws Exception {
+        CachingDatabaseService databaseService = databaseService()
+                .defaultTtl(Duration.ofMillis(20))
+                .staleWhileRevalidate(Duration.ofMinutes(1))
+                .negativeTtl(Duration.ofMillis(20))
+                .offHeap(1 << 20, 1 << 16)
+                .build();
+        mockWebServer.enqueue(document("John Doe"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        databaseService.getDocument("db", "coll", "doc").execute();
+        Thread.sleep(40);
+        // Served stale while the refresh finds the document gone.
+        databaseService.getDocument("db", "coll", "doc").execute();
+        Thread.sleep(40);
+        assertEquals(
+                404, databaseService.getDocument("db", "coll", "doc").execute().code());
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void refreshedNotFoundWithoutNegativeTtlDropsOffHeapCopy() throws Exception {
+        CachingDatabaseService databaseService = databaseService()
+                .defaultTtl(Duration.ofMillis(20))
+                .staleWhileRevalidate(Duration.ofMinutes(1))
+                .offHeap(1 << 20, 1 << 16)
+                .build();
+        mockWebServer.enqueue(document("John Doe"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        databaseService.getDocument("db", "coll", "doc").execute();
+        Thread.sleep(40);
+        databaseService.getDocument("db", "coll", "doc").execute();
+        assertEquals(
+                404, databaseService.getDocument("db", "coll", "doc").execute().code());
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void notFoundIsCachedForNegativeTtl() throws Exception {
+        CachingDatabaseService databaseService =
+                databaseService().negativeTtl(Duration.ofMinutes(1)).build();
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        for (int i = 0; i < 3; i++) {
+            Response<Document<Map<String, Object>>> response =
+                    databaseService.getDocument("db", "coll", "missing").execute();
+            assertEquals(404, response.code());
+            AppwriteException error = AppwriteException.fromResponse(response);
+            assertEquals("document_not_found", error.getType());
+        }
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(2, databaseService.getStats().negativeHitCount());
+    }
+
+    @Test
+    void notFoundIsNotCachedByDefault() throws Exception {
+        CachingDatabaseService databaseService = databaseService().build();
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        databaseService.getDocument("db", "coll", "missing").execute();
+        databaseService.getDocument("db", "coll", "missing").execute();
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void storageCachesFilesAndMissingFiles() throws Exception {
+        CachingStorageService storageService = CachingStorageService.builder(new StorageServiceImpl(client))
+                .negativeTtl(Duration.ofMinutes(1))
+                .build();
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(loadJsonFromResource("storage_file")));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404).setBody(NOT_FOUND));
+        String fileId =
+                storageService.getFile("bucket", "file").execute().body().getId();
+        assertEquals(
+                fileId,
+                storageService.getFile("bucket", "file").execute().body().getId());
+        storageService.getFile("bucket", "missing").execute();
+        assertEquals(404, storageService.getFile("bucket", "missing").execute().code());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, storageService.getStats().hitCount());
+        assertEquals(1, storageService.getStats().negativeHitCount());
+    }
+}
@@ -0,0 +1,187 @@
+package lt.xnatty.sdk.appwrite.changes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.InMemoryCollection;
+import lt.xnatty.sdk.appwrite.query.Query;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChangePollerTest extends BaseTest {
+    private static final String T1 = "2024-01-01T10:00:00.000+00:00";
+    private static final String T2 = "2024-01-01T10:00:01.000+00:00";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void deliversInsertsAndUpdatesOnceEach() throws Exception {
+        InMemoryCollection collection = new InMemoryCollection();
+        collection.put("a", T1, T1);
+        collection.put("b", T1, T1);
+        mockWebServer.setDispatcher(collection);
+        BlockingQueue<ChangeEvent> events = new LinkedBlockingQueue<>();
+        WatermarkStore store = WatermarkStore.inMemory();
+
+        try (ChangePoller poller = poller(store).pageSize(1).build().addListener(events::add)) {
+            poller.start();
+            assertEquals(List.of("INSERT a", "INSERT b"), take(events, 2));
+
+            collection.put("c", T1, T1);
+            collection.put("a", T1, T2);
+            assertEquals(List.of("INSERT c", "UPDATE a"), take(events, 2));
+            assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+            assertEquals(new Watermark(T2, "a"), poller.getWatermark());
+        }
+        awaitSaved(store, new Watermark(T2, "a"));
+    }
+
+    @Test
+    void resumesAfterSavedWatermarkWithinItsMillisecond() throws Exception {
+        InMemoryCollection collection = new InMemoryCollection();
+        collection.put("a", T1, T1);
+        collection.put("b", T1, T1);
+        collection.put("c", T1, T1);
+        mockWebServer.setDispatcher(collection);
+        WatermarkStore store = WatermarkStore.file(dir.resolve("people.watermark"));
+        store.save(new Watermark(T1, "b"));
+        BlockingQueue<ChangeEvent> events = new LinkedBlockingQueue<>();
+
+        try (ChangePoller poller = poller(store).build().addListener(events::add)) {
+            poller.start();
+            assertEquals(List.of("INSERT c"), take(events, 1));
+            assertTrue(collection.requests().stream()
+                    .flatMap(List::stream)
+                    .anyMatch(query -> query.equals(Query.equal("$updatedAt", T1))));
+        }
+        awaitSaved(store, new Watermark(T1, "c"));
+    }
+
+    @Test
+    void documentUpdatedBetweenPagesDoesNotEndThePoll() throws Exception {
+        InMemoryCollection collection = new InMemoryCollection();
+        for (String id : List.of("a", "b", "c", "d")) {
+            collection.put(id, T1, T1);
+        }
+        // The last document of the first page moves behind the rest before the second page is read.
+        collection.afterNextPage(() -> collection.put("b", T1, T2));
+        mockWebServer.setDispatcher(collection);
+        BlockingQueue<ChangeEvent> events = new LinkedBlockingQueue<>();
+
+        try (ChangePoller poller = poller(WatermarkStore.inMemory())
+                .pageSize(2)
+                .pollInterval(Duration.ofHours(1), Duration.ofHours(1))
+                .build()
+                .addListener(events::add)) {
+            poller.start();
+            assertEquals(List.of("INSERT a", "INSERT b", "INSERT c", "INSERT d", "UPDATE b"), take(events, 5));
+            assertTrue(collection.requests().stream()
+                    .flatMap(List::stream)
+                    .noneMatch(query -> query.contains("cursorAfter")));
+        }
+    }
+
+    @Test
+    void millisecondLargerThanThePageIsReadWithinTheLimit() throws Exception {
+        InMemoryCollection collection = new InMemoryCollection().maxLimit(3);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add("doc-" + i);
+            collection.put("doc-" + i, T1, T1);
+        }
+        mockWebServer.setDispatcher(collection);
+        BlockingQueue<ChangeEvent> events = new LinkedBlockingQueue<>();
+        BlockingQueue<Exception> errors = new LinkedBlockingQueue<>();
+        WatermarkStore store = WatermarkStore.inMemory();
+
+        try (ChangePoller poller =
+                poller(store).pageSize(3).onError(errors::add).build().addListener(events::add)) {
+            poller.start();
+            assertEquals(ids.stream().map(id -> "INSERT " + id).toList(), take(events, 10));
+
+            collection.put("doc-10", T2, T2);
+            assertEquals(List.of("INSERT doc-10"), take(events, 1));
+            assertTrue(errors.isEmpty(), errors.toString());
+        }
+        awaitSaved(store, new Watermark(T2, "doc-10"));
+    }
+
+    @Test
+    void listenerFailuresAreReported() throws Exception {
+        InMemoryCollection collection = new InMemoryCollection();
+        collection.put("a", T1, T1);
+        collection.put("b", T1, T1);
+        mockWebServer.setDispatcher(collection);
+        BlockingQueue<ChangeEvent> events = new LinkedBlockingQueue<>();
+        BlockingQueue<Exception> errors = new LinkedBlockingQueue<>();
+        IllegalStateException failure = new IllegalStateException("listener failed");
+
+        try (ChangePoller poller = poller(WatermarkStore.inMemory())
+                .onError(errors::add)
+                .build()
+                .addListener(event -> {
+                    if (event.getDocument().getId().equals("a")) {
+                        throw failure;
+                    }
+                })
+                .addListener(events::add)) {
+            poller.start();
+            assertEquals(List.of("INSERT a", "INSERT b"), take(events, 2));
+            assertSame(failure, errors.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void intervalBacksOffWhileIdleAndFailuresAreReported() throws Exception {
+        InMemoryCollection collection = new InMemoryCollection();
+        mockWebServer.setDispatcher(collection);
+        BlockingQueue<Exception> errors = new LinkedBlockingQueue<>();
+
+        try (ChangePoller poller =
+                poller(WatermarkStore.inMemory()).onError(errors::add).build()) {
+            poller.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!poller.getInterval().equals(Duration.ofMillis(80)) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(Duration.ofMillis(80), poller.getInterval());
+
+            collection.failWhen(queries -> true);
+            assertNotNull(errors.poll(5, TimeUnit.SECONDS));
+            assertTrue(poller.failureCount() >= 1);
+        }
+    }
+
+    private ChangePoller.Builder poller(WatermarkStore store) {
+        return ChangePoller.builder(new DatabaseServiceImpl(client), "test-db", "people")
+                .pollInterval(Duration.ofMillis(10), Duration.ofMillis(80))
+                .watermarkStore(store);
+    }
+
+    private static void awaitSaved(WatermarkStore store, Watermark expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!expected.equals(store.load()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, store.load());
+    }
+
+    private static List<String> take(BlockingQueue<ChangeEvent> events, int count) throws InterruptedException {
+        List<String> taken = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "expected " + count + " events, got " + taken);
+            taken.add(event.getType() + " " + event.getDocument().getId());
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,105 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.exceptions.CircuitBreakerOpenException;
+import lt.xnatty.sdk.appwrite.services.StorageService;
+import lt.xnatty.sdk.appwrite.services.TeamService;
+import lt.xnatty.sdk.appwrite.services.impl.StorageServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.TeamServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest extends BaseTest {
+
+    private CircuitBreakerRegistry registry(Duration openDuration) {
+        return CircuitBreakerRegistry.builder()
+                .window(4, 2)
+                .failureRateThreshold(0.5)
+                .openDuration(openDuration)
+                .halfOpenProbes(1)
+                .build();
+    }
+
+    @Test
+    void opensAfterFailuresAndFailsFast() throws Exception {
+        CircuitBreakerRegistry registry = registry(Duration.ofMinutes(1));
+        client.setCircuitBreakers(registry);
+        StorageService storageService = new StorageServiceImpl(client);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        assertEquals(503, storageService.getFile("bucket", "a").execute().code());
+        assertEquals(500, storageService.getFile("bucket", "b").execute().code());
+
+        CircuitBreakerOpenException open = assertThrows(
+                CircuitBreakerOpenException.class,
+                () -> storageService.getFile("bucket", "c").execute());
+        assertEquals("StorageService#getFile", open.getBreaker());
+        assertEquals("circuit_open", open.getType());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(CircuitBreaker.State.OPEN, registry.states().get("StorageService#getFile"));
+    }
+
+    @Test
+    void otherServicesKeepWorkingWhileOneIsOpen() throws Exception {
+        client.setCircuitBreakers(registry(Duration.ofMinutes(1)));
+        StorageService storageService = new StorageServiceImpl(client);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        storageService.getFile("bucket", "a").execute();
+        storageService.getFile("bucket", "b").execute();
+        assertThrows(
+                CircuitBreakerOpenException.class,
+                () -> storageService.getFile("bucket", "c").execute());
+        assertTrue(new TeamServiceImpl(client).deleteTeam("team").execute().isSuccessful());
+    }
+
+    @Test
+    void halfOpenProbeClosesBreaker() throws Exception {
+        CircuitBreakerRegistry registry = registry(Duration.ZERO);
+        List<CircuitBreaker.State> transitions = new ArrayList<>();
+        registry.addListener(breaker -> transitions.add(breaker.getState()));
+        client.setCircuitBreakers(registry);
+        TeamService teamService = new TeamServiceImpl(client);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        teamService.deleteTeam("a").execute();
+        teamService.deleteTeam("b").execute();
+        assertTrue(teamService.deleteTeam("c").execute().isSuccessful());
+        assertEquals(
+                List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED),
+                transitions);
+    }
+
+    @Test
+    void failedProbeReopens() {
+        CircuitBreaker breaker = registry(Duration.ZERO).breaker("test");
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void slowCallsCountAsFailures() {
+        CircuitBreaker breaker = CircuitBreakerRegistry.builder()
+                .window(2, 2)
+                .slowCallThreshold(Duration.ofMillis(100))
+                .build()
+                .breaker("test");
+        breaker.onSuccess(Duration.ofMillis(10).toNanos());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onSuccess(Duration.ofSeconds(1).toNanos());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,156 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.services.TeamService;
+import lt.xnatty.sdk.appwrite.services.impl.AsyncTeamServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.TeamServiceImpl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+
+class HedgedCallTest extends BaseTest {
+
+    private MockResponse slowTeam() throws Exception {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("team"))
+                .setHeadersDelay(3, TimeUnit.SECONDS);
+    }
+
+    private MockResponse team() throws Exception {
+        return new MockResponse().setResponseCode(200).setBody(loadJsonFromResource("team"));
+    }
+
+    private static HedgingPolicy policy(RetryBudget budget) {
+        return HedgingPolicy.builder()
+                .delay(Duration.ofMillis(50))
+                .budget(budget)
+                .build();
+    }
+
+    @Test
+    void hedgeWinsWhenPrimaryIsSlow() throws Exception {
+        client.setHedgingPolicy(policy(RetryBudget.unlimited()));
+        mockWebServer.enqueue(slowTeam());
+        mockWebServer.enqueue(team());
+        long start = System.nanoTime();
+        Response<Team> response = new TeamServiceImpl(client).getTeam("team").execute();
+        assertTrue(response.isSuccessful());
+        assertEquals("Development Team", response.body().getName());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() throws Exception {
+        client.setHedgingPolicy(HedgingPolicy.builder()
+                .delay(Duration.ofSeconds(2))
+                .budget(RetryBudget.unlimited())
+                .build());
+        mockWebServer.enqueue(team());
+        assertTrue(new TeamServiceImpl(client).getTeam("team").execute().isSuccessful());
+        Thread.sleep(100);
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void exhaustedBudgetSkipsHedge() throws Exception {
+        client.setHedgingPolicy(policy(new RetryBudget(0, 0)));
+        mockWebServer.enqueue(team().setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        assertTrue(new TeamServiceImpl(client).getTeam("team").execute().isSuccessful());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void writesAreNotHedged() throws Exception {
+        client.setHedgingPolicy(policy(RetryBudget.unlimited()));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        assertTrue(new TeamServiceImpl(client).deleteTeam("team").execute().isSuccessful());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void hedgeKeepsProjectCredentials() throws Exception {
+        client.setHedgingPolicy(policy(RetryBudget.unlimited()));
+        mockWebServer.enqueue(slowTeam());
+        mockWebServer.enqueue(team());
+        TeamService teamService = new TeamServiceImpl(client.forProject("tenant-project", "tenant-key"));
+        assertTrue(teamService.getTeam("team").execute().isSuccessful());
+        for (int i = 0; i < 2; i++) {
+            RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+            assertEquals("tenant-project", request.getHeader("X-Appwrite-Project"));
+            assertEquals("tenant-key", request.getHeader("X-Appwrite-Key"));
+        }
+    }
+
+    @Test
+    void asyncMethodsAreHedged() throws Exception {
+        client.setHedgingPolicy(policy(RetryBudget.unlimited()));
+        mockWebServer.enqueue(slowTeam());
+        mockWebServer.enqueue(team());
+        Team team = new AsyncTeamServiceImpl(client).getTeam("team").get(2, TimeUnit.SECONDS);
+        assertEquals("Development Team", team.getName());
+    }
+
+    @Test
+    void blockingCallsAreNotLimitedByDispatcher() throws Exception {
+        client.setHedgingPolicy(HedgingPolicy.builder()
+                .delay(Duration.ofSeconds(10))
+                .budget(RetryBudget.unlimited())
+                .build());
+        int callers = 8;
+        CountDownLatch arrived = new CountDownLatch(callers);
+        String body = loadJsonFromResource("team");
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                arrived.countDown();
+                // Answers only once every caller is in flight, more than the dispatcher's 5 per host.
+                return arrived.await(5, TimeUnit.SECONDS)
+                        ? new MockResponse().setResponseCode(200).setBody(body)
+                        : new MockResponse().setResponseCode(503);
+            }
+        });
+        TeamService teamService = new TeamServiceImpl(client);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Response<Team>>> responses = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                responses.add(executor.submit(() -> teamService.getTeam("team").execute()));
+            }
+            for (Future<Response<Team>> response : responses) {
+                assertEquals(200, response.get(10, TimeUnit.SECONDS).code());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void percentileDelayFollowsObservedLatency() {
+        LatencyTracker tracker = new LatencyTracker(100, 0.9);
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofMillis(100))
+                .percentile(0.9, 100)
+                .minDelay(Duration.ZERO)
+                .build();
+        assertEquals(Duration.ofMillis(100).toNanos(), policy.delayNanos(tracker));
+        for (int i = 1; i <= 96; i++) {
+            tracker.record(Duration.ofMillis(i).toNanos());
+        }
+        assertEquals(Duration.ofMillis(87).toNanos(), policy.delayNanos(tracker));
+    }
+}
@@ -0,0 +1,137 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.exceptions.RateLimitException;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.FunctionService;
+import lt.xnatty.sdk.appwrite.services.StorageService;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.FunctionServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.StorageServiceImpl;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest extends BaseTest {
+
+    @Test
+    void shedsWhenBucketIsEmpty() throws Exception {
+        client.setRateLimiter(RateLimiter.builder()
+                .route(RateLimiter.DOCUMENT_WRITES, 0.1, 1)
+                .mode(RateLimiter.Mode.SHED, Duration.ZERO)
+                .build());
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        assertTrue(databaseService.deleteDocument("db", "coll", "a").execute().isSuccessful());
+        RateLimitException shed = assertThrows(
+                RateLimitException.class,
+                () -> databaseService.deleteDocument("db", "coll", "b").execute());
+        assertEquals("client_rate_limited", shed.getType());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void routesHaveIndependentBuckets() throws Exception {
+        client.setRateLimiter(RateLimiter.builder()
+                .route(RateLimiter.DOCUMENT_WRITES, 0.1, 1)
+                .mode(RateLimiter.Mode.SHED, Duration.ZERO)
+                .build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        new DatabaseServiceImpl(client).deleteDocument("db", "coll", "a").execute();
+        assertTrue(
+                new DatabaseServiceImpl(client).deleteDatabase("db").execute().isSuccessful());
+    }
+
+    @Test
+    void projectsHaveIndependentBuckets() throws Exception {
+        client.setRateLimiter(RateLimiter.builder()
+                .route(RateLimiter.DOCUMENT_WRITES, 0.1, 1)
+                .mode(RateLimiter.Mode.SHED, Duration.ZERO)
+                .build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        new DatabaseServiceImpl(client).deleteDocument("db", "coll", "a").execute();
+        assertTrue(new DatabaseServiceImpl(client.forProject("other-project", "other-key"))
+                .deleteDocument("db", "coll", "a")
+                .execute()
+                .isSuccessful());
+    }
+
+    @Test
+    void queuesUntilPermitIsAvailable() throws Exception {
+        client.setRateLimiter(RateLimiter.builder()
+                .route(RateLimiter.DOCUMENT_WRITES, 10, 1)
+                .mode(RateLimiter.Mode.QUEUE, Duration.ofSeconds(1))
+                .build());
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        long start = System.nanoTime();
+        databaseService.deleteDocument("db", "coll", "a").execute();
+        databaseService.deleteDocument("db", "coll", "b").execute();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 80);
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void learnsExhaustedWindowFromHeaders() throws Exception {
+        client.setRateLimiter(
+                RateLimiter.builder().mode(RateLimiter.Mode.SHED, Duration.ZERO).build());
+        long reset = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 60;
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(204)
+                .addHeader("X-RateLimit-Limit", "60")
+                .addHeader("X-RateLimit-Remaining", "0")
+                .addHeader("X-RateLimit-Reset", String.valueOf(reset)));
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        databaseService.deleteDocument("db", "coll", "a").execute();
+        assertThrows(
+                RateLimitException.class,
+                () -> databaseService.deleteDocument("db", "coll", "b").execute());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void tokenBucketLimitsToRemaining() {
+        TokenBucket bucket = new TokenBucket(0.001, 10);
+        bucket.limitTo(1);
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+    }
+
+    @Test
+    void classifiesRoutes() {
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        StorageService storageService = new StorageServiceImpl(client);
+        FunctionService functionService = new FunctionServiceImpl(client);
+        MultipartBody.Part file = MultipartBody.Part.createFormData(
+                "file", "test.txt", RequestBody.create("x", MediaType.parse("text/plain")));
+        assertEquals(
+                RateLimiter.DOCUMENT_WRITES,
+                RateLimiter.defaultRoute(databaseService
+                        .createDocument("db", "coll", "doc", new HashMap<>(), Arrays.asList())
+                        .request()));
+        assertEquals(
+                RateLimiter.DEFAULT,
+                RateLimiter.defaultRoute(
+                        databaseService.getDocument("db", "coll", "doc").request()));
+        assertEquals(
+                RateLimiter.FILE_UPLOADS,
+                RateLimiter.defaultRoute(storageService
+                        .createFile("bucket", file, "file", Arrays.asList())
+                        .request()));
+        assertEquals(
+                RateLimiter.EXECUTIONS,
+                RateLimiter.defaultRoute(
+                        functionService.createExecution("fn", "{}").request()));
+    }
+}
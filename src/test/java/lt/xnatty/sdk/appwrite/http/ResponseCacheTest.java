@@ -0,0 +1,123 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.models.Collection;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+
+class ResponseCacheTest extends BaseTest {
+
+    private MockResponse collection(String etag) throws Exception {
+        MockResponse response = new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("collection"))
+                .addHeader("Content-Type", "application/json");
+        return etag == null ? response : response.addHeader("ETag", etag);
+    }
+
+    @Test
+    void freshEntriesAreServedLocally() throws Exception {
+        ResponseCache cache = ResponseCache.builder()
+                .freshness("DatabaseService#getCollection", Duration.ofMinutes(1))
+                .build();
+        client.setResponseCache(cache);
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        mockWebServer.enqueue(collection(null));
+        Collection first = databaseService.getCollection("db", "coll").execute().body();
+        Collection second =
+                databaseService.getCollection("db", "coll").execute().body();
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void staleEntriesAreRevalidatedWithEtag() throws Exception {
+        ResponseCache cache = ResponseCache.builder().build();
+        client.setResponseCache(cache);
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        mockWebServer.enqueue(collection("\"v1\""));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+        databaseService.getCollection("db", "coll").execute();
+        Response<Collection> revalidated =
+                databaseService.getCollection("db", "coll").execute();
+        assertEquals(200, revalidated.code());
+        assertNotNull(revalidated.body().getId());
+        mockWebServer.takeRequest();
+        RecordedRequest conditional = mockWebServer.takeRequest();
+        assertEquals("\"v1\"", conditional.getHeader("If-None-Match"));
+        assertEquals(1, cache.revalidationCount());
+    }
+
+    @Test
+    void responsesWithoutValidatorOrFreshnessAreNotStored() throws Exception {
+        ResponseCache cache = ResponseCache.builder().build();
+        client.setResponseCache(cache);
+        mockWebServer.enqueue(collection(null));
+        new DatabaseServiceImpl(client).getCollection("db", "coll").execute();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void entriesAreIsolatedPerProject() throws Exception {
+        ResponseCache cache =
+                ResponseCache.builder().defaultFreshness(Duration.ofMinutes(1)).build();
+        client.setResponseCache(cache);
+        mockWebServer.enqueue(collection(null));
+        mockWebServer.enqueue(collection(null));
+        new DatabaseServiceImpl(client.forProject("project-a", "key-a"))
+                .getCollection("db", "coll")
+                .execute();
+        new DatabaseServiceImpl(client.forProject("project-b", "key-b"))
+                .getCollection("db", "coll")
+                .execute();
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void writesInvalidateCachedPathAndParentListing() throws Exception {
+        ResponseCache cache =
+                ResponseCache.builder().defaultFreshness(Duration.ofMinutes(1)).build();
+        client.setResponseCache(cache);
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        mockWebServer.enqueue(collection(null));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        mockWebServer.enqueue(collection(null));
+        databaseService.getCollection("db", "coll").execute();
+        databaseService.deleteCollection("db", "coll").execute();
+        assertEquals(0, cache.size());
+        databaseService.getCollection("db", "coll").execute();
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvicted() throws Exception {
+        int size = loadJsonFromResource("collection").getBytes().length;
+        ResponseCache cache = ResponseCache.builder()
+                .maxBytes(size * 2L)
+                .defaultFreshness(Duration.ofMinutes(1))
+                .build();
+        client.setResponseCache(cache);
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        for (int i = 0; i < 4; i++) {
+            mockWebServer.enqueue(collection(null));
+        }
+        databaseService.getCollection("db", "a").execute();
+        databaseService.getCollection("db", "b").execute();
+        databaseService.getCollection("db", "a").execute();
+        databaseService.getCollection("db", "c").execute();
+        assertEquals(2, cache.size());
+        databaseService.getCollection("db", "a").execute();
+        assertEquals(3, mockWebServer.getRequestCount());
+        assertTrue(mockWebServer.takeRequest(1, TimeUnit.SECONDS).getPath().endsWith("/a"));
+    }
+}
@@ -0,0 +1,151 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.TeamService;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.TeamServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+
+class RetryInterceptorTest extends BaseTest {
+
+    private RetryPolicy.Builder fastPolicy() {
+        return RetryPolicy.builder()
+                .maxAttempts(3)
+                .backoff(Duration.ofMillis(1), Duration.ofMillis(5), 2)
+                .budget(RetryBudget.unlimited());
+    }
+
+    @Test
+    void retriesIdempotentGet() throws Exception {
+        client.setRetryPolicy(fastPolicy().build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("team"))
+                .addHeader("Content-Type", "application/json"));
+        Response<?> response = new TeamServiceImpl(client).getTeam("test-team").execute();
+        assertTrue(response.isSuccessful());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void stopsAfterMaxAttempts() throws Exception {
+        client.setRetryPolicy(fastPolicy().build());
+        for (int i = 0; i < 4; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+        }
+        Response<?> response =
+                new TeamServiceImpl(client).deleteTeam("test-team").execute();
+        assertEquals(502, response.code());
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void doesNotRetryPostWithoutClientId() throws Exception {
+        client.setRetryPolicy(fastPolicy().build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        Response<?> response = new TeamServiceImpl(client)
+                .createMembership("test-team", "john@example.com", Arrays.asList("developer"), "https://example.com")
+                .execute();
+        assertEquals(503, response.code());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void retriesPostWithClientSuppliedId() throws Exception {
+        client.setRetryPolicy(fastPolicy().build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(201)
+                .setBody(loadJsonFromResource("document"))
+                .addHeader("Content-Type", "application/json"));
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        Response<?> response = databaseService
+                .createDocument("test-db", "test-collection", "test-doc", new HashMap<>(), Arrays.asList("read"))
+                .execute();
+        assertTrue(response.isSuccessful());
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void doesNotRetryPostWithGeneratedId() throws Exception {
+        client.setRetryPolicy(fastPolicy().build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        Response<?> response = new DatabaseServiceImpl(client)
+                .createDocument("test-db", "test-collection", "unique()", new HashMap<>(), Arrays.asList("read"))
+                .execute();
+        assertEquals(503, response.code());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void honorsRetryAfter() throws Exception {
+        client.setRetryPolicy(fastPolicy().build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).addHeader("Retry-After", "1"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        long start = System.nanoTime();
+        Response<?> response =
+                new TeamServiceImpl(client).deleteTeam("test-team").execute();
+        assertTrue(response.isSuccessful());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 1000);
+    }
+
+    @Test
+    void returnsResponseWhenRetryAfterExceedsLimit() throws Exception {
+        client.setRetryPolicy(fastPolicy().maxRetryAfter(Duration.ofSeconds(1)).build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503).addHeader("Retry-After", "120"));
+        Response<?> response =
+                new TeamServiceImpl(client).deleteTeam("test-team").execute();
+        assertEquals(503, response.code());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void budgetLimitsRetries() throws Exception {
+        RetryBudget budget = new RetryBudget(0, 0);
+        client.setRetryPolicy(fastPolicy().budget(budget).build());
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        Response<?> response =
+                new TeamServiceImpl(client).deleteTeam("test-team").execute();
+        assertEquals(503, response.code());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void budgetRefillsFromTraffic() {
+        RetryBudget budget = new RetryBudget(0.5, 0);
+        assertFalse(budget.tryWithdraw());
+        budget.recordRequest();
+        budget.recordRequest();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void parsesRetryAfter() {
+        assertEquals(2000L, RetryInterceptor.retryAfterMillis("2"));
+        assertNull(RetryInterceptor.retryAfterMillis("soon"));
+        assertEquals(0L, RetryInterceptor.retryAfterMillis("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+
+    @Test
+    void classifiesRequests() {
+        TeamService teamService = new TeamServiceImpl(client);
+        RetryPolicy policy = RetryPolicy.builder().build();
+        assertTrue(policy.isIdempotent(teamService.getTeam("a").request()));
+        assertTrue(policy.isIdempotent(teamService.deleteTeam("a").request()));
+        assertTrue(policy.isIdempotent(
+                teamService.createTeam("team-id", "Team", Arrays.asList()).request()));
+        assertFalse(policy.isIdempotent(
+                teamService.updateMembership("a", "b", Arrays.asList("admin")).request()));
+    }
+}
@@ -0,0 +1,154 @@
+package lt.xnatty.sdk.appwrite.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.exceptions.NotFoundException;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.services.AsyncTeamService;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.TeamService;
+import lt.xnatty.sdk.appwrite.services.impl.AsyncTeamServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.TeamServiceImpl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+
+class SingleFlightTest extends BaseTest {
+
+    @BeforeEach
+    void enableCoalescing() {
+        client.setRequestCoalescing(true);
+    }
+
+    private MockResponse slowTeam() throws Exception {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("team"))
+                .setHeadersDelay(500, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneRequest() throws Exception {
+        mockWebServer.enqueue(slowTeam());
+        TeamService teamService = new TeamServiceImpl(client);
+        List<CompletableFuture<Response<Team>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return teamService.getTeam("team").execute();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        for (CompletableFuture<Response<Team>> result : results) {
+            Response<Team> response = result.get(5, TimeUnit.SECONDS);
+            assertEquals("Development Team", response.body().getName());
+        }
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void asyncWaitersReceiveTheirOwnErrorBody() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(404)
+                .setBody("{\"message\":\"Team not found\",\"code\":404,\"type\":\"team_not_found\"}")
+                .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        AsyncTeamService teamService = new AsyncTeamServiceImpl(client);
+        List<CompletableFuture<Team>> results =
+                List.of(teamService.getTeam("missing"), teamService.getTeam("missing"), teamService.getTeam("missing"));
+        for (CompletableFuture<Team> result : results) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            NotFoundException notFound = assertInstanceOf(NotFoundException.class, thrown.getCause());
+            assertEquals("Team not found", notFound.getMessage());
+        }
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void differentProjectsAreNotCoalesced() throws Exception {
+        mockWebServer.enqueue(slowTeam());
+        mockWebServer.enqueue(slowTeam());
+        CompletableFuture<Team> first =
+                new AsyncTeamServiceImpl(client.forProject("project-a", "key-a")).getTeam("team");
+        CompletableFuture<Team> second =
+                new AsyncTeamServiceImpl(client.forProject("project-b", "key-b")).getTeam("team");
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void cancellingOneWaiterKeepsTheSharedCall() throws Exception {
+        mockWebServer.enqueue(slowTeam());
+        AsyncTeamService teamService = new AsyncTeamServiceImpl(client);
+        CompletableFuture<Team> cancelled = teamService.getTeam("team");
+        CompletableFuture<Team> kept = teamService.getTeam("team");
+        cancelled.cancel(true);
+        assertEquals("Development Team", kept.get(5, TimeUnit.SECONDS).getName());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void sequentialCallsAreNotCoalesced() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(loadJsonFromResource("team")));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody(loadJsonFromResource("team")));
+        TeamService teamService = new TeamServiceImpl(client);
+        teamService.getTeam("team").execute();
+        teamService.getTeam("team").execute();
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    record Person(String name, int age, String email) {}
+
+    @Test
+    void concurrentTypedAndLazyReadsEachGetTheirOwnBody() throws Exception {
+        String body = loadJsonFromResource("document");
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .setBody(body)
+                        .addHeader("Content-Type", "application/json")
+                        .setHeadersDelay(300, TimeUnit.MILLISECONDS);
+            }
+        });
+        DatabaseService databaseService = new DatabaseServiceImpl(client);
+        List<CompletableFuture<String>> names = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            boolean lazy = i % 2 == 0;
+            names.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return lazy
+                            ? databaseService
+                                    .getLazyDocument("test-db", "test-collection", "test-doc")
+                                    .execute()
+                                    .body()
+                                    .get("name", String.class)
+                            : databaseService
+                                    .getDocument("test-db", "test-collection", "test-doc", Person.class)
+                                    .execute()
+                                    .body()
+                                    .getData()
+                                    .name();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        for (CompletableFuture<String> name : names) {
+            assertEquals("John Doe", name.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package lt.xnatty.sdk.appwrite.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.models.Bucket;
+import lt.xnatty.sdk.appwrite.models.Collection;
+import lt.xnatty.sdk.appwrite.models.Database;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.Execution;
+import lt.xnatty.sdk.appwrite.models.File;
+import lt.xnatty.sdk.appwrite.models.Function;
+import lt.xnatty.sdk.appwrite.models.Membership;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.models.User;
+import org.junit.jupiter.api.Test;
+
+class GeneratedTypeAdapterTest extends BaseTest {
+    private final Gson reflective = new GsonBuilder().setLenient().create();
+
+    @Test
+    void transportUsesGeneratedAdapters() {
+        Gson gson = client.getTransport().getGson();
+        assertEquals(
+                "Execution_TypeAdapter",
+                gson.getAdapter(Execution.class).getClass().getSimpleName());
+        assertEquals(
+                "Document_TypeAdapter",
+                gson.getAdapter(new TypeToken<Document<Map<String, Object>>>() {})
+                        .getClass()
+                        .getSimpleName());
+    }
+
+    @Test
+    void decodesLikeReflectiveAdapters() throws Exception {
+        assertSameDecoding("document", new TypeToken<Document<Map<String, Object>>>() {}.getType());
+        assertSameDecoding("execution", Execution.class);
+        assertSameDecoding("team", Team.class);
+        assertSameDecoding("collection", Collection.class);
+        assertSameDecoding("database", Database.class);
+        assertSameDecoding("function", Function.class);
+        assertSameDecoding("membership", Membership.class);
+        assertSameDecoding("storage_bucket", Bucket.class);
+        assertSameDecoding("storage_file", File.class);
+        assertSameDecoding("user", User.class);
+    }
+
+    @Test
+    void toleratesNullsAndUnknownFields() {
+        Execution execution = client.getTransport()
+                .getGson()
+                .fromJson(
+                        "{\"$id\":\"e\",\"statusCode\":null,\"stdout\":null,\"extra\":{\"a\":[1,2]},\"duration\":\"1.5\"}",
+                        Execution.class);
+        assertEquals("e", execution.getId());
+        assertEquals(0, execution.getStatusCode());
+        assertNull(execution.getStdout());
+        assertEquals(1.5, execution.getDuration());
+    }
+
+    private void assertSameDecoding(String resource, Type type) throws Exception {
+        String json = loadJsonFromResource(resource);
+        Object expected = reflective.fromJson(json, type);
+        Object actual = client.getTransport().getGson().fromJson(json, type);
+        assertEquals(reflective.toJsonTree(expected), reflective.toJsonTree(actual), resource);
+        assertEquals(
+                JsonParser.parseString(reflective.toJson(expected)),
+                JsonParser.parseString(client.getTransport().getGson().toJson(actual)),
+                resource);
+    }
+}
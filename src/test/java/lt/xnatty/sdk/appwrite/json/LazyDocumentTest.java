@@ -0,0 +1,78 @@
+package lt.xnatty.sdk.appwrite.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.stream.MalformedJsonException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+
+class LazyDocumentTest extends BaseTest {
+
+    @Test
+    void readsThroughService() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("document"))
+                .addHeader("Content-Type", "application/json"));
+        Response<LazyDocument> response = new DatabaseServiceImpl(client)
+                .getLazyDocument("test-db", "test-collection", "test-doc")
+                .execute();
+        assertEquals(
+                "/v1/databases/test-db/collections/test-collection/documents/test-doc",
+                mockWebServer.takeRequest().getPath());
+        LazyDocument document = response.body();
+        assertEquals("5e5ea5c16897e", document.getId());
+        assertEquals("2020-10-15T06:38:00.000Z", document.getCreatedAt());
+        assertEquals(List.of("read", "write"), document.getPermissions());
+        assertEquals(List.of("name", "age", "email"), document.attributeNames());
+        assertEquals("John Doe", document.get("name"));
+        assertEquals(30, document.get("age", Integer.class));
+        assertNull(document.get("missing"));
+    }
+
+    @Test
+    void indexesNestedAndEscapedValues() throws Exception {
+        LazyDocument document = parse("{ \"$id\" : \"a\\\"b\", \"data\": {"
+                + "\"tags\": [\"x]\", {\"y\": \"}\"}],"
+                + "\"na\\u006de\": \"café\","
+                + "\"nested\": {\"deep\": {\"value\": 1.5}},"
+                + "\"flag\": true, \"empty\": null}, \"$databaseId\": \"db\"}");
+        assertEquals("a\"b", document.getId());
+        assertEquals("db", document.getDatabaseId());
+        assertEquals(List.of("tags", "name", "nested", "flag", "empty"), document.attributeNames());
+        assertEquals("[\"x]\", {\"y\": \"}\"}]", document.getRaw("tags"));
+        assertEquals("café", document.get("name"));
+        assertEquals(Map.of("deep", Map.of("value", 1.5)), document.get("nested"));
+        assertEquals(Boolean.TRUE, document.get("flag"));
+        assertTrue(document.has("empty"));
+        assertNull(document.get("empty"));
+        assertNull(document.getCollectionId());
+    }
+
+    @Test
+    void convertsToFullDocument() throws Exception {
+        LazyDocument lazy = parse(loadJsonFromResource("document"));
+        Document<Map<String, Object>> document = lazy.toDocument();
+        assertEquals(lazy.getId(), document.getId());
+        assertEquals("john@example.com", document.getData().get("email"));
+        assertTrue(lazy.byteSize() > loadJsonFromResource("document").length());
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertThrows(MalformedJsonException.class, () -> parse("{\"data\": {\"a\": [1, 2}"));
+        assertThrows(MalformedJsonException.class, () -> parse("{\"$id\": \"unterminated}"));
+        assertThrows(MalformedJsonException.class, () -> parse("[1, 2]"));
+    }
+
+    private static LazyDocument parse(String json) throws MalformedJsonException {
+        return LazyDocument.parse(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,136 @@
+package lt.xnatty.sdk.appwrite.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.exceptions.NotFoundException;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.query.Query;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamingListDecoderTest extends BaseTest {
+    private DatabaseService databaseService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        databaseService = new DatabaseServiceImpl(client);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void decodesBareArrayElementByElement() throws Exception {
+        mockWebServer.enqueue(json(documents(3)));
+        List<String> ids = new ArrayList<>();
+
+        ListSummary summary = StreamingListDecoder.documents(
+                        client.getTransport().getGson())
+                .build()
+                .decode(
+                        databaseService.listDocumentsBody("test-db", "test-collection", List.of(Query.limit(3))),
+                        document -> ids.add(document.getId()));
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals(
+                "/v1/databases/test-db/collections/test-collection/documents",
+                request.getRequestUrl().encodedPath());
+        assertEquals(List.of("doc-0", "doc-1", "doc-2"), ids);
+        assertEquals(3, summary.getCount());
+        assertFalse(summary.hasTotal());
+    }
+
+    @Test
+    void readsTotalFromEnvelope() throws Exception {
+        mockWebServer.enqueue(json("{\"documents\":" + documents(2) + ",\"total\":5000}"));
+        List<Document<Map<String, Object>>> received = new ArrayList<>();
+
+        ListSummary summary = StreamingListDecoder.documents(
+                        client.getTransport().getGson())
+                .build()
+                .decode(databaseService.listDocumentsBody("test-db", "test-collection", List.of()), received::add);
+
+        assertEquals(2, summary.getCount());
+        assertEquals(5000, summary.getTotal());
+        assertEquals(1, ((Number) received.get(1).getData().get("index")).intValue());
+    }
+
+    @Test
+    void readAheadKeepsElementOrder() throws Exception {
+        mockWebServer.enqueue(json(documents(200)));
+        List<String> ids = new ArrayList<>();
+
+        ListSummary summary = StreamingListDecoder.documents(
+                        client.getTransport().getGson())
+                .readAhead(4, executor)
+                .build()
+                .decode(
+                        databaseService.listDocumentsBody("test-db", "test-collection", List.of()),
+                        document -> ids.add(document.getId()));
+
+        assertEquals(200, summary.getCount());
+        assertEquals(IntStream.range(0, 200).mapToObj(i -> "doc-" + i).toList(), ids);
+    }
+
+    @Test
+    void consumerFailureStopsReadAhead() throws Exception {
+        mockWebServer.enqueue(json(documents(500)));
+        StreamingListDecoder<Document<Map<String, Object>>> decoder = StreamingListDecoder.documents(
+                        client.getTransport().getGson())
+                .readAhead(2, executor)
+                .build();
+
+        IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> decoder.decode(
+                        databaseService.listDocumentsBody("test-db", "test-collection", List.of()), document -> {
+                            throw new IllegalStateException("stop");
+                        }));
+
+        assertEquals("stop", thrown.getMessage());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void errorResponsesAreThrown() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(404)
+                .setBody("{\"message\":\"Collection not found\",\"type\":\"collection_not_found\"}"));
+
+        assertThrows(NotFoundException.class, () -> StreamingListDecoder.documents(
+                        client.getTransport().getGson())
+                .build()
+                .decode(
+                        databaseService.listDocumentsBody("test-db", "missing", List.of()),
+                        document -> fail("No documents expected")));
+    }
+
+    private static String documents(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"$id\":\"doc-" + i + "\",\"data\":{\"index\":" + i + "}}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setResponseCode(200).setBody(body).addHeader("Content-Type", "application/json");
+    }
+}
@@ -0,0 +1,83 @@
+package lt.xnatty.sdk.appwrite.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lt.xnatty.sdk.appwrite.json.ModelGson;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+class CompactModelsTest {
+    private static final TypeToken<List<Document<Map<String, Object>>>> DOCUMENTS = new TypeToken<>() {};
+    private static final int COUNT = 1_000;
+
+    private final String page = IntStream.range(0, COUNT)
+            .mapToObj(i -> "{\"$id\":\"doc-" + i + "\",\"$createdAt\":\"2024-03-01T10:15:30.123+00:00\","
+                    + "\"$updatedAt\":\"2024-03-01T10:15:30.456+00:00\",\"$collectionId\":\"orders\","
+                    + "\"$databaseId\":\"shop\",\"$permissions\":[\"read(\\\"any\\\")\",\"update(\\\"team:staff\\\")\"],"
+                    + "\"data\":{\"status\":\"paid\",\"currency\":\"EUR\",\"total\":" + i + "}}")
+            .collect(Collectors.joining(",", "[", "]"));
+
+    @Test
+    void compactDocumentsKeepTheirValues() {
+        Document<Map<String, Object>> document = ModelGson.compact(new StringPool(1_000, 64))
+                .fromJson(page, DOCUMENTS)
+                .get(7);
+        assertEquals("doc-7", document.getId());
+        assertEquals("2024-03-01T10:15:30.123Z", document.getCreatedAt());
+        assertEquals("2024-03-01T10:15:30.456Z", document.getUpdatedAt());
+        assertEquals("shop", document.getDatabaseId());
+        assertEquals(List.of("read(\"any\")", "update(\"team:staff\")"), document.getPermissions());
+        assertEquals(Map.of("status", "paid", "currency", "EUR", "total", 7.0), document.getData());
+        assertNull(document.createdAt);
+    }
+
+    @Test
+    void sharesRepeatedStrings() {
+        List<Document<Map<String, Object>>> documents =
+                ModelGson.compact(new StringPool(1_000, 64)).fromJson(page, DOCUMENTS);
+        Document<Map<String, Object>> first = documents.get(0);
+        Document<Map<String, Object>> last = documents.get(COUNT - 1);
+        assertSame(first.getDatabaseId(), last.getDatabaseId());
+        assertSame(first.getPermissions().get(0), last.getPermissions().get(0));
+        assertSame(first.getData().get("status"), last.getData().get("status"));
+        assertNotSame(first.getId(), last.getId());
+    }
+
+    @Test
+    void boundedPoolStopsGrowing() {
+        StringPool pool = new StringPool(2, 8);
+        assertSame(pool.intern(new String("a")), pool.intern(new String("a")));
+        pool.intern("b");
+        String c = new String("c");
+        assertSame(c, pool.intern(c));
+        assertEquals(2, pool.size());
+        String long9 = "123456789";
+        assertSame(long9, pool.intern(long9));
+    }
+
+    @Test
+    void serializesRestoredTimestamps() {
+        Gson gson = ModelGson.compact(new StringPool(100, 64));
+        String json = "{\"$id\":\"f\",\"bucketId\":\"b\",\"$createdAt\":\"2024-03-01T10:15:30.000Z\","
+                + "\"$updatedAt\":\"2024-03-01T10:15:30.000Z\",\"sizeOriginal\":10,\"chunksTotal\":1,\"chunksUploaded\":1}";
+        File file = gson.fromJson(json, File.class);
+        assertEquals(JsonParser.parseString(json), JsonParser.parseString(gson.toJson(file)));
+    }
+
+    @Test
+    void retainsLessMemory() {
+        List<Document<Map<String, Object>>> regular = ModelGson.get().fromJson(page, DOCUMENTS);
+        List<Document<Map<String, Object>>> compact =
+                ModelGson.compact(new StringPool(1_000, 64)).fromJson(page, DOCUMENTS);
+        long regularBytes = GraphLayout.parseInstance(regular).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compact).totalSize();
+        assertTrue(compactBytes < regularBytes * 0.6, regularBytes + " -> " + compactBytes);
+    }
+}
@@ -0,0 +1,155 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.exceptions.ServerException;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.TeamServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ListPublisherTest extends BaseTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fetchesPagesOnDemand() throws Exception {
+        mockWebServer.enqueue(page("doc-1", "doc-2"));
+        mockWebServer.enqueue(page("doc-3"));
+        RecordingSubscriber<Document<Map<String, Object>>> subscriber = new RecordingSubscriber<>();
+        Publishers.documents(new DatabaseServiceImpl(client), "test-db", "test-collection", List.of(), 2, executor)
+                .subscribe(subscriber);
+
+        subscriber.request(1);
+        subscriber.awaitItems(1);
+        RecordedRequest first = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+        assertTrue(first.getPath().startsWith("/v1/databases/test-db/collections/test-collection/documents"));
+        assertEquals(
+                "{\"method\":\"limit\",\"values\":[2]}", first.getRequestUrl().queryParameter("queries[]"));
+
+        subscriber.request(1);
+        subscriber.awaitItems(2);
+        assertNull(mockWebServer.takeRequest(200, TimeUnit.MILLISECONDS));
+
+        subscriber.request(10);
+        subscriber.completion.get(5, TimeUnit.SECONDS);
+        RecordedRequest second = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+        assertEquals(
+                List.of("{\"method\":\"limit\",\"values\":[2]}", "{\"method\":\"cursorAfter\",\"values\":[\"doc-2\"]}"),
+                second.getRequestUrl().queryParameterValues("queries[]"));
+        assertEquals(
+                List.of("doc-1", "doc-2", "doc-3"),
+                subscriber.items.stream().map(Document::getId).toList());
+    }
+
+    @Test
+    void stopsFetchingAfterCancel() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("[" + loadJsonFromResource("team") + "]")
+                .addHeader("Content-Type", "application/json"));
+        RecordingSubscriber<Team> subscriber = new RecordingSubscriber<>();
+        Publishers.teams(new TeamServiceImpl(client), List.of(), 1, executor).subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.awaitItems(1);
+        subscriber.subscription.cancel();
+        subscriber.request(5);
+        assertNotNull(mockWebServer.takeRequest(5, TimeUnit.SECONDS));
+        assertNull(mockWebServer.takeRequest(200, TimeUnit.MILLISECONDS));
+        assertFalse(subscriber.completion.isDone());
+    }
+
+    @Test
+    void propagatesErrors() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        RecordingSubscriber<Team> subscriber = new RecordingSubscriber<>();
+        Publishers.teams(new TeamServiceImpl(client), List.of(), 10, executor).subscribe(subscriber);
+        subscriber.request(1);
+        Exception thrown = assertThrows(Exception.class, () -> subscriber.completion.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ServerException.class, thrown.getCause());
+    }
+
+    @Test
+    void rejectsNonPositiveDemand() {
+        RecordingSubscriber<Team> subscriber = new RecordingSubscriber<>();
+        Publishers.teams(new TeamServiceImpl(client), List.of(), 10, executor).subscribe(subscriber);
+        subscriber.request(0);
+        Exception thrown = assertThrows(Exception.class, () -> subscriber.completion.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+    }
+
+    private static MockResponse page(String... ids) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"$id\":\"").append(ids[i]).append("\",\"data\":{}}");
+        }
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody(body.append(']').toString())
+                .addHeader("Content-Type", "application/json");
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        volatile Flow.Subscription subscription;
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        void awaitItems(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (items.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(count, items.size());
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.exceptions.ServerException;
+import lt.xnatty.sdk.appwrite.models.Database;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.query.Query;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PageIteratorTest extends BaseTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void streamsAllPagesWithCursor() throws Exception {
+        mockWebServer.enqueue(page("doc-1", "doc-2"));
+        mockWebServer.enqueue(page("doc-3", "doc-4"));
+        mockWebServer.enqueue(page("doc-5"));
+        try (Stream<Document<Map<String, Object>>> documents =
+                Pages.documents(new DatabaseServiceImpl(client), "db", "coll", List.of(), 2, executor).stream()) {
+            assertEquals(
+                    List.of("doc-1", "doc-2", "doc-3", "doc-4", "doc-5"),
+                    documents.map(Document::getId).toList());
+        }
+        mockWebServer.takeRequest();
+        RecordedRequest second = mockWebServer.takeRequest();
+        assertEquals(
+                List.of(Query.limit(2), Query.cursorAfter("doc-2")),
+                second.getRequestUrl().queryParameterValues("queries[]"));
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void prefetchesNextPageBeforeCurrentIsConsumed() throws Exception {
+        mockWebServer.enqueue(page("doc-1", "doc-2"));
+        mockWebServer.enqueue(page("doc-3"));
+        PageIterator<Document<Map<String, Object>>> iterator = Pages.documents(
+                        new DatabaseServiceImpl(client), "db", "coll", List.of(), 2, executor)
+                .iterator();
+        assertEquals("doc-1", iterator.next().getId());
+        assertNotNull(mockWebServer.takeRequest(5, TimeUnit.SECONDS));
+        assertNotNull(mockWebServer.takeRequest(5, TimeUnit.SECONDS));
+        assertEquals("doc-2", iterator.next().getId());
+        assertEquals("doc-3", iterator.next().getId());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void failuresSurfaceFromHasNext() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        PageIterator<Document<Map<String, Object>>> iterator = Pages.documents(
+                        new DatabaseServiceImpl(client), "db", "coll", List.of(), 2, executor)
+                .iterator();
+        UncheckedIOException thrown = assertThrows(UncheckedIOException.class, iterator::hasNext);
+        assertInstanceOf(ServerException.class, thrown.getCause());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void databasesAcceptQueries() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("[" + loadJsonFromResource("database") + "]")
+                .addHeader("Content-Type", "application/json"));
+        List<Database> databases = Pages.databases(new DatabaseServiceImpl(client), List.of(), 25, executor).stream()
+                .toList();
+        assertEquals(1, databases.size());
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertTrue(request.getPath().startsWith("/v1/databases?"));
+        assertEquals(List.of(Query.limit(25)), request.getRequestUrl().queryParameterValues("queries[]"));
+    }
+
+    private static MockResponse page(String... ids) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"$id\":\"").append(ids[i]).append("\",\"data\":{}}");
+        }
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody(body.append(']').toString())
+                .addHeader("Content-Type", "application/json");
+    }
+}
@@ -0,0 +1,170 @@
+package lt.xnatty.sdk.appwrite.paging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.InMemoryCollection;
+import lt.xnatty.sdk.appwrite.exceptions.ServerException;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.services.DatabaseService;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PartitionedScanTest extends BaseTest {
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void orderedScanReturnsDocumentsInCreationOrder() {
+        InMemoryCollection collection = collection(25);
+        mockWebServer.setDispatcher(collection);
+
+        List<String> ids;
+        try (Stream<Document<Map<String, Object>>> stream =
+                scan().partitions(4).parallelism(3).pageSize(3).ordered(true).build().stream()) {
+            ids = stream.map(Document::getId).toList();
+        }
+
+        assertEquals(collection.ids(), ids);
+        assertEquals(4, rangesStarted(collection));
+    }
+
+    @Test
+    void unorderedScanReturnsEveryDocumentOnce() {
+        InMemoryCollection collection = collection(40);
+        mockWebServer.setDispatcher(collection);
+
+        List<String> ids;
+        try (Stream<Document<Map<String, Object>>> stream =
+                scan().partitions(5).parallelism(2).pageSize(4).build().stream()) {
+            ids = stream.map(Document::getId).toList();
+        }
+
+        assertEquals(40, ids.size());
+        assertEquals(collection.ids(), ids.stream().sorted().toList());
+    }
+
+    @Test
+    void emptyCollectionYieldsEmptyStream() {
+        mockWebServer.setDispatcher(collection(0));
+
+        try (Stream<Document<Map<String, Object>>> stream = scan().build().stream()) {
+            assertEquals(0, stream.count());
+        }
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void propagatesRangeFailures() {
+        InMemoryCollection collection = collection(10);
+        collection.failWhen(PartitionedScanTest::ranged);
+        mockWebServer.setDispatcher(collection);
+
+        try (Stream<Document<Map<String, Object>>> stream = scan().partitions(2).ordered(true).build().stream()) {
+            UncheckedIOException thrown = assertThrows(UncheckedIOException.class, stream::count);
+            assertInstanceOf(ServerException.class, thrown.getCause());
+        }
+    }
+
+    @Test
+    void abandonedStreamStopsItsWorkers() throws Exception {
+        mockWebServer.setDispatcher(collection(200));
+
+        List<String> ids =
+                scan().partitions(3).parallelism(3).pageSize(2).consumerTimeout(Duration.ofMillis(200)).build().stream()
+                        .limit(5)
+                        .map(Document::getId)
+                        .toList();
+
+        assertEquals(5, ids.size());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(mockWebServer.getRequestCount() < 50, mockWebServer.getRequestCount() + " requests");
+    }
+
+    @Test
+    void workerErrorsReachTheConsumer() {
+        mockWebServer.setDispatcher(collection(10));
+        DatabaseService failing = (DatabaseService) Proxy.newProxyInstance(
+                DatabaseService.class.getClassLoader(),
+                new Class<?>[] {DatabaseService.class},
+                new FailingRanges(new DatabaseServiceImpl(client)));
+        PartitionedScan scan = PartitionedScan.builder(failing, "test-db", "test-collection")
+                .executor(executor)
+                .partitions(2)
+                .build();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            try (Stream<Document<Map<String, Object>>> stream = scan.stream()) {
+                assertThrows(OutOfMemoryError.class, stream::count);
+            }
+        });
+    }
+
+    private PartitionedScan.Builder scan() {
+        return PartitionedScan.builder(new DatabaseServiceImpl(client), "test-db", "test-collection")
+                .executor(executor);
+    }
+
+    private static InMemoryCollection collection(int count) {
+        InMemoryCollection collection = new InMemoryCollection();
+        for (int i = 0; i < count; i++) {
+            String createdAt = START.plusSeconds(i * 7L).toString();
+            collection.put(String.format("doc-%02d", i), createdAt, createdAt);
+        }
+        return collection;
+    }
+
+    private static boolean ranged(List<String> queries) {
+        return queries.stream().anyMatch(query -> query.contains("greaterThanEqual") || query.contains("lessThan"));
+    }
+
+    private static long rangesStarted(InMemoryCollection collection) {
+        return collection.requests().stream()
+                .filter(queries ->
+                        ranged(queries) && queries.stream().noneMatch(query -> query.contains("cursorAfter")))
+                .count();
+    }
+
+    /** Throws an {@link Error} from range requests, as a worker running out of memory would. */
+    private record FailingRanges(DatabaseService delegate) implements InvocationHandler {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("listDocuments") && args.length == 3 && ranged((List<String>) args[2])) {
+                throw new OutOfMemoryError("Simulated");
+            }
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package lt.xnatty.sdk.appwrite.realtime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RealtimeClientTest extends BaseTest {
+    private static final String DOCUMENTS = "databases.db.collections.coll.documents";
+    private static final String FILES = "buckets.bucket.files";
+
+    private RealtimeClient realtime;
+
+    @AfterEach
+    void closeRealtime() {
+        if (realtime != null) {
+            realtime.close();
+        }
+    }
+
+    private static String event(String channel, String id) {
+        return "{\"type\":\"event\",\"data\":{\"events\":[\"" + channel + "." + id + ".create\"],\"channels\":[\""
+                + channel + "\"],\"timestamp\":\"2024-01-01T00:00:00.000+00:00\",\"payload\":{\"$id\":\"" + id
+                + "\"}}}";
+    }
+
+    /** Server side of one WebSocket connection: answers "connected" and records the sockets it opened. */
+    private static final class Server extends WebSocketListener {
+        final BlockingQueue<WebSocket> sockets = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            webSocket.send("{\"type\":\"connected\",\"data\":{\"channels\":[],\"user\":null}}");
+            sockets.add(webSocket);
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            messages.add(text);
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(1000, null);
+        }
+    }
+
+    private RealtimeClient.Builder realtime() {
+        return RealtimeClient.builder(client).reconnectBackoff(Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @Test
+    void deliversEventsToMatchingSubscriptions() throws Exception {
+        Server server = new Server();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        realtime = realtime().build();
+        BlockingQueue<RealtimeEvent> documents = new LinkedBlockingQueue<>();
+        realtime.subscribe(documents::add, DOCUMENTS);
+        WebSocket socket = server.sockets.poll(5, TimeUnit.SECONDS);
+
+        RecordedRequest upgrade = mockWebServer.takeRequest();
+        assertTrue(upgrade.getPath().startsWith("/v1/realtime?project=test-project"));
+        assertEquals(DOCUMENTS, upgrade.getRequestUrl().queryParameter("channels[]"));
+
+        socket.send(event(FILES, "ignored"));
+        socket.send(event(DOCUMENTS, "doc-1"));
+        RealtimeEvent event = documents.poll(5, TimeUnit.SECONDS);
+        assertEquals("doc-1", event.getPayload().get("$id"));
+        assertEquals(List.of(DOCUMENTS), event.getChannels());
+        assertNull(documents.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void multiplexesChannelsAndReconnectsWhenTheyChange() throws Exception {
+        Server server = new Server();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        realtime = realtime().build();
+        BlockingQueue<RealtimeEvent> files = new LinkedBlockingQueue<>();
+        RealtimeSubscription documents = realtime.subscribe(event -> {}, DOCUMENTS);
+        server.sockets.poll(5, TimeUnit.SECONDS);
+        realtime.subscribe(files::add, FILES);
+        WebSocket second = server.sockets.poll(5, TimeUnit.SECONDS);
+
+        mockWebServer.takeRequest();
+        List<String> channels = mockWebServer.takeRequest().getRequestUrl().queryParameterValues("channels[]");
+        assertEquals(List.of(FILES, DOCUMENTS), channels.stream().sorted().toList());
+        second.send(event(FILES, "file-1"));
+        assertEquals("file-1", files.poll(5, TimeUnit.SECONDS).getPayload().get("$id"));
+
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        documents.close();
+        assertNotNull(server.sockets.poll(5, TimeUnit.SECONDS));
+        assertEquals(
+                List.of(FILES),
+                mockWebServer.takeRequest(5, TimeUnit.SECONDS).getRequestUrl().queryParameterValues("channels[]"));
+    }
+
+    @Test
+    void reconnectsAndResubscribesAfterServerCloses() throws Exception {
+        Server server = new Server();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        realtime = realtime().build();
+        BlockingQueue<RealtimeEvent> documents = new LinkedBlockingQueue<>();
+        realtime.subscribe(documents::add, DOCUMENTS);
+        server.sockets.poll(5, TimeUnit.SECONDS).close(1001, "Going away");
+
+        WebSocket reconnected = server.sockets.poll(5, TimeUnit.SECONDS);
+        assertNotNull(reconnected);
+        mockWebServer.takeRequest();
+        assertEquals(DOCUMENTS, mockWebServer.takeRequest().getRequestUrl().queryParameter("channels[]"));
+        reconnected.send(event(DOCUMENTS, "doc-2"));
+        assertEquals("doc-2", documents.poll(5, TimeUnit.SECONDS).getPayload().get("$id"));
+    }
+
+    @Test
+    void sendsPings() throws Exception {
+        Server server = new Server();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        realtime = realtime().pingInterval(Duration.ofMillis(50)).build();
+        realtime.subscribe(event -> {}, DOCUMENTS);
+        assertEquals("{\"type\":\"ping\"}", server.messages.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void slowSubscribersDropOldestEvents() throws Exception {
+        Server server = new Server();
+        mockWebServer.enqueue(new MockResponse().withWebSocketUpgrade(server));
+        List<Runnable> deliveries = new ArrayList<>();
+        realtime = realtime().queueCapacity(2).deliveryExecutor(deliveries::add).build();
+        List<String> received = new ArrayList<>();
+        RealtimeSubscription subscription = realtime.subscribe(
+                event -> received.add((String) event.getPayload().get("$id")), DOCUMENTS);
+        WebSocket socket = server.sockets.poll(5, TimeUnit.SECONDS);
+        for (int i = 1; i <= 5; i++) {
+            socket.send(event(DOCUMENTS, "doc-" + i));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscription.droppedCount() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, subscription.droppedCount());
+        deliveries.get(0).run();
+        assertEquals(List.of("doc-4", "doc-5"), received);
+    }
+}
@@ -0,0 +1,157 @@
+package lt.xnatty.sdk.appwrite.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.exceptions.AppwriteException;
+import lt.xnatty.sdk.appwrite.exceptions.NotFoundException;
+import lt.xnatty.sdk.appwrite.exceptions.RateLimitException;
+import lt.xnatty.sdk.appwrite.exceptions.ServerException;
+import lt.xnatty.sdk.appwrite.exceptions.UnauthorizedException;
+import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.StringPool;
+import lt.xnatty.sdk.appwrite.models.Team;
+import lt.xnatty.sdk.appwrite.services.impl.AsyncDatabaseServiceImpl;
+import lt.xnatty.sdk.appwrite.services.impl.AsyncTeamServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncServiceTest extends BaseTest {
+    record Person(String name, int age, String email) {}
+
+    private AsyncDatabaseService databaseService;
+    private AsyncTeamService teamService;
+
+    @BeforeEach
+    void init() {
+        databaseService = new AsyncDatabaseServiceImpl(client);
+        teamService = new AsyncTeamServiceImpl(client);
+    }
+
+    @Test
+    void getDocument() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("document"))
+                .addHeader("Content-Type", "application/json"));
+        Document<Map<String, Object>> document = databaseService
+                .getDocument("test-db", "test-collection", "test-doc")
+                .get(5, TimeUnit.SECONDS);
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("GET", request.getMethod());
+        assertEquals("/v1/databases/test-db/collections/test-collection/documents/test-doc", request.getPath());
+        assertEquals("5e5ea5c16897e", document.getId());
+        assertEquals("John Doe", document.getData().get("name"));
+    }
+
+    @Test
+    void getDocumentAsRecord() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("document"))
+                .addHeader("Content-Type", "application/json"));
+        Document<Person> document = databaseService
+                .getDocument("test-db", "test-collection", "test-doc", Person.class)
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(
+                "/v1/databases/test-db/collections/test-collection/documents/test-doc",
+                mockWebServer.takeRequest().getPath());
+        assertEquals(new Person("John Doe", 30, "john@example.com"), document.getData());
+    }
+
+    @Test
+    void typedReadsUseTheTransportsGson() throws Exception {
+        StringPool pool = new StringPool(100, 64);
+        Transport transport = Transport.builder().compactModels(pool).build();
+        try {
+            AsyncDatabaseService service = new AsyncDatabaseServiceImpl(new Client(transport)
+                    .setEndpoint(mockWebServer.url("v1/").toString())
+                    .setProject("test-project")
+                    .setKey("test-key"));
+            mockWebServer.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .setBody(loadJsonFromResource("document"))
+                    .addHeader("Content-Type", "application/json"));
+            Document<Person> document = service.getDocument("test-db", "test-collection", "test-doc", Person.class)
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals("John Doe", document.getData().name());
+            assertTrue(pool.size() > 0);
+        } finally {
+            transport.shutdown();
+        }
+    }
+
+    @Test
+    void listTeams() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("[" + loadJsonFromResource("team") + "]")
+                .addHeader("Content-Type", "application/json"));
+        List<Team> teams = teamService.listTeams().get(5, TimeUnit.SECONDS);
+        assertEquals(1, teams.size());
+        assertEquals("Development Team", teams.get(0).getName());
+    }
+
+    @Test
+    void deleteDocumentCompletesWithNull() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        assertNull(databaseService
+                .deleteDocument("test-db", "test-collection", "test-doc")
+                .get(5, TimeUnit.SECONDS));
+        assertEquals("DELETE", mockWebServer.takeRequest().getMethod());
+    }
+
+    @Test
+    void notFoundMapsToTypedException() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(404)
+                .setBody("{\"message\":\"Document not found\",\"code\":404,\"type\":\"document_not_found\"}")
+                .addHeader("Content-Type", "application/json"));
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> databaseService
+                .getDocument("test-db", "test-collection", "missing")
+                .get(5, TimeUnit.SECONDS));
+        NotFoundException cause = assertInstanceOf(NotFoundException.class, thrown.getCause());
+        assertEquals(404, cause.getCode());
+        assertEquals("document_not_found", cause.getType());
+        assertEquals("Document not found", cause.getMessage());
+    }
+
+    @Test
+    void errorStatusesMapToTypedExceptions() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(401).setBody("not json"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(418));
+        assertInstanceOf(UnauthorizedException.class, failureOf(teamService.getTeam("a")));
+        assertInstanceOf(RateLimitException.class, failureOf(teamService.getTeam("b")));
+        ServerException server = assertInstanceOf(ServerException.class, failureOf(teamService.getTeam("c")));
+        assertEquals(503, server.getCode());
+        AppwriteException other = assertInstanceOf(AppwriteException.class, failureOf(teamService.getTeam("d")));
+        assertEquals(418, other.getCode());
+    }
+
+    @Test
+    void projectScopedAsyncService() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+        new AsyncTeamServiceImpl(client.forProject("tenant-project", "tenant-key"))
+                .deleteTeam("test-team")
+                .get(5, TimeUnit.SECONDS);
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("tenant-project", request.getHeader("X-Appwrite-Project"));
+        assertEquals("tenant-key", request.getHeader("X-Appwrite-Key"));
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return thrown.getCause();
+    }
+}
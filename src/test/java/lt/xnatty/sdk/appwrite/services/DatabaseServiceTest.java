@@ -7,9 +7,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.Client;
+import lt.xnatty.sdk.appwrite.Transport;
+import lt.xnatty.sdk.appwrite.json.LazyDocument;
 import lt.xnatty.sdk.appwrite.models.Collection;
 import lt.xnatty.sdk.appwrite.models.Database;
 import lt.xnatty.sdk.appwrite.models.Document;
+import lt.xnatty.sdk.appwrite.models.StringPool;
+import lt.xnatty.sdk.appwrite.query.Query;
 import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -18,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import retrofit2.Response;
 
 class DatabaseServiceTest extends BaseTest {
+    record Person(String name, int age, String email) {}
+
     private DatabaseService databaseService;
 
     @BeforeEach
@@ -218,6 +225,25 @@ class DatabaseServiceTest extends BaseTest {
         assertEquals("John Doe", document.getData().get("name"));
     }
 
+    @Test
+    void listDocumentsWithQueries() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("[" + loadJsonFromResource("document") + "]")
+                .addHeader("Content-Type", "application/json"));
+        Response<List<Document<Map<String, Object>>>> response = databaseService
+                .listDocuments("test-db", "test-collection", Arrays.asList(Query.limit(10), Query.cursorAfter("a")))
+                .execute();
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("GET", request.getMethod());
+        assertEquals(
+                Arrays.asList(
+                        "{\"method\":\"limit\",\"values\":[10]}", "{\"method\":\"cursorAfter\",\"values\":[\"a\"]}"),
+                request.getRequestUrl().queryParameterValues("queries[]"));
+        assertTrue(response.isSuccessful());
+        assertEquals(1, response.body().size());
+    }
+
     @Test
     void getDocument() throws Exception {
         mockWebServer.enqueue(new MockResponse()
@@ -237,6 +263,111 @@ class DatabaseServiceTest extends BaseTest {
         assertEquals("John Doe", document.getData().get("name"));
     }
 
+    @Test
+    void getDocumentWithSelect() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("{\"$id\":\"5e5ea5c16897e\",\"data\":{\"name\":\"John Doe\"}}")
+                .addHeader("Content-Type", "application/json"));
+        Response<Document<Map<String, Object>>> response = databaseService
+                .getDocument("test-db", "test-collection", "test-doc", List.of(Query.select("name")))
+                .execute();
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals(
+                List.of("{\"method\":\"select\",\"values\":[\"name\"]}"),
+                request.getRequestUrl().queryParameterValues("queries[]"));
+        assertTrue(response.isSuccessful());
+        assertEquals(Map.of("name", "John Doe"), response.body().getData());
+    }
+
+    @Test
+    void getDocumentAsRecord() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(loadJsonFromResource("document"))
+                .addHeader("Content-Type", "application/json"));
+        Response<Document<Person>> response = databaseService
+                .getDocument("test-db", "test-collection", "test-doc", Person.class)
+                .execute();
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("/v1/databases/test-db/collections/test-collection/documents/test-doc", request.getPath());
+        assertTrue(response.isSuccessful());
+        assertEquals("5e5ea5c16897e", response.body().getId());
+        assertEquals(
+                new Person("John Doe", 30, "john@example.com"), response.body().getData());
+    }
+
+    @Test
+    void typedAndLazyReadsUseTheTransportsGson() throws Exception {
+        StringPool pool = new StringPool(100, 64);
+        Transport transport = Transport.builder().compactModels(pool).build();
+        try {
+            DatabaseService service = new DatabaseServiceImpl(new Client(transport)
+                    .setEndpoint(mockWebServer.url("v1/").toString())
+                    .setProject("test-project")
+                    .setKey("test-key"));
+            for (int i = 0; i < 2; i++) {
+                mockWebServer.enqueue(new MockResponse()
+                        .setResponseCode(200)
+                        .setBody(loadJsonFromResource("document"))
+                        .addHeader("Content-Type", "application/json"));
+            }
+            Document<Person> typed = service.getDocument("test-db", "test-collection", "test-doc", Person.class)
+                    .execute()
+                    .body();
+            assertTrue(pool.size() > 0);
+            LazyDocument lazy = service.getLazyDocument("test-db", "test-collection", "test-doc")
+                    .execute()
+                    .body();
+            assertSame(
+                    typed.getPermissions().get(0),
+                    lazy.toDocument().getPermissions().get(0));
+        } finally {
+            transport.shutdown();
+        }
+    }
+
+    @Test
+    void listDocumentsAsRecords() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody("[" + loadJsonFromResource("document") + "]")
+                .addHeader("Content-Type", "application/json"));
+        Response<List<Document<Person>>> response = databaseService
+                .listDocuments("test-db", "test-collection", List.of(Query.limit(1)), Person.class)
+                .execute();
+        assertEquals(
+                List.of("{\"method\":\"limit\",\"values\":[1]}"),
+                mockWebServer.takeRequest().getRequestUrl().queryParameterValues("queries[]"));
+        assertEquals(30, response.body().get(0).getData().age());
+    }
+
+    @Test
+    void typedReadPassesErrorsThrough() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(404)
+                .setBody("{\"message\":\"Document not found\",\"type\":\"document_not_found\"}"));
+        Response<Document<Person>> response = databaseService
+                .getDocument("test-db", "test-collection", "missing", Person.class)
+                .execute();
+        assertEquals(404, response.code());
+        assertTrue(response.errorBody().string().contains("document_not_found"));
+    }
+
+    @Test
+    void queriesSerializeAttributesAndValues() {
+        assertEquals(
+                "{\"method\":\"equal\",\"attribute\":\"status\",\"values\":[\"active\",\"pending\"]}",
+                Query.equal("status", "active", "pending"));
+        assertEquals("{\"method\":\"between\",\"attribute\":\"age\",\"values\":[18,65]}", Query.between("age", 18, 65));
+        assertEquals("{\"method\":\"isNull\",\"attribute\":\"email\"}", Query.isNull("email"));
+        assertEquals("{\"method\":\"orderDesc\",\"attribute\":\"$createdAt\"}", Query.orderDesc("$createdAt"));
+        assertEquals("{\"method\":\"offset\",\"values\":[20]}", Query.offset(20));
+        assertThrows(IllegalArgumentException.class, () -> Query.equal("status"));
+        assertThrows(IllegalArgumentException.class, () -> Query.select());
+        assertThrows(IllegalArgumentException.class, () -> Query.search(" ", "term"));
+    }
+
     @Test
     void updateDocument() throws Exception {
         mockWebServer.enqueue(new MockResponse()
@@ -0,0 +1,141 @@
+package lt.xnatty.sdk.appwrite.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lt.xnatty.sdk.appwrite.BaseTest;
+import lt.xnatty.sdk.appwrite.InMemoryCollection;
+import lt.xnatty.sdk.appwrite.exceptions.ServerException;
+import lt.xnatty.sdk.appwrite.query.Query;
+import lt.xnatty.sdk.appwrite.services.impl.DatabaseServiceImpl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CollectionSnapshotTest extends BaseTest {
+    @TempDir
+    Path dir;
+
+    private CollectionSnapshot snapshot(Path file) {
+        return CollectionSnapshot.builder(new DatabaseServiceImpl(client), "test-db", "people", file)
+                .build();
+    }
+
+    @Test
+    void warmRestartFetchesOnlyNewerDocuments() throws Exception {
+        Path file = dir.resolve("people.snapshot");
+        mockWebServer.enqueue(list(
+                document("a", "Ann", "2024-01-01T10:00:00.000+00:00"),
+                document("b", "Bob", "2024-01-01T11:00:00.000+00:00")));
+        CollectionSnapshot first = snapshot(file);
+        assertEquals(2, first.load());
+        assertEquals("2024-01-01T11:00:00.000+00:00", first.getWatermark());
+        first.save();
+        RecordedRequest scan = mockWebServer.takeRequest();
+        assertFalse(scan.getRequestUrl()
+                .queryParameterValues("queries[]")
+                .toString()
+                .contains("greaterThanEqual"));
+
+        // Nothing else in Bob's millisecond, then the documents changed since.
+        mockWebServer.enqueue(list());
+        mockWebServer.enqueue(list(
+                document("b", "Bobby", "2024-01-01T11:30:00.000+00:00"),
+                document("c", "Cid", "2024-01-02T09:30:00.000+00:00")));
+        CollectionSnapshot restarted = snapshot(file);
+        assertEquals(2, restarted.load());
+        List<String> tie = mockWebServer.takeRequest().getRequestUrl().queryParameterValues("queries[]");
+        assertTrue(tie.contains(Query.equal("$updatedAt", "2024-01-01T11:00:00.000+00:00")));
+        assertTrue(tie.contains(Query.greaterThan("$id", "b")));
+        List<String> after = mockWebServer.takeRequest().getRequestUrl().queryParameterValues("queries[]");
+        assertTrue(after.contains(Query.greaterThan("$updatedAt", "2024-01-01T11:00:00.000+00:00")));
+        assertTrue(after.contains(Query.orderAsc("$updatedAt")));
+
+        assertEquals(3, restarted.size());
+        assertEquals("Ann", restarted.get("a").getData().get("name"));
+        assertEquals("Bobby", restarted.get("b").getData().get("name"));
+        assertEquals("Cid", restarted.getLazy("c").get("name"));
+        assertEquals("2024-01-02T09:30:00.000+00:00", restarted.getWatermark());
+        assertNull(restarted.get("missing"));
+
+        List<String> ids = new ArrayList<>();
+        restarted.forEach(document -> ids.add(document.getId()));
+        assertEquals(List.of("a", "b", "c"), ids);
+    }
+
+    @Test
+    void pagesByWatermarkWithinTheLimit() throws Exception {
+        String t1 = "2024-01-01T10:00:00.000+00:00";
+        String t2 = "2024-01-01T10:00:01.000+00:00";
+        InMemoryCollection collection = new InMemoryCollection().maxLimit(2);
+        for (String id : List.of("a", "b", "c", "d", "e")) {
+            collection.put(id, t1, t1);
+        }
+        // Bob is updated after the first page, moving him behind the rest.
+        collection.afterNextPage(() -> collection.put("b", t1, t2));
+        mockWebServer.setDispatcher(collection);
+        CollectionSnapshot snapshot = CollectionSnapshot.builder(
+                        new DatabaseServiceImpl(client), "test-db", "people", dir.resolve("people.snapshot"))
+                .pageSize(2)
+                .build();
+
+        assertEquals(6, snapshot.load());
+        assertEquals(Set.of("a", "b", "c", "d", "e"), snapshot.documentIds());
+        assertEquals(t2, snapshot.get("b").getUpdatedAt());
+        assertEquals(t2, snapshot.getWatermark());
+        assertTrue(
+                collection.requests().stream().flatMap(List::stream).noneMatch(query -> query.contains("cursorAfter")));
+
+        collection.put("f", t2, t2);
+        assertEquals(1, snapshot.refresh());
+        assertEquals(6, snapshot.size());
+    }
+
+    @Test
+    void unusableFileFallsBackToFullScan() throws Exception {
+        Path file = dir.resolve("people.snapshot");
+        Files.write(file, new byte[] {1, 2, 3});
+        mockWebServer.enqueue(list(document("a", "Ann", "2024-01-01T10:00:00.000+00:00")));
+        CollectionSnapshot snapshot = snapshot(file);
+        assertEquals(1, snapshot.load());
+        assertEquals(1, snapshot.size());
+        snapshot.save();
+
+        mockWebServer.enqueue(list(document("x", "Xi", "2024-01-01T10:00:00.000+00:00")));
+        CollectionSnapshot other = CollectionSnapshot.builder(new DatabaseServiceImpl(client), "test-db", "pets", file)
+                .build();
+        assertEquals(1, other.load());
+        assertEquals(List.of("x"), List.copyOf(other.documentIds()));
+    }
+
+    @Test
+    void failedRefreshKeepsWhatWasLoaded() throws Exception {
+        Path file = dir.resolve("people.snapshot");
+        mockWebServer.enqueue(list(document("a", "Ann", "2024-01-01T10:00:00.000+00:00")));
+        CollectionSnapshot snapshot = snapshot(file);
+        snapshot.load();
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        assertThrows(ServerException.class, snapshot::refresh);
+        assertEquals(1, snapshot.size());
+        assertTrue(snapshot.remove("a"));
+        assertEquals(0, snapshot.size());
+    }
+
+    private static String document(String id, String name, String updatedAt) {
+        return "{\"$id\":\"" + id + "\",\"$createdAt\":\"2024-01-01T00:00:00.000+00:00\",\"$updatedAt\":\""
+                + updatedAt + "\",\"$collectionId\":\"people\",\"$databaseId\":\"test-db\",\"$permissions\":[],"
+                + "\"data\":{\"name\":\"" + name + "\"}}";
+    }
+
+    private static MockResponse list(String... documents) {
+        return new MockResponse()
+                .setResponseCode(200)
+                .setBody("[" + String.join(",", documents) + "]")
+                .addHeader("Content-Type", "application/json");
+    }
+}